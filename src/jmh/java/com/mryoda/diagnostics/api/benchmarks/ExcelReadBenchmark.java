@@ -0,0 +1,102 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.mryoda.diagnostics.api.utils.ExcelUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExcelUtil reading a test-data sheet (TestCase column plus 7 data columns).
+ *
+ * <ul>
+ *   <li>getAllData - rows of an already opened workbook, as getTestData() does per lookup</li>
+ *   <li>openAndGetAllData - open the .xlsx, read all rows, close</li>
+ * </ul>
+ * The workbook is written to a temp file at setup, so no fixture binary is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcelReadBenchmark {
+
+    private static final String SHEET = "TestData";
+    private static final String[] HEADERS = {
+            "TestCase", "Mobile", "Location", "Brand", "TestName", "OrderType", "PostalCode", "Expected"
+    };
+
+    @Param({"200"})
+    public int rows;
+
+    private Path file;
+    private ExcelUtil excel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("excel-benchmark-", ".xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("TC_" + r);
+                row.createCell(1).setCellValue(9000000000L + r);
+                row.createCell(2).setCellValue(r % 2 == 0 ? "Madhapur" : "Kukatpally");
+                row.createCell(3).setCellValue("Diagnostics");
+                row.createCell(4).setCellValue("Blood Coagulation");
+                row.createCell(5).setCellValue("home");
+                row.createCell(6).setCellValue(500033);
+                row.createCell(7).setCellValue(r % 10 != 0);
+            }
+            workbook.write(out);
+        }
+        excel = new ExcelUtil(file.toString(), SHEET);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        excel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getAllData() {
+        return excel.getAllData();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> openAndGetAllData() {
+        ExcelUtil opened = new ExcelUtil(file.toString(), SHEET);
+        try {
+            return opened.getAllData();
+        } finally {
+            opened.close();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Recorded API responses (src/jmh/resources/fixtures) so benchmarks never touch the network.
+ */
+final class Fixtures {
+
+    /** tests/adminTests - 40 tests with the full field set GlobalSearchHelper reads */
+    static final String GLOBAL_SEARCH = "fixtures/global-search-response.json";
+
+    /** carts/v2/getCartById - 20 cart items */
+    static final String CART = "fixtures/cart-response.json";
+
+    private Fixtures() {
+        // Utility class
+    }
+
+    static String json(String resource) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("❌ Fixture not found on classpath: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read fixture " + resource, e);
+        }
+    }
+
+    /**
+     * A fresh RestAssured response with the fixture as body, as RequestBuilder would return it
+     */
+    static Response response(String json) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(json)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mryoda.diagnostics.api.payloads.APIPayloads;
+import com.mryoda.diagnostics.api.payloads.VerifyPaymentPayload;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request bodies of one booking (login, add to cart, address, slot update, create
+ * order, verify payment) built with APIPayloads and serialized with Jackson, as
+ * RestAssured does when RequestBuilder sends a Map or POJO body.
+ *
+ * <ul>
+ *   <li>build - payload maps / POJO only</li>
+ *   <li>serialize - pre-built payloads to JSON bytes</li>
+ *   <li>buildAndSerialize - both, i.e. the framework cost per booking</li>
+ * </ul>
+ * Product ids come from the recorded global search fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String USER_ID = "6f1d2c7a-93b4-4e0a-b8f1-2d5c9e7a4b31";
+    private static final String BRAND_ID = "0a3c5e7f-1b2d-4f6a-8c9e-b1d3f5a7c9e2";
+    private static final String LOCATION_ID = "64f1c2a9e7b3d5f8a1c4e6b2";
+
+    /** Tests in the cart */
+    @Param({"5"})
+    public int cartSize;
+
+    private List<String> productIds;
+    private List<Object> prebuilt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        productIds = new ArrayList<>();
+        for (ParsedResponse test : ParsedResponse.parse(Fixtures.json(Fixtures.GLOBAL_SEARCH)).elements("data")) {
+            if (productIds.size() < cartSize) {
+                productIds.add(test.getString("_id"));
+            }
+        }
+        prebuilt = bookingPayloads();
+    }
+
+    private List<Object> bookingPayloads() {
+        List<Object> payloads = new ArrayList<>(6);
+
+        Map<String, Object> login = APIPayloads.createLoginPayload("9003730394");
+        login.put("country_code", "+91");
+        payloads.add(login);
+
+        List<Map<String, Object>> products = new ArrayList<>(productIds.size());
+        for (String productId : productIds) {
+            Map<String, Object> product = new HashMap<>();
+            product.put("product_id", productId);
+            product.put("quantity", 1);
+            product.put("brand_id", BRAND_ID);
+            product.put("family_member_id", Collections.singletonList(USER_ID));
+            product.put("location_id", LOCATION_ID);
+            products.add(product);
+        }
+        Map<String, Object> cart = new HashMap<>();
+        cart.put("user_id", USER_ID);
+        cart.put("lab_location_id", LOCATION_ID);
+        cart.put("product_details", products);
+        payloads.add(cart);
+
+        payloads.add(APIPayloads.createAddressPayload(USER_ID, "Plot 12, Road 3", "Madhapur", "Hyderabad",
+                "Telangana", "500033", "17.4483", "78.3915"));
+        payloads.add(APIPayloads.createSlotUpdatePayload(USER_ID, "b7e4a1c2-5d3f-4a8b-9c6e-1f2a3b4c5d6e", "cart_1"));
+        payloads.add(APIPayloads.createOrderPayload(USER_ID, 2599));
+        payloads.add(VerifyPaymentPayload.builder()
+                .orderCreationId("order_PXk2Jd8f3Lq1Zt")
+                .razorpayOrderId("order_PXk2Jd8f3Lq1Zt")
+                .razorpayPaymentId("pay_PXk3Aa9Qw2Er7y")
+                .razorpaySignature("4f9c2b7d1e8a3c5f6b0d2e4a7c9f1b3d5e7a9c2b4d6f8a0c1e3b5d7f9a2c4e6b")
+                .mobile(9003730394L)
+                .userId(USER_ID)
+                .build());
+        return payloads;
+    }
+
+    @Benchmark
+    public List<Object> build() {
+        return bookingPayloads();
+    }
+
+    @Benchmark
+    public void serialize(Blackhole bh) throws JsonProcessingException {
+        for (Object payload : prebuilt) {
+            bh.consume(MAPPER.writeValueAsBytes(payload));
+        }
+    }
+
+    @Benchmark
+    public void buildAndSerialize(Blackhole bh) throws JsonProcessingException {
+        for (Object payload : bookingPayloads()) {
+            bh.consume(MAPPER.writeValueAsBytes(payload));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.mryoda.diagnostics.api.utils.RazorpayPaymentVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC-SHA256 Razorpay signature of order_id|payment_id, computed by every
+ * VerifyPayment call (secret lookup, Mac setup and hex encoding included).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentSignatureBenchmark {
+
+    private static final String ORDER_ID = "order_PXk2Jd8f3Lq1Zt";
+    private static final String PAYMENT_ID = "pay_PXk3Aa9Qw2Er7y";
+
+    @Benchmark
+    public String generatePaymentSignature() {
+        return RazorpayPaymentVerifier.generatePaymentSignature(ORDER_ID, PAYMENT_ID);
+    }
+}
@@ -0,0 +1,58 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.payloads.APIPayloads;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side cost of a request before anything is sent: RequestBuilder setters plus
+ * prepare() (pooled client config, wire-log filter, headers, body, query/path params),
+ * reached through the public newRequest() alias. Nothing is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSpecBenchmark {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.benchmark.token";
+    private static final String USER_ID = "6f1d2c7a-93b4-4e0a-b8f1-2d5c9e7a4b31";
+
+    /** GetCartById: auth header, path param, two query params */
+    @Benchmark
+    public RequestSpecification getWithParams() {
+        return new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_CART_BY_ID)
+                .addPathParam("user_id", USER_ID)
+                .addHeader("Authorization", TOKEN)
+                .addQueryParam("order_type", "home")
+                .addQueryParam("location", "64f1c2a9e7b3d5f8a1c4e6b2")
+                .expectStatus(200)
+                .newRequest();
+    }
+
+    /** CreateOrder: auth header and a map body */
+    @Benchmark
+    public RequestSpecification postWithBody() {
+        return new RequestBuilder()
+                .setEndpoint(APIEndpoints.CREATE_ORDER)
+                .addHeader("Authorization", TOKEN)
+                .setRequestBody(APIPayloads.createOrderPayload(USER_ID, 2599))
+                .expectStatus(200)
+                .newRequest();
+    }
+}
@@ -0,0 +1,98 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading every cart item's fields from a recorded GetCartById response, the way
+ * GetCartByIdAPITest validates them (test_name, product_id, price, quantity,
+ * brand_id, location_id per item).
+ *
+ * <ul>
+ *   <li>jsonPathPerField - response.jsonPath() per field, so the body is re-parsed every time</li>
+ *   <li>jsonPathOnce - one JsonPath per response, Groovy path evaluation per field</li>
+ *   <li>parsedResponse - ParsedResponse view: one Jackson parse, element views per item</li>
+ * </ul>
+ * Each invocation gets a fresh Response, as each test call does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseExtractionBenchmark {
+
+    private static final String ITEMS = "data.cart_items";
+
+    private String json;
+    private int items;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void loadFixture() {
+        json = Fixtures.json(Fixtures.CART);
+        items = ParsedResponse.parse(json).getList(ITEMS).size();
+    }
+
+    @Setup(Level.Invocation)
+    public void freshResponse() {
+        response = Fixtures.response(json);
+    }
+
+    @Benchmark
+    public void jsonPathPerField(Blackhole bh) {
+        for (int i = 0; i < items; i++) {
+            String item = ITEMS + "[" + i + "].";
+            bh.consume(response.jsonPath().getString(item + "test_name"));
+            bh.consume(response.jsonPath().getString(item + "product_id"));
+            bh.consume(response.jsonPath().getInt(item + "price"));
+            bh.consume(response.jsonPath().getInt(item + "quantity"));
+            bh.consume(response.jsonPath().getString(item + "brand_id"));
+            bh.consume(response.jsonPath().getString(item + "location_id"));
+        }
+    }
+
+    @Benchmark
+    public void jsonPathOnce(Blackhole bh) {
+        JsonPath body = response.jsonPath();
+        for (int i = 0; i < items; i++) {
+            String item = ITEMS + "[" + i + "].";
+            bh.consume(body.getString(item + "test_name"));
+            bh.consume(body.getString(item + "product_id"));
+            bh.consume(body.getInt(item + "price"));
+            bh.consume(body.getInt(item + "quantity"));
+            bh.consume(body.getString(item + "brand_id"));
+            bh.consume(body.getString(item + "location_id"));
+        }
+    }
+
+    @Benchmark
+    public void parsedResponse(Blackhole bh) {
+        List<ParsedResponse> views = ParsedResponse.of(response).elements(ITEMS);
+        for (ParsedResponse item : views) {
+            bh.consume(item.getString("test_name"));
+            bh.consume(item.getString("product_id"));
+            bh.consume(item.getInt("price"));
+            bh.consume(item.getInt("quantity"));
+            bh.consume(item.getString("brand_id"));
+            bh.consume(item.getString("location_id"));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.mryoda.diagnostics.api.benchmarks;
+
+import com.mryoda.diagnostics.api.utils.CatalogIndex;
+import com.mryoda.diagnostics.api.utils.TestNameNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching one requested test name against a realistic catalog, the way
+ * GlobalSearchHelper does it.
+ *
+ * <ul>
+ *   <li>legacyRegex - per-candidate regex normalization and lower-casing (previous findMatches)</li>
+ *   <li>canonicalKey - TestNameNormalizer key per candidate, requested key computed once</li>
+ *   <li>precomputedKeys - candidate keys computed once up front (reused across searches)</li>
+ *   <li>catalogIndex - CatalogIndex hash/trigram lookup</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestNameMatchingBenchmark {
+
+    private static final String[] PANELS = {
+            "Complete Blood Count", "Lipid Profile", "Liver Function Test", "Kidney Function Test",
+            "Thyroid Profile", "Bone Profile", "Vitamin D 25-Hydroxy", "HbA1c", "Iron Studies",
+            "Blood Coagulation", "Electrolytes", "Urine Routine", "Fever Panel", "Hormone Panel"
+    };
+    private static final String[] QUALIFIERS = {
+            "", "Basic", "Advanced", "Comprehensive", "Mini", "Plus", "Extended", "Screening"
+    };
+    private static final String[] SUFFIXES = {
+            "", " -1", " - 2", "-3", " (Serum)", " (EDTA)", "  Test", " Package"
+    };
+
+    @Param({"5000"})
+    public int catalogSize;
+
+    private List<Map<String, Object>> catalog;
+    private String[] catalogNames;
+    private String[] catalogKeys;
+    private CatalogIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>(catalogSize);
+        catalogNames = new String[catalogSize];
+        catalogKeys = new String[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            String name = (QUALIFIERS[random.nextInt(QUALIFIERS.length)] + " "
+                    + PANELS[random.nextInt(PANELS.length)] + SUFFIXES[random.nextInt(SUFFIXES.length)]
+                    + " " + (i / 40)).trim();
+            if (random.nextInt(4) == 0) {
+                name = name.toUpperCase();
+            }
+            Map<String, Object> test = new HashMap<>();
+            test.put("_id", "id" + i);
+            test.put("test_name", name);
+            test.put("slug", TestNameNormalizer.canonicalKey(name).replace(' ', '-'));
+            catalog.add(test);
+            catalogNames[i] = name;
+            catalogKeys[i] = TestNameNormalizer.canonicalKey(name);
+        }
+        index = CatalogIndex.of("benchmark", catalog);
+
+        // Mix of exact hits (different spacing/case/dashes), partial hits and misses
+        queries = new String[] {
+                catalogNames[17].toLowerCase().replace(" ", "  "),
+                catalogNames[catalogSize / 2].replace("-", " - "),
+                catalogNames[catalogSize - 1],
+                "Bone Profile -1",
+                "Thyroid",
+                "Not In Catalog 999"
+        };
+    }
+
+    private String nextQuery() {
+        String query = queries[next];
+        next = (next + 1) % queries.length;
+        return query;
+    }
+
+    @Benchmark
+    public int legacyRegex() {
+        String testName = nextQuery();
+        String normalizedOriginal = testName.trim().replaceAll("\\s+", " ");
+        String originalNoDash = normalizedOriginal.replaceAll("\\s*-\\s*", " ");
+        int matches = 0;
+        for (String candidate : catalogNames) {
+            String normalizedResponse = candidate.trim().replaceAll("\\s+", " ");
+            String responseNoDash = normalizedResponse.replaceAll("\\s*-\\s*", " ");
+            if (normalizedResponse.equalsIgnoreCase(normalizedOriginal)
+                    || responseNoDash.equalsIgnoreCase(originalNoDash)) {
+                matches++;
+            } else if (normalizedResponse.toLowerCase().contains(normalizedOriginal.toLowerCase())
+                    || normalizedOriginal.toLowerCase().contains(normalizedResponse.toLowerCase())) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int canonicalKey() {
+        String requestedKey = TestNameNormalizer.canonicalKey(nextQuery());
+        int matches = 0;
+        for (String candidate : catalogNames) {
+            String key = TestNameNormalizer.canonicalKey(candidate);
+            if (TestNameNormalizer.keysMatch(key, requestedKey) || TestNameNormalizer.keysOverlap(key, requestedKey)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int precomputedKeys() {
+        String requestedKey = TestNameNormalizer.canonicalKey(nextQuery());
+        int matches = 0;
+        for (String key : catalogKeys) {
+            if (TestNameNormalizer.keysMatch(key, requestedKey) || TestNameNormalizer.keysOverlap(key, requestedKey)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int catalogIndex() {
+        return index.lookup(nextQuery()).size();
+    }
+}
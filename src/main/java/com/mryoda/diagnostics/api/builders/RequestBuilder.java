@@ -1,11 +1,24 @@
 package com.mryoda.diagnostics.api.builders;
 
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
+import com.mryoda.diagnostics.api.http.BaseUrlOverride;
+import com.mryoda.diagnostics.api.http.HttpClientPool;
+import com.mryoda.diagnostics.api.http.RecordingFilter;
+import com.mryoda.diagnostics.api.http.Retrier;
+import com.mryoda.diagnostics.api.http.RetryPolicy;
+import com.mryoda.diagnostics.api.http.WireLogBuffer;
+import com.mryoda.diagnostics.api.http.WireLogFilter;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+import com.mryoda.diagnostics.api.metrics.ScheduleLag;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import com.mryoda.diagnostics.api.utils.TokenCache;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Fully updated RequestBuilder.
@@ -13,6 +26,16 @@ import java.util.Map;
  * - Backward compatible (newRequest(), given())
  * - Centralized handling of headers, query params, body
  * - Optional expectedStatus assertion
+ * - *Parsed() variants return a parse-once {@link ParsedResponse} view
+ * - Connections pooled and kept alive across instances (see {@link HttpClientPool})
+ * - *Async() variants run on a bounded executor and return CompletableFuture
+ * - Wire logging controlled by http.log.mode (see {@link WireLogFilter})
+ * - Every call timed into a per-endpoint-template histogram (see {@link LatencyRegistry});
+ *   pass ids with addPathParam() so "{user_id}" stays in the template
+ * - Exchanges recorded as stand-in fixtures when http.record.dir is set (see {@link RecordingFilter}),
+ *   and sent to the local stand-in while one serves the run (see {@link BaseUrlOverride})
+ * - Transient failures retried per endpoint with jittered backoff under a global budget
+ *   (see {@link RetryPolicy}); non-idempotent calls like CREATE_ORDER only when provably unprocessed
  */
 public class RequestBuilder {
 
@@ -20,7 +43,9 @@ public class RequestBuilder {
     private Object body;
     private final Map<String, String> headers = new HashMap<>();
     private final Map<String, Object> queryParams = new HashMap<>();
+    private final Map<String, Object> pathParams = new HashMap<>();
     private Integer expectedStatus = null;
+    private long timeoutMs = 0;
     private final Map<String, Object> bodyParams = new HashMap<>();
 
     public RequestBuilder() {}
@@ -78,11 +103,29 @@ public class RequestBuilder {
         return this;
     }
 
+    /**
+     * Value for a "{name}" placeholder of the endpoint, e.g. addPathParam("user_id", id)
+     * with APIEndpoints.GET_CART_BY_ID
+     */
+    public RequestBuilder addPathParam(String name, Object value) {
+        this.pathParams.put(name, value);
+        return this;
+    }
+
     public RequestBuilder expectStatus(int status) {
         this.expectedStatus = status;
         return this;
     }
 
+    /**
+     * Per-request timeout (connect + read, and overall for each attempt of *Async() calls).
+     * Defaults to api.timeout when not set.
+     */
+    public RequestBuilder setTimeout(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
     // -----------------------------
     // BACKWARD COMPATIBLE HELPERS
     // -----------------------------
@@ -104,9 +147,25 @@ public class RequestBuilder {
     // INTERNAL PREPARATION
     // -----------------------------
     private RequestSpecification prepare() {
+        // Pooled client already trusts all certificates - relaxedHTTPSValidation()
+        // would install a fresh SSLContext per request and defeat TLS session reuse
         RequestSpecification req = RestAssured.given()
-                .relaxedHTTPSValidation()
-                .log().all();  // 🔍 DEBUG: Log all request details
+                .config(HttpClientPool.getInstance().restAssuredConfig(timeoutMs));
+
+        String baseUrl = BaseUrlOverride.get();
+        if (baseUrl != null) {
+            req.baseUri(baseUrl);
+        }
+
+        WireLogFilter wireLog = WireLogFilter.fromConfig();
+        if (wireLog != null) {
+            req.filter(wireLog);
+        }
+
+        RecordingFilter recording = RecordingFilter.fromConfig();
+        if (recording != null) {
+            req.filter(recording);
+        }
 
         if (!headers.isEmpty()) {
             req.headers(headers);
@@ -126,6 +185,10 @@ public class RequestBuilder {
             req.queryParams(queryParams);
         }
 
+        if (!pathParams.isEmpty()) {
+            req.pathParams(pathParams);
+        }
+
         return req;
     }
 
@@ -133,7 +196,7 @@ public class RequestBuilder {
     // HTTP VERBS
     // -----------------------------
     public Response post() {
-        Response r = prepare().when().post(endpoint).then().extract().response();
+        Response r = call("POST");
         assertExpectedStatus(r);
         return r;
     }
@@ -142,32 +205,155 @@ public class RequestBuilder {
      * POST without automatic status check - useful when handling multiple valid status codes
      */
     public Response postWithoutStatusCheck() {
-        return prepare().when().post(endpoint).then().extract().response();
+        return call("POST");
     }
 
     public Response get() {
-        Response r = prepare().when().get(endpoint).then().extract().response();
+        Response r = call("GET");
         assertExpectedStatus(r);
         return r;
     }
 
     public Response put() {
-        Response r = prepare().when().put(endpoint).then().extract().response();
+        Response r = call("PUT");
         assertExpectedStatus(r);
         return r;
     }
 
     public Response delete() {
-        Response r = prepare().when().delete(endpoint).then().extract().response();
+        Response r = call("DELETE");
         assertExpectedStatus(r);
         return r;
     }
 
+    /**
+     * Blocking call: first attempt on this thread, retries (if any) scheduled by {@link Retrier}
+     */
+    private Response call(String method) {
+        RequestSpecification spec = prepare();
+        String target = endpoint;
+        String auth = headers.get("Authorization");
+        long intended = System.nanoTime() - ScheduleLag.currentNanos();
+        CompletableFuture<Response> first = Retrier.now(() -> send(method, spec, target, auth, intended));
+        return AsyncRequestExecutor.join(withRetry(method, spec, target, auth, first, timeoutMs));
+    }
+
+    /**
+     * Retries send the same prepared spec again; their latency is recorded per attempt
+     */
+    private static CompletableFuture<Response> withRetry(String method, RequestSpecification spec, String endpoint,
+                                                         String auth, CompletableFuture<Response> first,
+                                                         long timeoutMs) {
+        return Retrier.execute(RetryPolicy.forRequest(method, endpoint), method + " " + endpoint, first,
+                () -> send(method, spec, endpoint, auth, System.nanoTime()), timeoutMs);
+    }
+
+    /**
+     * Send and time the request; the template (not the substituted URL) keys the histogram.
+     * intendedNanos is when the request should have gone out - earlier than now when a load
+     * schedule is running late or an async call waited for an executor thread.
+     * A 401 drops the cached login that holds the rejected token (see {@link TokenCache}).
+     */
+    private static Response send(String method, RequestSpecification spec, String endpoint, String auth,
+                                 long intendedNanos) {
+        LatencyRegistry latencies = LatencyRegistry.getInstance();
+        long start = System.nanoTime();
+        Response r;
+        try {
+            r = released(spec.when().request(method, BaseUrlOverride.apply(endpoint)));
+        } catch (Exception e) {
+            // Also catches the checked IOExceptions RestAssured throws undeclared (connection refused)
+            latencies.recordFailure(method, endpoint);
+            throw e;
+        }
+        long end = System.nanoTime();
+        latencies.record(method, endpoint, end - start, Math.max(0, start - intendedNanos));
+        if (r.getStatusCode() >= 500) {
+            latencies.recordError(method, endpoint);
+        }
+        if (r.getStatusCode() == 401 && auth != null) {
+            TokenCache.getInstance().invalidate(auth);
+        }
+        return r;
+    }
+
+    /**
+     * Read the body right away: the pooled connection is only returned once the
+     * body is consumed, so a caller that checks just the status (or an async probe
+     * whose result is dropped) would otherwise hold its connection forever
+     */
+    private static Response released(Response raw) {
+        Response r = raw.then().extract().response();
+        r.asByteArray();
+        return r;
+    }
+
+    // -----------------------------
+    // ASYNC VARIANTS
+    // -----------------------------
+    // The request is prepared on the calling thread, so the builder may be
+    // reused once the call returns; only sending happens on the executor.
+    public CompletableFuture<Response> postAsync() {
+        return async("POST");
+    }
+
+    public CompletableFuture<Response> getAsync() {
+        return async("GET");
+    }
+
+    public CompletableFuture<Response> putAsync() {
+        return async("PUT");
+    }
+
+    public CompletableFuture<Response> deleteAsync() {
+        return async("DELETE");
+    }
+
+    private CompletableFuture<Response> async(String method) {
+        RequestSpecification spec = prepare();
+        String target = endpoint;
+        Integer expected = expectedStatus;
+        String auth = headers.get("Authorization");
+        long intended = System.nanoTime() - ScheduleLag.currentNanos();
+        long timeout = timeoutMs;
+        CompletableFuture<Response> first = AsyncRequestExecutor.submit(
+                () -> send(method, spec, target, auth, intended), timeout, target);
+        // Status checked once retries are over, flushing into the caller's wire log buffer
+        return withRetry(method, spec, target, auth, first, timeout).thenApply(WireLogBuffer.propagate(r -> {
+            assertExpectedStatus(r, expected, target);
+            return r;
+        }));
+    }
+
+    // -----------------------------
+    // PARSED VARIANTS (body parsed exactly once)
+    // -----------------------------
+    public ParsedResponse postParsed() {
+        return ParsedResponse.of(post());
+    }
+
+    public ParsedResponse getParsed() {
+        return ParsedResponse.of(get());
+    }
+
+    public ParsedResponse putParsed() {
+        return ParsedResponse.of(put());
+    }
+
+    public ParsedResponse deleteParsed() {
+        return ParsedResponse.of(delete());
+    }
+
     // -----------------------------
     // ASSERT STATUS
     // -----------------------------
     private void assertExpectedStatus(Response r) {
+        assertExpectedStatus(r, expectedStatus, endpoint);
+    }
+
+    private static void assertExpectedStatus(Response r, Integer expectedStatus, String endpoint) {
         if (expectedStatus != null && r.getStatusCode() != expectedStatus) {
+            WireLogBuffer.flush("Expected HTTP " + expectedStatus + " but got " + r.getStatusCode() + " | " + endpoint);
             throw new AssertionError(
                     "Expected HTTP " + expectedStatus +
                     " but got " + r.getStatusCode() +
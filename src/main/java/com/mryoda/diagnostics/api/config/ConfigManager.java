@@ -1,18 +1,51 @@
 package com.mryoda.diagnostics.api.config;
 
 import org.aeonbits.owner.Config;
+import org.aeonbits.owner.Config.LoadPolicy;
+import org.aeonbits.owner.Config.LoadType;
 import org.aeonbits.owner.Config.Sources;
 
 /**
  * Configuration Manager using Owner Framework Reads configuration from
- * config.properties file
+ * config.properties file (JVM system properties override, e.g. -Dexecution.mode=virtual)
  */
-@Config.Sources({ "classpath:config.properties" })
+@LoadPolicy(LoadType.MERGE)
+@Config.Sources({ "system:properties", "classpath:config.properties" })
 public interface ConfigManager extends Config {
 
 	@Key("base.url")
 	String baseUrl();
 
+	/** Connect and read timeout (ms) for all HTTP calls */
+	@Key("api.timeout")
+	@DefaultValue("30000")
+	int apiTimeout();
+
+	/** Retries of a transient failure per request (default of max.retries in retry.file) */
+	@Key("retry.count")
+	@DefaultValue("3")
+	int retryCount();
+
+	/** Retry transient failures in RequestBuilder */
+	@Key("retry.enabled")
+	@DefaultValue("true")
+	boolean retryEnabled();
+
+	/** Classpath properties file of per-endpoint retry policies */
+	@Key("retry.file")
+	@DefaultValue("retry.properties")
+	String retryFile();
+
+	/** Retries allowed as a percentage of requests, across all endpoints */
+	@Key("retry.budget.percent")
+	@DefaultValue("20")
+	double retryBudgetPercent();
+
+	/** Retries per second always allowed, whatever the budget */
+	@Key("retry.budget.min.per.second")
+	@DefaultValue("5")
+	int retryBudgetMinPerSecond();
+
 	@Key("environment")
 	String environment();
 
@@ -38,6 +71,311 @@ public interface ConfigManager extends Config {
 	@DefaultValue("true")
 	boolean enableLogging();
 
+	/** Wire logging: off, headers, failures (buffered, emitted on assertion failure) or full */
+	@Key("http.log.mode")
+	@DefaultValue("failures")
+	String httpLogMode();
+
+	/** Captured request/response bodies are truncated to this many characters */
+	@Key("http.log.max.body")
+	@DefaultValue("4096")
+	int httpLogMaxBody();
+
+	/** Number of recent exchanges kept per thread in failures mode */
+	@Key("http.log.buffer.size")
+	@DefaultValue("20")
+	int httpLogBufferSize();
+
+	/** Shared HTTP connection pool (see HttpClientPool) */
+	@Key("http.pool.max.total")
+	@DefaultValue("50")
+	int httpPoolMaxTotal();
+
+	@Key("http.pool.max.per.route")
+	@DefaultValue("20")
+	int httpPoolMaxPerRoute();
+
+	/** Per-host overrides: host=max[,host=max] */
+	@Key("http.pool.routes")
+	@DefaultValue("")
+	String httpPoolRoutes();
+
+	@Key("http.pool.keepalive.ms")
+	@DefaultValue("30000")
+	long httpPoolKeepAliveMs();
+
+	/** Worker threads / queue size for RequestBuilder *Async() calls */
+	@Key("http.async.threads")
+	@DefaultValue("8")
+	int httpAsyncThreads();
+
+	@Key("http.async.queue")
+	@DefaultValue("100")
+	int httpAsyncQueue();
+
+	/** platform (default) or virtual - virtual threads need Java 21 (-Pjava21) */
+	@Key("execution.mode")
+	@DefaultValue("platform")
+	String executionMode();
+
+	/** Login cache (see TokenCache) */
+	@Key("token.cache.enabled")
+	@DefaultValue("true")
+	boolean tokenCacheEnabled();
+
+	/** A lookup this close to token expiry logs in again (no background refresh) */
+	@Key("token.cache.refresh.ahead.seconds")
+	@DefaultValue("120")
+	long tokenCacheRefreshAheadSeconds();
+
+	/** Lifetime assumed for tokens without a JWT exp claim */
+	@Key("token.cache.default.ttl.seconds")
+	@DefaultValue("1800")
+	long tokenCacheDefaultTtlSeconds();
+
+	@Key("token.cache.persist")
+	@DefaultValue("false")
+	boolean tokenCachePersist();
+
+	@Key("token.cache.file")
+	@DefaultValue("test-output/.token-cache")
+	String tokenCacheFile();
+
+	/** Encryption secret for token.cache.file (falls back to TOKEN_CACHE_SECRET env) */
+	@Key("token.cache.secret")
+	@DefaultValue("")
+	String tokenCacheSecret();
+
+	/** Concurrent login of all user types before the suite (see SessionBootstrapper) */
+	@Key("session.bootstrap.enabled")
+	@DefaultValue("true")
+	boolean sessionBootstrapEnabled();
+
+	@Key("session.bootstrap.user.types")
+	@DefaultValue("MEMBER,NON_MEMBER")
+	String sessionBootstrapUserTypes();
+
+	/** Test names searched concurrently by GlobalSearchHelper.searchTestsByFullNames */
+	@Key("search.parallelism")
+	@DefaultValue("4")
+	int searchParallelism();
+
+	/** Resolve test names from a per-location catalog index before calling the search API */
+	@Key("catalog.index.enabled")
+	@DefaultValue("true")
+	boolean catalogIndexEnabled();
+
+	@Key("catalog.index.page.size")
+	@DefaultValue("100")
+	int catalogIndexPageSize();
+
+	@Key("catalog.index.max.pages")
+	@DefaultValue("50")
+	int catalogIndexMaxPages();
+
+	/** Days probed concurrently by SlotFinder, starting today */
+	@Key("slot.search.days")
+	@DefaultValue("7")
+	int slotSearchDays();
+
+	/** Slot availability shared across sessions (see SlotCache) */
+	@Key("slot.cache.enabled")
+	@DefaultValue("true")
+	boolean slotCacheEnabled();
+
+	@Key("slot.cache.ttl.seconds")
+	@DefaultValue("30")
+	int slotCacheTtlSeconds();
+
+	@Key("slot.cache.max.entries")
+	@DefaultValue("256")
+	int slotCacheMaxEntries();
+
+	/** Locations / brands loaded once per run (see ReferenceDataCache) */
+	@Key("reference.cache.enabled")
+	@DefaultValue("true")
+	boolean referenceCacheEnabled();
+
+	@Key("reference.cache.persist")
+	@DefaultValue("false")
+	boolean referenceCachePersist();
+
+	@Key("reference.cache.dir")
+	@DefaultValue("test-output/.reference-cache")
+	String referenceCacheDir();
+
+	@Key("reference.cache.ttl.minutes")
+	@DefaultValue("60")
+	int referenceCacheTtlMinutes();
+
+	/** Concurrent steps of a FlowEngine run (see flow.FlowGraph) */
+	@Key("flow.parallelism")
+	@DefaultValue("8")
+	int flowParallelism();
+
+	/** Load runner (see load.LoadRunner): closed = fixed users, open = arrival rate */
+	@Key("load.model")
+	@DefaultValue("closed")
+	String loadModel();
+
+	/** More users than load.user.mobiles accounts only with load.allow.shared.accounts */
+	@Key("load.users")
+	@DefaultValue("2")
+	int loadUsers();
+
+	@Key("load.arrival.rate")
+	@DefaultValue("1")
+	double loadArrivalRate();
+
+	@Key("load.ramp.up.seconds")
+	@DefaultValue("30")
+	int loadRampUpSeconds();
+
+	@Key("load.steady.seconds")
+	@DefaultValue("120")
+	int loadSteadySeconds();
+
+	@Key("load.think.time.ms")
+	@DefaultValue("0")
+	long loadThinkTimeMs();
+
+	/** CLOSED only: interval between intended journey starts of one virtual user; 0 = back to back */
+	@Key("load.pacing.ms")
+	@DefaultValue("0")
+	long loadPacingMs();
+
+	/** Required unless the in-process stand-in serves the run; a load run never defaults to base.url */
+	@Key("load.base.url")
+	@DefaultValue("")
+	String loadBaseUrl();
+
+	/** Comma separated test accounts; blank = member + non-member mobiles */
+	@Key("load.user.mobiles")
+	@DefaultValue("")
+	String loadUserMobiles();
+
+	/** Let virtual users share accounts on an external target that keeps no state (a stand-in) */
+	@Key("load.allow.shared.accounts")
+	@DefaultValue("false")
+	boolean loadAllowSharedAccounts();
+
+	@Key("load.location")
+	@DefaultValue("Madhapur")
+	String loadLocation();
+
+	@Key("load.brand")
+	@DefaultValue("Diagnostics")
+	String loadBrand();
+
+	@Key("load.search.terms")
+	@DefaultValue("Blood Coagulation")
+	String loadSearchTerms();
+
+	@Key("load.verify.payment")
+	@DefaultValue("true")
+	boolean loadVerifyPayment();
+
+	/** Check the recorded endpoint latencies against slo.file at suite end */
+	@Key("slo.enabled")
+	@DefaultValue("true")
+	boolean sloEnabled();
+
+	/** Classpath properties file of per-endpoint budgets, e.g. CREATE_ORDER.p99=800 */
+	@Key("slo.file")
+	@DefaultValue("slo.properties")
+	String sloFile();
+
+	/** Endpoints called fewer times are reported as "too few samples", never as breached */
+	@Key("slo.min.samples")
+	@DefaultValue("20")
+	int sloMinSamples();
+
+	/** Archive each run's endpoint histograms for later comparison */
+	@Key("latency.history.enabled")
+	@DefaultValue("true")
+	boolean latencyHistoryEnabled();
+
+	@Key("latency.history.dir")
+	@DefaultValue("test-output/latency-history")
+	String latencyHistoryDir();
+
+	/** Number of archived runs kept; older ones are deleted */
+	@Key("latency.history.keep")
+	@DefaultValue("50")
+	int latencyHistoryKeep();
+
+	/** Run compared against at the end of a run: blank = none, "previous" or a run id (prefix) */
+	@Key("latency.baseline")
+	@DefaultValue("")
+	String latencyBaseline();
+
+	/** Significance level of the regression tests */
+	@Key("latency.regression.alpha")
+	@DefaultValue("0.01")
+	double latencyRegressionAlpha();
+
+	/** Minimum growth of p50 or p90 (percent) before a significant difference counts */
+	@Key("latency.regression.min.percent")
+	@DefaultValue("10")
+	double latencyRegressionMinPercent();
+
+	@Key("latency.regression.min.samples")
+	@DefaultValue("20")
+	int latencyRegressionMinSamples();
+
+	/** Directory to record request/response fixtures into; blank = not recording */
+	@Key("http.record.dir")
+	@DefaultValue("")
+	String httpRecordDir();
+
+	/** Distinct exchanges kept per endpoint fixture file (oldest dropped) */
+	@Key("http.record.max.per.endpoint")
+	@DefaultValue("20")
+	int httpRecordMaxPerEndpoint();
+
+	/** Start the local stand-in for the run and send every RequestBuilder call to it */
+	@Key("standin.enabled")
+	@DefaultValue("false")
+	boolean standinEnabled();
+
+	/** Port of the stand-in; 0 = any free port (in-process only) */
+	@Key("standin.port")
+	@DefaultValue("8089")
+	int standinPort();
+
+	@Key("standin.fixtures.dir")
+	@DefaultValue("src/test/resources/recordings")
+	String standinFixturesDir();
+
+	/** Fixed delay of every stand-in response */
+	@Key("standin.latency.ms")
+	@DefaultValue("0")
+	long standinLatencyMs();
+
+	/** Random extra delay of up to this many ms per response */
+	@Key("standin.latency.jitter.ms")
+	@DefaultValue("0")
+	long standinLatencyJitterMs();
+
+	/** Fault scenario of the stand-in (classpath standin/<name>.properties); blank = none */
+	@Key("standin.scenario")
+	@DefaultValue("")
+	String standinScenario();
+
+	/** Seed of the injected latencies and faults, so a scenario replays the same way */
+	@Key("standin.fault.seed")
+	@DefaultValue("42")
+	long standinFaultSeed();
+
+	/** How long an injected timeout holds the request before dropping the connection */
+	@Key("standin.fault.hang.ms")
+	@DefaultValue("60000")
+	long standinFaultHangMs();
+
+	@Key("standin.threads")
+	@DefaultValue("32")
+	int standinThreads();
+
 	@Key("razorpay.key")
 	String razorpayKey();
 
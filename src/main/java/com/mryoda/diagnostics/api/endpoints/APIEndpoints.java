@@ -109,5 +109,15 @@ public class APIEndpoints {
      */
     public static final String VERIFY_PAYMENT = "/gateway/v2/VerifyPayment";
     
-    
+    /**
+     * Value of the constant with this name, e.g. byName("CREATE_ORDER") - for config
+     * files that refer to endpoints by name (slo.properties, stand-in scenarios)
+     */
+    public static String byName(String name) {
+        try {
+            return (String) APIEndpoints.class.getField(name).get(null);
+        } catch (NoSuchFieldException | IllegalAccessException | ClassCastException e) {
+            throw new IllegalStateException("❌ '" + name + "' is not an APIEndpoints constant", e);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.mryoda.diagnostics.api.flow;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.http.WireLogBuffer;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import com.mryoda.diagnostics.api.utils.SessionContext;
+import com.mryoda.diagnostics.api.utils.TaskExecutors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs a {@link FlowGraph}: every step starts as soon as the steps producing its
+ * inputs have passed, so independent steps (and independent user pipelines) overlap
+ * instead of waiting for a global priority order.
+ *
+ * - a failed step never stops unrelated steps; its dependents are SKIPPED
+ * - steps run in the caller's SessionContext and share its wire-log buffer
+ * - concurrency is bounded by flow.parallelism (platform threads)
+ */
+public class FlowEngine {
+
+    private FlowEngine() {
+        // Utility class
+    }
+
+    public static FlowReport run(FlowGraph graph) {
+        return run(graph, ConfigLoader.getConfig().flowParallelism());
+    }
+
+    public static FlowReport run(FlowGraph graph, int parallelism) {
+        System.out.println("\n🧭 Running flow: " + graph.size() + " steps, parallelism " + parallelism);
+        ExecutorService executor = TaskExecutors.newExecutor("flow-", Math.min(Math.max(1, parallelism), graph.size()));
+        Map<String, FlowReport.StepResult> results = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        try {
+            Map<String, CompletableFuture<FlowReport.StepResult>> futures = new HashMap<>();
+            for (FlowStep step : graph.getSteps()) {
+                List<CompletableFuture<FlowReport.StepResult>> deps = new ArrayList<>();
+                for (FlowStep dep : graph.getDependencies(step)) {
+                    deps.add(futures.get(dep.getName()));
+                }
+                Supplier<FlowReport.StepResult> task = WireLogBuffer.propagate(SessionContext.propagate(
+                        () -> execute(step, deps, start)));
+                CompletableFuture<FlowReport.StepResult> future = CompletableFuture
+                        .allOf(deps.toArray(new CompletableFuture[0]))
+                        .thenApplyAsync(ignored -> task.get(), executor);
+                futures.put(step.getName(), future);
+            }
+            for (Map.Entry<String, CompletableFuture<FlowReport.StepResult>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().join());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        FlowReport report = new FlowReport(graph, results, elapsedMs(start));
+        LoggerUtil.info(report.toString());
+        return report;
+    }
+
+    /**
+     * Never throws - the outcome is part of the result so dependents can be skipped
+     */
+    private static FlowReport.StepResult execute(FlowStep step, List<CompletableFuture<FlowReport.StepResult>> deps,
+                                                 long runStart) {
+        for (CompletableFuture<FlowReport.StepResult> dep : deps) {
+            FlowReport.StepResult depResult = dep.join();
+            if (depResult.getStatus() != FlowReport.Status.PASSED) {
+                long now = elapsedMs(runStart);
+                System.out.println("⏭️  Skipping " + step.getName() + " (" + depResult.getName() + " "
+                        + depResult.getStatus() + ")");
+                return new FlowReport.StepResult(step, FlowReport.Status.SKIPPED, now, now, null);
+            }
+        }
+
+        long stepStart = elapsedMs(runStart);
+        System.out.println("▶️  " + step.getName() + " [" + step.getPipeline() + "] at +" + stepStart + "ms");
+        try {
+            step.execute();
+            return new FlowReport.StepResult(step, FlowReport.Status.PASSED, stepStart, elapsedMs(runStart), null);
+        } catch (Throwable t) {
+            long stepEnd = elapsedMs(runStart);
+            LoggerUtil.error("❌ Flow step " + step.getName() + " failed: " + t.getMessage());
+            return new FlowReport.StepResult(step, FlowReport.Status.FAILED, stepStart, stepEnd, t);
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mryoda.diagnostics.api.flow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validated dependency graph of {@link FlowStep}s.
+ *
+ * Edges come from data keys: a step depends on the (single) producer of each key
+ * it requires. Building fails when a key has no producer (and was not declared as
+ * provided), has two producers, or when the steps form a cycle.
+ */
+public final class FlowGraph {
+
+    private final List<FlowStep> steps; // topological order
+    private final Map<String, Set<FlowStep>> dependencies;
+
+    private FlowGraph(List<FlowStep> steps, Map<String, Set<FlowStep>> dependencies) {
+        this.steps = Collections.unmodifiableList(steps);
+        this.dependencies = Collections.unmodifiableMap(dependencies);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Steps in a valid execution order (every step after its dependencies)
+     */
+    public List<FlowStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Steps that must finish before the given one
+     */
+    public Set<FlowStep> getDependencies(FlowStep step) {
+        return dependencies.get(step.getName());
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    public static final class Builder {
+        private final Map<String, FlowStep> steps = new LinkedHashMap<>();
+        private final Set<String> provided = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder add(FlowStep step) {
+            if (steps.putIfAbsent(step.getName(), step) != null) {
+                throw new IllegalArgumentException("❌ Duplicate flow step: " + step.getName());
+            }
+            return this;
+        }
+
+        public Builder addAll(List<FlowStep> steps) {
+            for (FlowStep step : steps) {
+                add(step);
+            }
+            return this;
+        }
+
+        /**
+         * Keys available before the flow starts (e.g. logins done by the suite bootstrap)
+         */
+        public Builder provided(String... keys) {
+            Collections.addAll(provided, keys);
+            return this;
+        }
+
+        public FlowGraph build() {
+            Map<String, FlowStep> producers = new HashMap<>();
+            for (FlowStep step : steps.values()) {
+                for (String key : step.getProduces()) {
+                    FlowStep other = producers.putIfAbsent(key, step);
+                    if (other != null) {
+                        throw new IllegalStateException("❌ Key '" + key + "' is produced by both '"
+                                + other.getName() + "' and '" + step.getName() + "'");
+                    }
+                }
+            }
+
+            Map<String, Set<FlowStep>> dependencies = new HashMap<>();
+            for (FlowStep step : steps.values()) {
+                Set<FlowStep> deps = new LinkedHashSet<>();
+                for (String key : step.getRequires()) {
+                    FlowStep producer = producers.get(key);
+                    if (producer != null) {
+                        deps.add(producer);
+                    } else if (!provided.contains(key)) {
+                        throw new IllegalStateException("❌ Flow step '" + step.getName()
+                                + "' requires '" + key + "' but no step produces it");
+                    }
+                }
+                dependencies.put(step.getName(), Collections.unmodifiableSet(deps));
+            }
+
+            return new FlowGraph(topologicalOrder(dependencies), dependencies);
+        }
+
+        /**
+         * Kahn's algorithm; insertion order is kept among independent steps
+         */
+        private List<FlowStep> topologicalOrder(Map<String, Set<FlowStep>> dependencies) {
+            Map<String, Integer> remaining = new HashMap<>();
+            Map<String, List<FlowStep>> dependents = new HashMap<>();
+            Deque<FlowStep> ready = new ArrayDeque<>();
+            for (FlowStep step : steps.values()) {
+                Set<FlowStep> deps = dependencies.get(step.getName());
+                remaining.put(step.getName(), deps.size());
+                for (FlowStep dep : deps) {
+                    dependents.computeIfAbsent(dep.getName(), k -> new ArrayList<>()).add(step);
+                }
+                if (deps.isEmpty()) {
+                    ready.add(step);
+                }
+            }
+
+            List<FlowStep> order = new ArrayList<>(steps.size());
+            while (!ready.isEmpty()) {
+                FlowStep step = ready.poll();
+                order.add(step);
+                for (FlowStep dependent : dependents.getOrDefault(step.getName(), Collections.emptyList())) {
+                    if (remaining.merge(dependent.getName(), -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+
+            if (order.size() != steps.size()) {
+                List<String> cyclic = new ArrayList<>();
+                remaining.forEach((name, count) -> {
+                    if (count > 0) {
+                        cyclic.add(name);
+                    }
+                });
+                throw new IllegalStateException("❌ Flow steps form a cycle: " + cyclic);
+            }
+            return order;
+        }
+    }
+}
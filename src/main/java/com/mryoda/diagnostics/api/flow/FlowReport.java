@@ -0,0 +1,236 @@
+package com.mryoda.diagnostics.api.flow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one {@link FlowEngine} run: per-step status and timing, per-pipeline
+ * finish times, and the critical path - the chain of dependent steps whose summed
+ * durations bound the wall clock no matter how much runs in parallel.
+ */
+public final class FlowReport {
+
+    public enum Status {
+        PASSED, FAILED, SKIPPED
+    }
+
+    /**
+     * Timing of one step; offsets are relative to the start of the run
+     */
+    public static final class StepResult {
+        private final FlowStep step;
+        private final Status status;
+        private final long startMs;
+        private final long endMs;
+        private final Throwable error;
+
+        StepResult(FlowStep step, Status status, long startMs, long endMs, Throwable error) {
+            this.step = step;
+            this.status = status;
+            this.startMs = startMs;
+            this.endMs = endMs;
+            this.error = error;
+        }
+
+        public String getName() {
+            return step.getName();
+        }
+
+        public String getPipeline() {
+            return step.getPipeline();
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public long getStartMs() {
+            return startMs;
+        }
+
+        public long getEndMs() {
+            return endMs;
+        }
+
+        public long getDurationMs() {
+            return endMs - startMs;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+    }
+
+    private final FlowGraph graph;
+    private final Map<String, StepResult> results;
+    private final long wallClockMs;
+    private final List<StepResult> criticalPath;
+
+    FlowReport(FlowGraph graph, Map<String, StepResult> results, long wallClockMs) {
+        this.graph = graph;
+        this.results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+        this.wallClockMs = wallClockMs;
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath());
+    }
+
+    // ============================================================
+    // RESULTS
+    // ============================================================
+
+    /**
+     * Step results in graph (topological) order
+     */
+    public List<StepResult> getResults() {
+        List<StepResult> ordered = new ArrayList<>(results.size());
+        for (FlowStep step : graph.getSteps()) {
+            ordered.add(results.get(step.getName()));
+        }
+        return ordered;
+    }
+
+    public StepResult getResult(String stepName) {
+        return results.get(stepName);
+    }
+
+    public List<StepResult> getFailures() {
+        List<StepResult> failures = new ArrayList<>();
+        for (StepResult result : getResults()) {
+            if (result.getStatus() == Status.FAILED) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    public boolean isSuccessful() {
+        for (StepResult result : results.values()) {
+            if (result.getStatus() != Status.PASSED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fail with the first step error (dependents of a failed step are reported as skipped)
+     */
+    public void assertSuccessful() {
+        List<StepResult> failures = getFailures();
+        if (!failures.isEmpty()) {
+            StepResult first = failures.get(0);
+            AssertionError error = new AssertionError("❌ Flow step '" + first.getName() + "' failed ("
+                    + failures.size() + " failed, " + count(Status.SKIPPED) + " skipped): "
+                    + first.getError().getMessage());
+            error.initCause(first.getError());
+            throw error;
+        }
+        if (!isSuccessful()) {
+            throw new AssertionError("❌ Flow did not complete: " + count(Status.SKIPPED) + " steps skipped");
+        }
+    }
+
+    // ============================================================
+    // TIMING
+    // ============================================================
+
+    public long getWallClockMs() {
+        return wallClockMs;
+    }
+
+    /**
+     * Sum of all step durations - the wall clock of running everything one after another
+     */
+    public long getTotalStepMs() {
+        long total = 0;
+        for (StepResult result : results.values()) {
+            total += result.getDurationMs();
+        }
+        return total;
+    }
+
+    public List<StepResult> getCriticalPath() {
+        return criticalPath;
+    }
+
+    public long getCriticalPathMs() {
+        long total = 0;
+        for (StepResult result : criticalPath) {
+            total += result.getDurationMs();
+        }
+        return total;
+    }
+
+    /**
+     * Finish time of each pipeline (offset of its last step end)
+     */
+    public Map<String, Long> getPipelineFinishMs() {
+        Map<String, Long> finish = new LinkedHashMap<>();
+        for (StepResult result : getResults()) {
+            finish.merge(result.getPipeline(), result.getEndMs(), Math::max);
+        }
+        return finish;
+    }
+
+    /**
+     * Longest chain by measured durations (skipped steps count as zero)
+     */
+    private List<StepResult> computeCriticalPath() {
+        Map<String, Long> finish = new HashMap<>();
+        Map<String, FlowStep> previous = new HashMap<>();
+        FlowStep last = null;
+        for (FlowStep step : graph.getSteps()) {
+            long longestDep = -1;
+            for (FlowStep dep : graph.getDependencies(step)) {
+                long depFinish = finish.get(dep.getName());
+                if (depFinish > longestDep) {
+                    longestDep = depFinish;
+                    previous.put(step.getName(), dep);
+                }
+            }
+            longestDep = Math.max(0, longestDep);
+            long total = longestDep + results.get(step.getName()).getDurationMs();
+            finish.put(step.getName(), total);
+            if (last == null || total > finish.get(last.getName())) {
+                last = step;
+            }
+        }
+
+        List<StepResult> path = new ArrayList<>();
+        for (FlowStep step = last; step != null; step = previous.get(step.getName())) {
+            path.add(results.get(step.getName()));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private long count(Status status) {
+        return results.values().stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n🧭 FLOW REPORT (").append(results.size()).append(" steps: ")
+                .append(count(Status.PASSED)).append(" passed, ")
+                .append(count(Status.FAILED)).append(" failed, ")
+                .append(count(Status.SKIPPED)).append(" skipped)\n");
+        sb.append(String.format("   %-34s %-12s %-8s %8s %8s %8s%n", "Step", "Pipeline", "Status", "Start", "End", "Took"));
+        for (StepResult r : getResults()) {
+            sb.append(String.format("   %-34s %-12s %-8s %6dms %6dms %6dms%n", r.getName(), r.getPipeline(),
+                    r.getStatus(), r.getStartMs(), r.getEndMs(), r.getDurationMs()));
+        }
+        sb.append("   Pipelines finished: ").append(getPipelineFinishMs()).append('\n');
+        sb.append("   Wall clock: ").append(wallClockMs).append(" ms | sequential: ").append(getTotalStepMs())
+                .append(" ms | critical path: ").append(getCriticalPathMs()).append(" ms\n");
+        sb.append("   Critical path: ");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            StepResult r = criticalPath.get(i);
+            sb.append(i > 0 ? " → " : "").append(r.getName()).append(" (").append(r.getDurationMs()).append("ms)");
+        }
+        return sb.append('\n').toString();
+    }
+}
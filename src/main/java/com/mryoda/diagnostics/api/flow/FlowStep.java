@@ -0,0 +1,109 @@
+package com.mryoda.diagnostics.api.flow;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * One node of a {@link FlowGraph}: an action plus the data keys it needs and provides.
+ *
+ * Dependencies are never declared directly - a step runs after every step that
+ * produces one of its required keys, and concurrently with everything else.
+ *
+ * <pre>
+ * FlowStep.builder("addToCart.MEMBER")
+ *         .pipeline("MEMBER")
+ *         .requires("MEMBER.tests", "MEMBER.brands")
+ *         .produces("MEMBER.cart")
+ *         .action(() -&gt; cartTest.testAddToCart_ForMember())
+ *         .build();
+ * </pre>
+ */
+public final class FlowStep {
+
+    private final String name;
+    private final String pipeline;
+    private final Set<String> requires;
+    private final Set<String> produces;
+    private final Runnable action;
+
+    private FlowStep(Builder b) {
+        this.name = b.name;
+        this.pipeline = b.pipeline;
+        this.requires = Collections.unmodifiableSet(new LinkedHashSet<>(b.requires));
+        this.produces = Collections.unmodifiableSet(new LinkedHashSet<>(b.produces));
+        this.action = b.action;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Pipeline (e.g. user type) the step belongs to; "shared" when not set */
+    public String getPipeline() {
+        return pipeline;
+    }
+
+    public Set<String> getRequires() {
+        return requires;
+    }
+
+    public Set<String> getProduces() {
+        return produces;
+    }
+
+    void execute() {
+        action.run();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private String pipeline = "shared";
+        private final Set<String> requires = new LinkedHashSet<>();
+        private final Set<String> produces = new LinkedHashSet<>();
+        private Runnable action;
+
+        private Builder(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("❌ Flow step name must not be empty");
+            }
+            this.name = name;
+        }
+
+        public Builder pipeline(String pipeline) {
+            this.pipeline = pipeline;
+            return this;
+        }
+
+        public Builder requires(String... keys) {
+            Collections.addAll(requires, keys);
+            return this;
+        }
+
+        public Builder produces(String... keys) {
+            Collections.addAll(produces, keys);
+            return this;
+        }
+
+        public Builder action(Runnable action) {
+            this.action = action;
+            return this;
+        }
+
+        public FlowStep build() {
+            if (action == null) {
+                throw new IllegalStateException("❌ Flow step '" + name + "' has no action");
+            }
+            return new FlowStep(this);
+        }
+    }
+}
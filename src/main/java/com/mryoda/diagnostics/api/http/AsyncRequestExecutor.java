@@ -0,0 +1,122 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.utils.SessionContext;
+import com.mryoda.diagnostics.api.utils.TaskExecutors;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor behind RequestBuilder's *Async() methods.
+ *
+ * - http.async.threads worker threads, http.async.queue pending tasks
+ * - when the queue is full the caller runs the request itself (back-pressure
+ *   instead of unbounded growth)
+ * - with execution.mode=virtual (Java 21) every request gets its own virtual
+ *   thread instead; concurrency is then bounded by the HTTP connection pool
+ * - optional per-request timeout completes the future with a TimeoutException
+ *   and interrupts the worker
+ */
+public class AsyncRequestExecutor {
+
+    private static volatile ExecutorService executor;
+
+    private AsyncRequestExecutor() {
+        // Private constructor
+    }
+
+    /**
+     * Run a blocking call on the shared executor
+     *
+     * @param call      Blocking request (e.g. a RequestBuilder verb)
+     * @param timeoutMs Timeout in milliseconds, 0 or less for none
+     * @param label     Used in the timeout message (endpoint)
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> call, long timeoutMs, String label) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Worker sees the caller's session and wire log buffer
+        Supplier<T> task = WireLogBuffer.propagate(SessionContext.propagate(call));
+
+        Future<?> running = executor().submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+
+        if (timeoutMs > 0) {
+            CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS).execute(() ->
+                    result.completeExceptionally(new TimeoutException(
+                            "❌ Request timed out after " + timeoutMs + " ms | Endpoint: " + label)));
+        }
+
+        // Timed out or cancelled by the caller - stop the worker as well
+        result.whenComplete((value, error) -> {
+            if (error != null && !running.isDone()) {
+                running.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait for a future and rethrow its failure as thrown by the request
+     * (AssertionError, RuntimeException) instead of a CompletionException
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    private static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (AsyncRequestExecutor.class) {
+                current = executor;
+                if (current == null && TaskExecutors.isVirtual()) {
+                    current = TaskExecutors.newExecutor("http-async-", 0);
+                    executor = current;
+                } else if (current == null) {
+                    int threads = Math.max(1, ConfigLoader.getConfig().httpAsyncThreads());
+                    int queue = Math.max(1, ConfigLoader.getConfig().httpAsyncQueue());
+                    current = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(queue), TaskExecutors.daemonThreads("http-async-"),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Stop the executor (end of suite); a later submit creates a new one
+     */
+    public static void shutdown() {
+        synchronized (AsyncRequestExecutor.class) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+}
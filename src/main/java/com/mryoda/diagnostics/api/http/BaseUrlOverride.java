@@ -0,0 +1,43 @@
+package com.mryoda.diagnostics.api.http;
+
+import java.net.URI;
+
+/**
+ * Target that replaces RestAssured.baseURI for every RequestBuilder call while set -
+ * used by the local stand-in (see StandInServer) so a whole run goes to localhost.
+ * Absolute endpoints (e.g. GET_ALL_BRANDS) are sent to the override as well.
+ */
+public final class BaseUrlOverride {
+
+    private static volatile String baseUrl;
+
+    private BaseUrlOverride() {
+        // Utility class
+    }
+
+    public static void set(String url) {
+        baseUrl = url;
+    }
+
+    public static void clear() {
+        baseUrl = null;
+    }
+
+    /**
+     * The override, or null when requests go to their configured target
+     */
+    public static String get() {
+        return baseUrl;
+    }
+
+    /**
+     * Endpoint as it must be sent: absolute URLs lose scheme and host while an override is set
+     */
+    public static String apply(String endpoint) {
+        if (baseUrl != null && endpoint != null && endpoint.startsWith("http")) {
+            URI uri = URI.create(endpoint);
+            return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,246 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.params.CookiePolicy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.conn.ssl.TrustStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framework-wide HTTP client factory backed by one pooled connection manager.
+ *
+ * RestAssured creates a new client per request and, with relaxedHTTPSValidation(),
+ * a new SSLContext per request - so every call paid a TCP + TLS handshake. Here all
+ * clients share a single {@link PoolingClientConnectionManager}:
+ * - keep-alive connections are reused per host (route)
+ * - one trust-all SSL socket factory, so TLS sessions are resumed
+ * - connect/read timeouts come from api.timeout
+ *
+ * Each request still gets its own lightweight DefaultHttpClient (RestAssured mutates
+ * client interceptors and params per call), only the connections are shared.
+ *
+ * Pool size: http.pool.max.total, http.pool.max.per.route and per-host overrides in
+ * http.pool.routes (e.g. "staging-api-membership.yodaprojects.com=10").
+ */
+// RestAssured 5's httpClientFactory expects the legacy (deprecated) HttpClient 4 API
+@SuppressWarnings("deprecation")
+public class HttpClientPool {
+
+    private static volatile HttpClientPool instance;
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final HttpParams defaultParams;
+    private final long keepAliveMs;
+    private final RestAssuredConfig restAssuredConfig;
+    private final Set<HttpRoute> seenRoutes = ConcurrentHashMap.newKeySet();
+
+    private HttpClientPool(ConfigManager config) {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemes.register(new Scheme("https", 443, relaxedSslSocketFactory()));
+
+        connectionManager = new PoolingClientConnectionManager(schemes);
+        connectionManager.setMaxTotal(config.httpPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(config.httpPoolMaxPerRoute());
+        applyRouteLimits(config.httpPoolRoutes());
+
+        defaultParams = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(defaultParams, config.apiTimeout());
+        HttpConnectionParams.setSoTimeout(defaultParams, config.apiTimeout());
+        HttpConnectionParams.setStaleCheckingEnabled(defaultParams, true);
+        HttpConnectionParams.setTcpNoDelay(defaultParams, true);
+        defaultParams.setParameter(ClientPNames.COOKIE_POLICY, CookiePolicy.IGNORE_COOKIES);
+
+        keepAliveMs = config.httpPoolKeepAliveMs();
+
+        restAssuredConfig = RestAssured.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, config.apiTimeout())
+                        .setParam(CoreConnectionPNames.SO_TIMEOUT, config.apiTimeout())
+                        .httpClientFactory(this::newClient));
+    }
+
+    /**
+     * Shared pool built from config.properties
+     */
+    public static HttpClientPool getInstance() {
+        HttpClientPool pool = instance;
+        if (pool == null) {
+            synchronized (HttpClientPool.class) {
+                pool = instance;
+                if (pool == null) {
+                    pool = new HttpClientPool(ConfigLoader.getConfig());
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * RestAssured config that routes requests through the shared pool
+     * (use instead of relaxedHTTPSValidation(), which would replace the pooled SSL factory)
+     */
+    public RestAssuredConfig restAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Same as {@link #restAssuredConfig()} with connect/read timeouts overridden
+     * for a single request (0 or less keeps api.timeout)
+     */
+    public RestAssuredConfig restAssuredConfig(long timeoutMs) {
+        if (timeoutMs <= 0) {
+            return restAssuredConfig;
+        }
+        int timeout = (int) Math.min(Integer.MAX_VALUE, timeoutMs);
+        return restAssuredConfig.httpClient(restAssuredConfig.getHttpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, timeout)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, timeout));
+    }
+
+    // ============================================================
+    // CLIENT FACTORY
+    // ============================================================
+
+    private DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager, defaultParams.copy());
+
+        // Server keep-alive header wins, otherwise fall back to the configured idle time
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverMs > 0 ? Math.min(serverMs, keepAliveMs) : keepAliveMs;
+        });
+
+        // Remember routes so per-host statistics can be reported
+        client.addRequestInterceptor((request, context) -> {
+            HttpHost target = (HttpHost) context.getAttribute(ExecutionContext.HTTP_TARGET_HOST);
+            if (target != null) {
+                seenRoutes.add(new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName())));
+            }
+        });
+        return client;
+    }
+
+    private static SSLSocketFactory relaxedSslSocketFactory() {
+        try {
+            TrustStrategy trustAll = (chain, authType) -> true;
+            return new SSLSocketFactory(trustAll, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to create SSL socket factory: " + e.getMessage(), e);
+        }
+    }
+
+    private void applyRouteLimits(String routes) {
+        if (routes == null || routes.trim().isEmpty()) {
+            return;
+        }
+        for (String entry : routes.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("❌ Invalid http.pool.routes entry: '" + entry + "' (expected host=max)");
+            }
+            HttpHost host = toHost(parts[0].trim());
+            int max = Integer.parseInt(parts[1].trim());
+            connectionManager.setMaxPerRoute(new HttpRoute(host, null, "https".equals(host.getSchemeName())), max);
+        }
+    }
+
+    private static HttpHost toHost(String hostOrUrl) {
+        if (hostOrUrl.contains("://")) {
+            URI uri = URI.create(hostOrUrl);
+            int port = uri.getPort() > 0 ? uri.getPort() : ("http".equals(uri.getScheme()) ? 80 : 443);
+            return new HttpHost(uri.getHost(), port, uri.getScheme());
+        }
+        return new HttpHost(hostOrUrl, 443, "https");
+    }
+
+    // ============================================================
+    // STATISTICS / MAINTENANCE
+    // ============================================================
+
+    /**
+     * Totals across all hosts (leased, pending, available/idle, max)
+     */
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Per-host statistics for every route used so far
+     */
+    public Map<String, PoolStats> getRouteStats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        for (HttpRoute route : seenRoutes) {
+            stats.put(route.getTargetHost().toURI(), connectionManager.getStats(route));
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Human readable pool summary (for logs / load runs)
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        PoolStats total = getTotalStats();
+        sb.append("🔌 HTTP pool | leased=").append(total.getLeased())
+                .append(" idle=").append(total.getAvailable())
+                .append(" pending=").append(total.getPending())
+                .append(" max=").append(total.getMax());
+        for (Map.Entry<String, PoolStats> entry : getRouteStats().entrySet()) {
+            PoolStats s = entry.getValue();
+            sb.append("\n   ").append(entry.getKey())
+                    .append(" | leased=").append(s.getLeased())
+                    .append(" idle=").append(s.getAvailable())
+                    .append(" pending=").append(s.getPending())
+                    .append(" max=").append(s.getMax());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Close expired and long-idle connections
+     */
+    public void closeIdleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close all pooled connections (end of suite); the next request creates a fresh pool
+     */
+    public static void shutdown() {
+        synchronized (HttpClientPool.class) {
+            if (instance != null) {
+                instance.connectionManager.shutdown();
+                instance = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mryoda.diagnostics.api.http;
+
+/**
+ * Wire logging modes for requests sent through RequestBuilder
+ * Configured via http.log.mode in config.properties
+ */
+public enum HttpLogMode {
+
+    /** No wire logging at all (no filter is attached) */
+    OFF,
+
+    /** Request line, status line and headers only - bodies are skipped */
+    HEADERS,
+
+    /** Exchanges are buffered in memory and only emitted when an assertion fails */
+    FAILURES,
+
+    /** Request and response headers plus (truncated) bodies for every call */
+    FULL;
+
+    /**
+     * Parse config value (case-insensitive, "headers-only"/"failures-only" accepted)
+     */
+    public static HttpLogMode fromConfig(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return FAILURES;
+        }
+        String normalized = value.trim().toUpperCase().replace('-', '_');
+        if (normalized.endsWith("_ONLY")) {
+            normalized = normalized.substring(0, normalized.length() - "_ONLY".length());
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("❌ Unknown http.log.mode: '" + value
+                    + "' (expected off, headers, failures or full)", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+import com.mryoda.diagnostics.api.standin.FixtureStore;
+import com.mryoda.diagnostics.api.standin.FixtureTemplates;
+import com.mryoda.diagnostics.api.standin.RecordedExchange;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RestAssured filter that records every request/response pair sent through
+ * RequestBuilder into fixture files for the local stand-in (see
+ * {@link com.mryoda.diagnostics.api.standin.StandInServer}).
+ *
+ * Enabled by http.record.dir. Exchanges are grouped by method and endpoint template
+ * (the path as passed to RequestBuilder, "{user_id}" included - pass ids with
+ * addPathParam()); tokens and dates are templated so the fixtures can be replayed
+ * on a later day. A recording problem is logged, never thrown into the test.
+ */
+public class RecordingFilter implements Filter {
+
+    private static volatile RecordingFilter instance;
+
+    private final FixtureStore store;
+    private final int maxPerEndpoint;
+
+    public RecordingFilter(FixtureStore store, int maxPerEndpoint) {
+        this.store = store;
+        this.maxPerEndpoint = maxPerEndpoint;
+    }
+
+    /**
+     * Shared filter built from config.properties (null when http.record.dir is blank,
+     * or while requests are replayed by the stand-in)
+     */
+    public static RecordingFilter fromConfig() {
+        String dir = ConfigLoader.getConfig().httpRecordDir().trim();
+        if (dir.isEmpty() || BaseUrlOverride.get() != null) {
+            return null;
+        }
+        RecordingFilter filter = instance;
+        if (filter == null) {
+            synchronized (RecordingFilter.class) {
+                filter = instance;
+                if (filter == null) {
+                    filter = new RecordingFilter(new FixtureStore(Paths.get(dir)),
+                            ConfigLoader.getConfig().httpRecordMaxPerEndpoint());
+                    instance = filter;
+                    LoggerUtil.info("🎙️ Recording request/response fixtures to " + Paths.get(dir).toAbsolutePath());
+                }
+            }
+        }
+        return filter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+
+        // Capture request details before sending - the spec is mutable
+        String method = requestSpec.getMethod();
+        String path = LatencyRegistry.template(requestSpec.getUserDefinedPath());
+        Map<String, String> query = new HashMap<>(requestSpec.getQueryParams());
+        String requestBody = WireLogFilter.bodyAsString(requestSpec.getBody());
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        LocalDate today = LocalDate.now();
+        RecordedExchange exchange = RecordedExchange.builder()
+                .query(query.isEmpty() ? null : query)
+                .requestBody(FixtureStore.toNode(FixtureTemplates.templatize(requestBody, today)))
+                .status(response.getStatusCode())
+                .contentType(response.getContentType())
+                .responseBody(FixtureStore.toNode(FixtureTemplates.templatize(response.asString(), today)))
+                .recordedOn(today.toString())
+                .build();
+        try {
+            store.add(method, path, exchange, maxPerEndpoint);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.warn("⚠️ Could not record " + method + " " + path + ": " + e.getMessage());
+        }
+        return response;
+    }
+}
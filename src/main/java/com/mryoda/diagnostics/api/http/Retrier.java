@@ -0,0 +1,138 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import com.mryoda.diagnostics.api.utils.SessionContext;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request under a {@link RetryPolicy} and the global {@link RetryBudget}.
+ *
+ * No thread sleeps through a backoff: each retry is scheduled with
+ * CompletableFuture.delayedExecutor and then sent on the async executor
+ * ({@link AsyncRequestExecutor}) with the caller's session and wire log buffer.
+ * Blocking RequestBuilder verbs simply wait for the resulting future.
+ */
+public final class Retrier {
+
+    private Retrier() {
+        // Utility class
+    }
+
+    /**
+     * @param first  the first attempt, already running or done
+     * @param retry  sends one more attempt (called on the async executor)
+     * @param label  method and endpoint, for the log
+     */
+    public static CompletableFuture<Response> execute(RetryPolicy policy, String label,
+                                                      CompletableFuture<Response> first, Supplier<Response> retry,
+                                                      long timeoutMs) {
+        if (policy.getMaxRetries() == 0) {
+            return first;
+        }
+        RetryBudget.getInstance().deposit();
+        // Bound to the calling thread now - retries are sent from other threads
+        Supplier<Response> bound = WireLogBuffer.propagate(SessionContext.propagate(retry));
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        handle(policy, label, first, bound, timeoutMs, 0, 0, result);
+        return result;
+    }
+
+    /**
+     * Run a blocking call right here, as a future
+     */
+    public static CompletableFuture<Response> now(Supplier<Response> call) {
+        try {
+            return CompletableFuture.completedFuture(call.get());
+        } catch (Throwable t) {
+            CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+    }
+
+    private static void handle(RetryPolicy policy, String label, CompletableFuture<Response> attempt,
+                               Supplier<Response> retry, long timeoutMs, int retries, long previousDelayMs,
+                               CompletableFuture<Response> result) {
+        attempt.whenComplete((response, error) -> {
+            try {
+                retryOrComplete(policy, label, response, unwrap(error), retry, timeoutMs, retries, previousDelayMs,
+                        result);
+            } catch (RuntimeException | Error e) {
+                // An exception here would vanish into the whenComplete stage and leave the caller waiting forever
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static void retryOrComplete(RetryPolicy policy, String label, Response response, Throwable cause,
+                                        Supplier<Response> retry, long timeoutMs, int retries, long previousDelayMs,
+                                        CompletableFuture<Response> result) {
+        boolean retryable = cause == null ? policy.retries(response) : policy.retries(cause);
+        if (!retryable || retries >= policy.getMaxRetries() || result.isDone()) {
+            if (retries > 0 && cause == null && response.getStatusCode() < 400) {
+                RetryBudget.getInstance().recovered();
+            }
+            complete(result, response, cause);
+            return;
+        }
+
+        long delayMs = policy.nextDelayMs(previousDelayMs);
+        long retryAfterMs = cause == null ? retryAfterMs(response) : 0;
+        if (retryAfterMs > policy.getCapMs()) {
+            LoggerUtil.warn("⚠️ Not retrying " + label + ": Retry-After " + retryAfterMs + "ms exceeds the backoff cap");
+            complete(result, response, null);
+            return;
+        }
+        if (!RetryBudget.getInstance().tryWithdraw()) {
+            LoggerUtil.warn("⚠️ Not retrying " + label + ": retry budget exhausted");
+            complete(result, response, cause);
+            return;
+        }
+        long waitMs = Math.max(delayMs, retryAfterMs);
+        LoggerUtil.warn("🔁 Retry " + (retries + 1) + "/" + policy.getMaxRetries() + " of " + label + " in "
+                + waitMs + "ms after " + (cause == null ? "HTTP " + response.getStatusCode() : cause.toString()));
+        CompletableFuture.delayedExecutor(waitMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!result.isDone()) {
+                handle(policy, label, AsyncRequestExecutor.submit(retry, timeoutMs, label), retry, timeoutMs,
+                        retries + 1, delayMs, result);
+            }
+        });
+    }
+
+    private static void complete(CompletableFuture<Response> result, Response response, Throwable cause) {
+        if (cause != null) {
+            result.completeExceptionally(cause);
+        } else {
+            result.complete(response);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable t = error;
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /**
+     * Retry-After in delta-seconds (the HTTP-date form is not used by this API); 0 when absent
+     */
+    private static long retryAfterMs(Response response) {
+        String value = response.getHeader("Retry-After");
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
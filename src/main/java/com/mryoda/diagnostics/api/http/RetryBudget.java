@@ -0,0 +1,103 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Global cap on retries, so a struggling backend is not hit with a multiple of the load
+ * that is already failing.
+ *
+ * Every request deposits retry.budget.percent / 100 of a retry; a retry withdraws a
+ * whole one. On top, retry.budget.min.per.second retries are always allowed, so a
+ * suite that sends few requests can still retry the odd failure. With the defaults
+ * (20%, 5/s) retries add at most a fifth to the request rate once it is above 25/s.
+ */
+public class RetryBudget {
+
+    private static volatile RetryBudget instance;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratio;
+    private final int minPerSecond;
+    private final double maxBalance;
+
+    private double balance; // guarded by this
+    private long windowStart = System.nanoTime(); // guarded by this
+    private int windowRetries; // guarded by this
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+
+    public RetryBudget(double percent, int minPerSecond) {
+        this.ratio = Math.max(0, percent) / 100.0;
+        this.minPerSecond = Math.max(0, minPerSecond);
+        // Bounded, so a long quiet stretch does not bank an unlimited burst of retries
+        this.maxBalance = Math.max(10, minPerSecond * 10);
+    }
+
+    public static RetryBudget getInstance() {
+        if (instance == null) {
+            synchronized (RetryBudget.class) {
+                if (instance == null) {
+                    instance = new RetryBudget(ConfigLoader.getConfig().retryBudgetPercent(),
+                            ConfigLoader.getConfig().retryBudgetMinPerSecond());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * A first attempt went out
+     */
+    public synchronized void deposit() {
+        requests.increment();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * Take one retry from the budget; false when it is spent
+     */
+    public synchronized boolean tryWithdraw() {
+        long now = System.nanoTime();
+        if (now - windowStart >= WINDOW_NANOS) {
+            windowStart = now;
+            windowRetries = 0;
+        }
+        if (windowRetries < minPerSecond) {
+            windowRetries++;
+        } else if (balance >= 1) {
+            balance -= 1;
+        } else {
+            exhausted.increment();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * A retried request finally succeeded
+     */
+    public void recovered() {
+        recovered.increment();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    public String describe() {
+        return String.format("🔁 Retries | requests %d | retried %d | recovered %d | budget exhausted %d | budget %.0f%% + %d/s",
+                requests.sum(), retries.sum(), recovered.sum(), exhausted.sum(), ratio * 100, minPerSecond);
+    }
+}
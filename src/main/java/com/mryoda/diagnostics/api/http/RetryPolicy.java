@@ -0,0 +1,278 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * When and how RequestBuilder retries a request, per endpoint, from retry.file
+ * (default retry.properties), e.g.
+ *
+ * <pre>
+ * *.retry.on=429,502,503,504
+ * GET_SLOT_COUNT_BY_TIME.idempotent=true
+ * CREATE_ORDER.idempotent=false
+ * </pre>
+ *
+ * Keys name an {@link APIEndpoints} constant, or * for every endpoint; an endpoint's own
+ * settings override the * ones. Settings:
+ *
+ * <pre>
+ * retry.on          statuses or classes (5xx) worth another attempt; 4xx other than 429 never are
+ * idempotent        whether a request that may have reached the server can be sent again
+ *                   (default: true for GET, PUT and DELETE, false for POST)
+ * max.retries       default retry.count
+ * backoff.base.ms   decorrelated jitter: each delay is random between base and 3x the
+ * backoff.cap.ms    previous one, at most cap (a longer Retry-After gives up instead)
+ * </pre>
+ *
+ * A non-idempotent request (e.g. CREATE_ORDER) is only retried when it provably was not
+ * processed: the connection was refused, or the server answered 429. A response that
+ * never came (read timeout, connection reset) might have created the order already.
+ */
+public final class RetryPolicy {
+
+    /** Never retries */
+    public static final RetryPolicy NONE = new RetryPolicy("none", 0, new TreeSet<>(), false, 0, 0);
+
+    private static final String ALL = "*";
+    private static final Map<String, RetryPolicy> BY_KEY = new ConcurrentHashMap<>();
+    private static volatile Map<String, Map<String, String>> settings;
+    private static final ThreadLocal<Boolean> OUTER_RETRY = new ThreadLocal<>();
+
+    private final String name;
+    private final int maxRetries;
+    private final TreeSet<String> retryOn;
+    private final boolean idempotent;
+    private final long baseMs;
+    private final long capMs;
+
+    private RetryPolicy(String name, int maxRetries, TreeSet<String> retryOn, boolean idempotent, long baseMs, long capMs) {
+        this.name = name;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryOn = retryOn;
+        this.idempotent = idempotent;
+        this.baseMs = Math.max(1, baseMs);
+        this.capMs = Math.max(this.baseMs, capMs);
+    }
+
+    /**
+     * Policy for retries of an explicit call (see RetryUtil): the caller vouches that the
+     * call may be repeated; retry.on and the backoff cap come from the * settings
+     */
+    public static RetryPolicy of(int maxRetries, long baseMs) {
+        RetryPolicy defaults = build(ALL, "POST", endpointSettings().getOrDefault(ALL, new HashMap<>()));
+        return new RetryPolicy("custom", maxRetries, defaults.retryOn, true, baseMs, Math.max(baseMs, defaults.capMs));
+    }
+
+    /**
+     * Policy of a RequestBuilder call (NONE when retry.enabled=false, or inside
+     * {@link #withoutRequestRetries})
+     */
+    public static RetryPolicy forRequest(String method, String endpoint) {
+        if (!ConfigLoader.getConfig().retryEnabled() || OUTER_RETRY.get() != null) {
+            return NONE;
+        }
+        String key = LatencyRegistry.key(method, endpoint);
+        RetryPolicy policy = BY_KEY.get(key);
+        if (policy == null) {
+            policy = BY_KEY.computeIfAbsent(key, k -> resolve(method, LatencyRegistry.template(endpoint)));
+        }
+        return policy;
+    }
+
+    /**
+     * Run one attempt of a call that the caller retries itself (RetryUtil): RequestBuilder
+     * requests sent from it get {@link #NONE}, so the attempts do not multiply and the
+     * retry budget is drawn once per retry
+     */
+    public static <T> T withoutRequestRetries(Supplier<T> call) {
+        if (OUTER_RETRY.get() != null) {
+            return call.get();
+        }
+        OUTER_RETRY.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            OUTER_RETRY.remove();
+        }
+    }
+
+    private static RetryPolicy resolve(String method, String template) {
+        Map<String, Map<String, String>> all = endpointSettings();
+        Map<String, String> merged = new HashMap<>(all.getOrDefault(ALL, new HashMap<>()));
+        String name = ALL;
+        for (Map.Entry<String, Map<String, String>> entry : all.entrySet()) {
+            if (!ALL.equals(entry.getKey())
+                    && template.equals(LatencyRegistry.template(APIEndpoints.byName(entry.getKey())))) {
+                merged.putAll(entry.getValue());
+                name = entry.getKey();
+                break;
+            }
+        }
+        return build(name, method, merged);
+    }
+
+    static RetryPolicy build(String name, String method, Map<String, String> values) {
+        Map<String, String> s = new HashMap<>(values);
+        ConfigManager config = ConfigLoader.getConfig();
+        int maxRetries = (int) number(name, "max.retries", s.remove("max.retries"), config.retryCount());
+        String on = s.remove("retry.on");
+        TreeSet<String> retryOn = new TreeSet<>();
+        for (String token : (on == null ? "429,502,503,504" : on).split(",")) {
+            String t = token.trim().toLowerCase();
+            if (t.isEmpty()) {
+                continue;
+            }
+            if (!t.matches("[1-5](\\d\\d|xx)")) {
+                throw new IllegalStateException("❌ Invalid status '" + token + "' in " + name
+                        + ".retry.on (expected codes like 503 or classes like 5xx)");
+            }
+            retryOn.add(t);
+        }
+        String idempotent = s.remove("idempotent");
+        boolean safe = idempotent == null
+                ? Arrays.asList("GET", "PUT", "DELETE", "HEAD", "OPTIONS").contains(method.toUpperCase())
+                : Boolean.parseBoolean(idempotent.trim());
+        long baseMs = (long) number(name, "backoff.base.ms", s.remove("backoff.base.ms"), 100);
+        long capMs = (long) number(name, "backoff.cap.ms", s.remove("backoff.cap.ms"), 5000);
+        if (!s.isEmpty()) {
+            throw new IllegalStateException("❌ Unknown retry setting(s) for " + name + ": " + s.keySet()
+                    + " (expected retry.on, idempotent, max.retries, backoff.base.ms or backoff.cap.ms)");
+        }
+        return new RetryPolicy(name, maxRetries, retryOn, safe, baseMs, capMs);
+    }
+
+    private static double number(String name, String setting, String value, double fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("❌ " + name + "." + setting + " is not a number: " + value, e);
+        }
+    }
+
+    private static Map<String, Map<String, String>> endpointSettings() {
+        Map<String, Map<String, String>> current = settings;
+        if (current == null) {
+            synchronized (RetryPolicy.class) {
+                current = settings;
+                if (current == null) {
+                    current = load(ConfigLoader.getConfig().retryFile());
+                    settings = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Map<String, Map<String, String>> load(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = RetryPolicy.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read retry policies " + resource, e);
+        }
+        Map<String, Map<String, String>> byEndpoint = new LinkedHashMap<>();
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            int dot = key.indexOf('.');
+            if (dot <= 0 || dot == key.length() - 1) {
+                throw new IllegalStateException("❌ Invalid retry key '" + key + "' (expected <ENDPOINT>.<setting>)");
+            }
+            String endpoint = key.substring(0, dot);
+            if (!ALL.equals(endpoint)) {
+                APIEndpoints.byName(endpoint); // fail on a typo now, not when the endpoint is first called
+            }
+            byEndpoint.computeIfAbsent(endpoint, k -> new HashMap<>())
+                    .put(key.substring(dot + 1), properties.getProperty(key));
+        }
+        return byEndpoint;
+    }
+
+    // ============================================================
+    // DECISIONS
+    // ============================================================
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Whether this response is worth another attempt
+     */
+    public boolean retries(Response response) {
+        int status = response.getStatusCode();
+        if (status == 429) {
+            // Rejected before processing, so safe even for non-idempotent requests
+            return retryOn.contains("429") || retryOn.contains("4xx");
+        }
+        if (!idempotent) {
+            return false;
+        }
+        return retryOn.contains(String.valueOf(status)) || (status >= 500 && retryOn.contains("5xx"));
+    }
+
+    /**
+     * Whether this failure (no response at all) is worth another attempt
+     */
+    public boolean retries(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof UnknownHostException) {
+                return false; // configuration problem, not a transient one
+            }
+            if (t instanceof ConnectException || t.getClass().getSimpleName().equals("ConnectTimeoutException")) {
+                return true; // never reached the server
+            }
+            if (t instanceof IOException || t instanceof TimeoutException) {
+                return idempotent; // may have been processed
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decorrelated jitter: random between base and 3x the previous delay (base before the
+     * first retry), at most cap
+     *
+     * @param previousMs previous delay, 0 before the first retry
+     */
+    public long nextDelayMs(long previousMs) {
+        long upper = Math.min(capMs, Math.max(baseMs, previousMs) * 3);
+        return upper <= baseMs ? baseMs : ThreadLocalRandom.current().nextLong(baseMs, upper + 1);
+    }
+
+    public long getCapMs() {
+        return capMs;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + maxRetries + " retries on " + retryOn + (idempotent ? "" : ", non-idempotent")
+                + ", backoff " + baseMs + "-" + capMs + "ms)";
+    }
+}
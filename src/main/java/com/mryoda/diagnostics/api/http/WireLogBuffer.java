@@ -0,0 +1,120 @@
+package com.mryoda.diagnostics.api.http;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread, bounded buffer of recent HTTP exchanges for the FAILURES log mode.
+ *
+ * Exchanges are stored as lazy suppliers, so nothing is formatted unless a
+ * failure actually triggers a flush. Oldest entries are dropped once the
+ * configured capacity is reached. Async requests record into the buffer of the
+ * thread that issued them (see {@link #propagate(Supplier)}).
+ */
+public class WireLogBuffer {
+
+    private static final ThreadLocal<Exchanges> CURRENT = ThreadLocal.withInitial(Exchanges::new);
+
+    private WireLogBuffer() {
+        // Private constructor
+    }
+
+    /**
+     * Remember an exchange for the current thread
+     */
+    static void record(Supplier<String> exchange, int capacity) {
+        CURRENT.get().add(exchange, capacity);
+    }
+
+    /**
+     * Emit all buffered exchanges of the current thread and clear the buffer
+     *
+     * @param reason Why the buffer is flushed (failed assertion, test name...)
+     */
+    public static void flush(String reason) {
+        List<Supplier<String>> pending = CURRENT.get().drain();
+        if (pending.isEmpty()) {
+            return;
+        }
+        WireLogFilter.WIRE_LOG.error("==== " + pending.size() + " buffered HTTP exchange(s) | " + reason + " ====");
+        for (Supplier<String> exchange : pending) {
+            WireLogFilter.WIRE_LOG.error(exchange.get());
+        }
+    }
+
+    /**
+     * Drop buffered exchanges of the current thread (e.g. at test start)
+     */
+    public static void clear() {
+        CURRENT.get().drain();
+    }
+
+    /**
+     * Number of exchanges currently buffered for this thread
+     */
+    public static int size() {
+        return CURRENT.get().size();
+    }
+
+    /**
+     * Wrap a task so that exchanges it records on a worker thread land in the
+     * caller's buffer - a later assertion failure on the caller then flushes them
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Exchanges owner = CURRENT.get();
+        return () -> {
+            Exchanges previous = CURRENT.get();
+            CURRENT.set(owner);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Same for a step that receives a value, e.g. a status check after the last retry
+     */
+    public static <T, R> Function<T, R> propagate(Function<T, R> task) {
+        Exchanges owner = CURRENT.get();
+        return value -> {
+            Exchanges previous = CURRENT.get();
+            CURRENT.set(owner);
+            try {
+                return task.apply(value);
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Buffer shared between a test thread and the async workers it spawns
+     */
+    private static final class Exchanges {
+
+        private final Deque<Supplier<String>> entries = new ArrayDeque<>();
+
+        synchronized void add(Supplier<String> exchange, int capacity) {
+            while (entries.size() >= capacity && !entries.isEmpty()) {
+                entries.removeFirst();
+            }
+            entries.addLast(exchange);
+        }
+
+        synchronized List<Supplier<String>> drain() {
+            List<Supplier<String>> drained = new ArrayList<>(entries);
+            entries.clear();
+            return drained;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RestAssured filter replacing the hard-coded {@code .log().all()} in RequestBuilder.
+ *
+ * Output goes to the "com.mryoda.diagnostics.api.wire" logger, which log4j2.xml
+ * routes to an async appender, so the calling thread never blocks on console or
+ * disk I/O. Bodies are truncated to http.log.max.body characters.
+ */
+public class WireLogFilter implements Filter {
+
+    static final Logger WIRE_LOG = LogManager.getLogger("com.mryoda.diagnostics.api.wire");
+
+    private static volatile WireLogFilter instance;
+
+    private final HttpLogMode mode;
+    private final int maxBody;
+    private final int bufferSize;
+
+    public WireLogFilter(HttpLogMode mode, int maxBody, int bufferSize) {
+        this.mode = mode;
+        this.maxBody = Math.max(0, maxBody);
+        this.bufferSize = Math.max(1, bufferSize);
+    }
+
+    /**
+     * Shared filter built from config.properties (null when http.log.mode=off)
+     */
+    public static WireLogFilter fromConfig() {
+        WireLogFilter filter = instance;
+        if (filter == null) {
+            synchronized (WireLogFilter.class) {
+                filter = instance;
+                if (filter == null) {
+                    filter = new WireLogFilter(
+                            HttpLogMode.fromConfig(ConfigLoader.getConfig().httpLogMode()),
+                            ConfigLoader.getConfig().httpLogMaxBody(),
+                            ConfigLoader.getConfig().httpLogBufferSize());
+                    instance = filter;
+                }
+            }
+        }
+        return filter.mode == HttpLogMode.OFF ? null : filter;
+    }
+
+    public HttpLogMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+
+        // Capture request details before sending - the spec is mutable
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        Headers requestHeaders = requestSpec.getHeaders();
+        String requestBody = mode == HttpLogMode.HEADERS ? null : truncate(bodyAsString(requestSpec.getBody()));
+
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        switch (mode) {
+            case HEADERS:
+                if (WIRE_LOG.isInfoEnabled()) {
+                    WIRE_LOG.info(format(method, uri, requestHeaders, null, response, false, elapsedMs));
+                }
+                break;
+            case FULL:
+                if (WIRE_LOG.isInfoEnabled()) {
+                    WIRE_LOG.info(format(method, uri, requestHeaders, requestBody, response, true, elapsedMs));
+                }
+                break;
+            case FAILURES:
+                // Formatting is deferred until a failure actually flushes the buffer
+                WireLogBuffer.record(
+                        () -> format(method, uri, requestHeaders, requestBody, response, true, elapsedMs),
+                        bufferSize);
+                break;
+            default:
+                break;
+        }
+        return response;
+    }
+
+    private String format(String method, String uri, Headers requestHeaders, String requestBody,
+                          Response response, boolean withBodies, long elapsedMs) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("➡️ ").append(method).append(' ').append(uri).append('\n');
+        appendHeaders(sb, requestHeaders);
+        if (withBodies && requestBody != null && !requestBody.isEmpty()) {
+            sb.append(requestBody).append('\n');
+        }
+        sb.append("⬅️ ").append(response.getStatusLine()).append(" (").append(elapsedMs).append(" ms)\n");
+        appendHeaders(sb, response.getHeaders());
+        if (withBodies) {
+            sb.append(truncate(response.asString()));
+        }
+        return sb.toString();
+    }
+
+    private static void appendHeaders(StringBuilder sb, Headers headers) {
+        if (headers == null) {
+            return;
+        }
+        for (Header header : headers) {
+            sb.append("   ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+    }
+
+    static String bodyAsString(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return String.valueOf(body);
+    }
+
+    private String truncate(String text) {
+        if (text == null || text.length() <= maxBody) {
+            return text;
+        }
+        return text.substring(0, maxBody) + "... [truncated " + (text.length() - maxBody) + " chars]";
+    }
+}
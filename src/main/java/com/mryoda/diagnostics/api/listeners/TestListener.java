@@ -1,8 +1,23 @@
 package com.mryoda.diagnostics.api.listeners;
 
 import org.testng.*;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
+import com.mryoda.diagnostics.api.http.HttpClientPool;
+import com.mryoda.diagnostics.api.http.RetryBudget;
+import com.mryoda.diagnostics.api.http.WireLogBuffer;
+import com.mryoda.diagnostics.api.metrics.LatencyHistory;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+import com.mryoda.diagnostics.api.metrics.SloVerifier;
 import com.mryoda.diagnostics.api.reporting.ExtentReportManager;
+import com.mryoda.diagnostics.api.standin.StandInServer;
 import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import com.mryoda.diagnostics.api.utils.ReferenceDataCache;
+import com.mryoda.diagnostics.api.utils.SlotCache;
+import com.mryoda.diagnostics.api.utils.TokenCache;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * TestNG Listener for test execution events and reporting
@@ -15,6 +30,7 @@ public class TestListener implements ITestListener, ISuiteListener {
         LoggerUtil.info("TEST SUITE STARTED: " + suite.getName());
         LoggerUtil.info("========================================");
         ExtentReportManager.initReports();
+        StandInServer.startIfEnabled();
     }
     
     @Override
@@ -22,7 +38,25 @@ public class TestListener implements ITestListener, ISuiteListener {
         LoggerUtil.info("========================================");
         LoggerUtil.info("TEST SUITE FINISHED: " + suite.getName());
         LoggerUtil.info("========================================");
+        LoggerUtil.info(HttpClientPool.getInstance().describe());
+        LoggerUtil.info(TokenCache.getInstance().describe());
+        LoggerUtil.info(SlotCache.getInstance().describe());
+        LoggerUtil.info(ReferenceDataCache.getInstance().describe());
+        LoggerUtil.info(LatencyRegistry.getInstance().describe());
+        LoggerUtil.info(RetryBudget.getInstance().describe());
+        List<SloVerifier.Result> slo = ConfigLoader.getConfig().sloEnabled()
+                ? SloVerifier.evaluate()
+                : Collections.emptyList();
+        if (!slo.isEmpty()) {
+            LoggerUtil.info(SloVerifier.describe(slo));
+        }
+        LatencyHistory.archiveRun(suite.getName());
+        AsyncRequestExecutor.shutdown();
+        HttpClientPool.shutdown();
+        StandInServer.stopIfRunning();
         ExtentReportManager.flushReports();
+        // Last, so reports are written even when the run fails on its SLOs
+        SloVerifier.assertMet(slo);
     }
     
     @Override
@@ -30,6 +64,8 @@ public class TestListener implements ITestListener, ISuiteListener {
         String testName = result.getMethod().getMethodName();
         String description = result.getMethod().getDescription();
         
+        // Buffered wire logs only belong to the test that produced them
+        WireLogBuffer.clear();
         LoggerUtil.logTestStart(testName);
         ExtentReportManager.createTest(testName, description != null ? description : testName);
         ExtentReportManager.logInfo("Test execution started: " + testName);
@@ -50,6 +86,7 @@ public class TestListener implements ITestListener, ISuiteListener {
         
         LoggerUtil.error("TEST FAILED: " + testName);
         LoggerUtil.error("Failure Reason: " + throwable.getMessage(), throwable);
+        WireLogBuffer.flush("TEST FAILED: " + testName);
         
         ExtentReportManager.logFail("Test failed: " + testName);
         ExtentReportManager.logFail("Failure Reason: " + throwable.getMessage());
@@ -0,0 +1,401 @@
+package com.mryoda.diagnostics.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.metrics.ScheduleLag;
+import com.mryoda.diagnostics.api.payloads.APIPayloads;
+import com.mryoda.diagnostics.api.payloads.VerifyPaymentPayload;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import com.mryoda.diagnostics.api.utils.RazorpayPaymentVerifier;
+import com.mryoda.diagnostics.api.utils.SlotFinder;
+import com.mryoda.diagnostics.api.utils.TestNameNormalizer;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * One patient journey as a virtual user performs it: OTP login → locations → brands →
+ * search → cart → address → centers → slot → cart slot update → create order → verify
+ * payment.
+ *
+ * Same requests as the API tests (RequestBuilder, APIPayloads), but nothing is stored
+ * in RequestContext - every journey keeps its own state, so any number can run at
+ * once. Each step is timed into {@link LoadStats}; the first failing step ends the
+ * journey. How late the journey started against the load schedule is recorded as
+ * "startLag" and added to every request's corrected latency ({@link ScheduleLag}).
+ */
+public class BookingJourney {
+
+    public static final List<String> STEPS = Collections.unmodifiableList(Arrays.asList(
+            "login", "locations", "brands", "search", "addToCart", "getCart", "address",
+            "getAddress", "centers", "slot", "slotUpdate", "createOrder", "verifyPayment"));
+
+    private static final String ORDER_TYPE = "home";
+
+    /** Postal code served by the Madhapur centers (same default as AddressAPITest) */
+    private static final String DEFAULT_POSTAL_CODE = "500033";
+
+    private final LoadProfile profile;
+    private final LoadStats stats;
+
+    public BookingJourney(LoadProfile profile, LoadStats stats) {
+        this.profile = profile;
+        this.stats = stats;
+    }
+
+    /**
+     * Per-journey state, filled in step by step
+     */
+    private static final class State {
+        private final String mobile;
+        private String token;
+        private String userId;
+        private String firstName;
+        private String lastName;
+        private String locationId;
+        private JsonNode location;
+        private String brandId;
+        private final List<JsonNode> tests = new ArrayList<>();
+        private String addressGuid;
+        private String slotGuid;
+        private String orderId;
+
+        private State(String mobile) {
+            this.mobile = mobile;
+        }
+    }
+
+    /**
+     * Run one journey for the given account; false when a step failed
+     */
+    public boolean run(String mobile) {
+        return run(mobile, System.nanoTime());
+    }
+
+    /**
+     * Run one journey the load schedule intended to start at intendedNanos (System.nanoTime())
+     */
+    public boolean run(String mobile, long intendedNanos) {
+        State state = new State(mobile);
+        long start = System.nanoTime();
+        ScheduleLag.begin(intendedNanos);
+        stats.record(LoadStats.START_LAG, ScheduleLag.currentNanos() / 1_000_000, true);
+        try {
+            for (Map.Entry<String, Consumer<State>> step : steps().entrySet()) {
+                long stepStart = System.nanoTime();
+                try {
+                    step.getValue().accept(state);
+                    stats.record(step.getKey(), elapsedMs(stepStart), true);
+                } catch (Throwable t) {
+                    stats.record(step.getKey(), elapsedMs(stepStart), false);
+                    stats.recordError(step.getKey(), t);
+                    stats.record(LoadStats.JOURNEY, elapsedMs(start), false);
+                    return false;
+                }
+            }
+            stats.record(LoadStats.JOURNEY, elapsedMs(start), true);
+            return true;
+        } finally {
+            ScheduleLag.clear();
+        }
+    }
+
+    /**
+     * Steps in STEPS order; verifyPayment only with load.verify.payment=true
+     */
+    private Map<String, Consumer<State>> steps() {
+        Map<String, Consumer<State>> steps = new LinkedHashMap<>();
+        steps.put("login", this::login);
+        steps.put("locations", this::locations);
+        steps.put("brands", this::brands);
+        steps.put("search", this::search);
+        steps.put("addToCart", this::addToCart);
+        steps.put("getCart", this::getCart);
+        steps.put("address", this::address);
+        steps.put("getAddress", this::getAddress);
+        steps.put("centers", this::centers);
+        steps.put("slot", this::slot);
+        steps.put("slotUpdate", this::slotUpdate);
+        steps.put("createOrder", this::createOrder);
+        if (profile.isVerifyPayment()) {
+            steps.put("verifyPayment", this::verifyPayment);
+        }
+        return steps;
+    }
+
+    // ============================================================
+    // STEPS
+    // ============================================================
+
+    private void login(State s) {
+        String countryCode = ConfigLoader.getConfig().countryCode();
+        Map<String, Object> otpRequest = APIPayloads.createLoginPayload(s.mobile);
+        otpRequest.put("country_code", countryCode);
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.OTP_REQUEST)
+                .setRequestBody(otpRequest)
+                .expectStatus(200)
+                .post();
+
+        Map<String, Object> verify = APIPayloads.addFieldToPayload(otpRequest, "otp", ConfigLoader.getConfig().staticOtp());
+        ParsedResponse verified = new RequestBuilder()
+                .setEndpoint(APIEndpoints.OTP_VERIFY)
+                .setRequestBody(verify)
+                .expectStatus(200)
+                .postParsed();
+        s.token = require(verified.getString("data.access_token"), "access_token");
+        s.userId = require(verified.getString("data.guid"), "user guid");
+        s.firstName = verified.getString("data.first_name");
+        s.lastName = verified.getString("data.last_name");
+    }
+
+    private void locations(State s) {
+        ParsedResponse body = new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_LOCATION)
+                .addHeader("Authorization", s.token)
+                .expectStatus(200)
+                .postParsed();
+        for (JsonNode location : body.node("data")) {
+            if (profile.getLocation().equalsIgnoreCase(location.path("title").asText())) {
+                s.location = location;
+                s.locationId = location.path("_id").asText();
+                return;
+            }
+        }
+        throw new AssertionError("❌ Location not found: " + profile.getLocation());
+    }
+
+    private void brands(State s) {
+        ParsedResponse body = new RequestBuilder()
+                .setEndpoint(endpoint(APIEndpoints.GET_ALL_BRANDS))
+                .addHeader("Authorization", s.token)
+                .addBodyParam("page", 1)
+                .expectStatus(200)
+                .postParsed();
+        for (JsonNode brand : body.node("data")) {
+            if (profile.getBrand().equalsIgnoreCase(brand.path("title").asText())) {
+                s.brandId = brand.path("Guid").asText();
+                return;
+            }
+        }
+        throw new AssertionError("❌ Brand not found: " + profile.getBrand());
+    }
+
+    /**
+     * One search per configured term; the first exact-name match with home collection is booked
+     */
+    private void search(State s) {
+        for (String term : profile.getSearchTerms()) {
+            ParsedResponse body = new RequestBuilder()
+                    .setEndpoint(APIEndpoints.GLOBAL_SEARCH)
+                    .addHeader("Authorization", "Bearer " + s.token)
+                    .addBodyParam("page", 1)
+                    .addBodyParam("limit", 50)
+                    .addBodyParam("search_string", term)
+                    .addBodyParam("sort_by", "Type")
+                    .addBodyParam("location", s.locationId)
+                    .expectStatus(200)
+                    .postParsed();
+            for (JsonNode test : body.node("data")) {
+                if (TestNameNormalizer.sameName(term, test.path("test_name").asText(null))
+                        && isHomeCollection(test.path("home_collection"))) {
+                    s.tests.add(test);
+                    break;
+                }
+            }
+        }
+        if (s.tests.isEmpty()) {
+            throw new AssertionError("❌ No home-collection test found for " + profile.getSearchTerms());
+        }
+    }
+
+    private void addToCart(State s) {
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (JsonNode test : s.tests) {
+            Map<String, Object> product = new HashMap<>();
+            product.put("product_id", test.path("_id").asText());
+            product.put("quantity", 1);
+            product.put("brand_id", s.brandId);
+            product.put("family_member_id", Collections.singletonList(s.userId));
+            product.put("location_id", s.locationId);
+            products.add(product);
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("user_id", s.userId);
+        payload.put("lab_location_id", s.locationId);
+        payload.put("product_details", products);
+
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.ADD_TO_CART)
+                .addHeader("Authorization", s.token)
+                .setRequestBody(payload)
+                .expectStatus(200)
+                .post();
+    }
+
+    private void getCart(State s) {
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_CART_BY_ID)
+                .addPathParam("user_id", s.userId)
+                .addHeader("Authorization", s.token)
+                .addQueryParam("order_type", ORDER_TYPE)
+                .addQueryParam("location", s.locationId)
+                .expectStatus(200)
+                .get();
+    }
+
+    /**
+     * 201 = created, 409 = the account already has this address; both are fine
+     */
+    private void address(State s) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("user_id", s.userId);
+        payload.put("address_line1", s.location.path("city").asText("Hyderabad"));
+        payload.put("receiver_name", s.firstName + " " + s.lastName);
+        payload.put("recipient_mobile_number", s.mobile);
+        payload.put("name", profile.getLocation());
+        payload.put("type", ORDER_TYPE);
+        payload.put("country_code", "+91");
+        payload.put("state", s.location.path("state").asText("Telangana"));
+        payload.put("postal_code", DEFAULT_POSTAL_CODE);
+        payload.put("country", "India");
+        payload.put("city", s.location.path("city").asText("Hyderabad"));
+        payload.put("latitude", s.location.path("google_map_latitude").asText());
+        payload.put("longitude", s.location.path("google_map_langitude").asText());
+
+        Response response = new RequestBuilder()
+                .setEndpoint(APIEndpoints.ADD_ADDRESS)
+                .addHeader("Authorization", s.token)
+                .setRequestBody(payload)
+                .postWithoutStatusCheck();
+        int status = response.getStatusCode();
+        if (status != 200 && status != 201 && status != 409) {
+            throw new AssertionError("❌ Add address failed with HTTP " + status);
+        }
+    }
+
+    private void getAddress(State s) {
+        ParsedResponse body = new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_ADDRESS_BY_USER_ID)
+                .addPathParam("user_id", s.userId)
+                .addHeader("Authorization", s.token)
+                .expectStatus(200)
+                .getParsed();
+        s.addressGuid = require(body.getString("data[0].guid"), "address guid");
+    }
+
+    private void centers(State s) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("addressid", s.addressGuid);
+        payload.put("lab_id", s.locationId);
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_CENTERS_BY_ADD)
+                .addHeader("Authorization", s.token)
+                .setRequestBody(payload)
+                .expectStatus(200)
+                .post();
+    }
+
+    private void slot(State s) {
+        SlotFinder.Result result = SlotFinder.findEarliest(s.token, s.addressGuid);
+        if (!result.isFound()) {
+            throw new AssertionError("❌ No available slot for address " + s.addressGuid);
+        }
+        s.slotGuid = result.getSlot().getGuid();
+    }
+
+    private void slotUpdate(State s) {
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (JsonNode test : s.tests) {
+            Map<String, Object> product = new HashMap<>();
+            product.put("product_id", test.path("_id").asText());
+            product.put("quantity", 1);
+            product.put("type", test.path("Type").asText(null));
+            product.put("brand_id", s.brandId);
+            product.put("location_id", s.locationId);
+            products.add(product);
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("user_id", s.userId);
+        payload.put("product_details", products);
+        payload.put("slot_guid", s.slotGuid);
+
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.ADD_TO_CART)
+                .addHeader("Authorization", s.token)
+                .setRequestBody(payload)
+                .expectStatus(200)
+                .post();
+    }
+
+    private void createOrder(State s) {
+        ParsedResponse body = new RequestBuilder()
+                .setEndpoint(APIEndpoints.CREATE_ORDER)
+                .addHeader("Authorization", "Bearer " + s.token)
+                .setRequestBody(APIPayloads.createOrderPayload(s.userId))
+                .expectStatus(200)
+                .postParsed();
+        s.orderId = require(body.getString("data.id"), "razorpay order id");
+    }
+
+    private void verifyPayment(State s) {
+        String paymentId = "pay_" + System.currentTimeMillis();
+        VerifyPaymentPayload payload = VerifyPaymentPayload.builder()
+                .orderCreationId(s.orderId)
+                .razorpayPaymentId(paymentId)
+                .razorpayOrderId(s.orderId)
+                .razorpaySignature(RazorpayPaymentVerifier.generatePaymentSignature(s.orderId, paymentId))
+                .mobile(s.mobile)
+                .userId(s.userId)
+                .build();
+        new RequestBuilder()
+                .setEndpoint(APIEndpoints.VERIFY_PAYMENT)
+                .addHeader("Authorization", s.token)
+                .setRequestBody(payload)
+                .expectStatus(200)
+                .post();
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    /**
+     * Absolute endpoints (the membership host) go to the load target too when it was overridden
+     */
+    private String endpoint(String endpoint) {
+        if (profile.isRebaseAbsoluteUrls() && endpoint.startsWith("http")) {
+            return URI.create(endpoint).getPath();
+        }
+        return endpoint;
+    }
+
+    private static boolean isHomeCollection(JsonNode value) {
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        String text = value.asText("").trim().toUpperCase();
+        return "AVAILABLE".equals(text) || "TRUE".equals(text) || "YES".equals(text) || "1".equals(text);
+    }
+
+    private static String require(String value, String what) {
+        if (value == null || value.isEmpty()) {
+            throw new AssertionError("❌ Missing " + what + " in response");
+        }
+        return value;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
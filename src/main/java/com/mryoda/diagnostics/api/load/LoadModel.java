@@ -0,0 +1,25 @@
+package com.mryoda.diagnostics.api.load;
+
+/**
+ * How the load runner schedules booking journeys (load.model).
+ */
+public enum LoadModel {
+
+    /** Fixed number of virtual users, each starting its next journey when the previous one ends */
+    CLOSED,
+
+    /** Journeys start at a fixed arrival rate, independent of how long earlier ones take */
+    OPEN;
+
+    public static LoadModel fromConfig(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return CLOSED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("❌ Unknown load.model: '" + value
+                    + "' (expected closed or open)", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mryoda.diagnostics.api.load;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.http.BaseUrlOverride;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shape of one load run: schedule (model, users / arrival rate, ramp-up, steady state),
+ * target server and the data each journey books.
+ */
+@Getter
+@Builder
+public class LoadProfile {
+
+    private final LoadModel model;
+
+    /** CLOSED: concurrent virtual users. OPEN: cap on journeys in flight */
+    private final int users;
+
+    /** OPEN only: journeys started per second once ramp-up is over */
+    private final double arrivalRate;
+
+    private final int rampUpSeconds;
+    private final int steadySeconds;
+
+    /** CLOSED only: pause between two journeys of the same virtual user */
+    private final long thinkTimeMs;
+
+    /**
+     * CLOSED only: a virtual user intends to start a journey every pacingMs (think time
+     * is then ignored). Journeys that start late carry the lag into the corrected
+     * latencies. 0 = back to back, nothing to correct against
+     */
+    private final long pacingMs;
+
+    /** Server every request goes to (a stand-in, or the staging API when named explicitly) */
+    private final String baseUrl;
+
+    /** When true, absolute endpoints (brands) are rebased onto baseUrl as well */
+    private final boolean rebaseAbsoluteUrls;
+
+    /** Test accounts, assigned to virtual users round-robin */
+    private final List<String> mobiles;
+
+    private final String location;
+    private final String brand;
+    private final List<String> searchTerms;
+
+    /** Whether a journey ends with VerifyPayment or stops after CreateOrder */
+    private final boolean verifyPayment;
+
+    public static LoadProfile fromConfig() {
+        return fromConfig(ConfigLoader.getConfig());
+    }
+
+    /**
+     * Fails fast when no target is named (a load run never falls back to base.url), and
+     * when virtual users outnumber the accounts on a stateful target: every journey
+     * creates an order, so two users on one account race on the same cart and order.
+     */
+    public static LoadProfile fromConfig(ConfigManager config) {
+        String target = config.loadBaseUrl().trim();
+        String standIn = BaseUrlOverride.get();
+        if (target.isEmpty() && standIn == null) {
+            throw new IllegalStateException("❌ load.base.url is blank - point it at a stand-in"
+                    + " (e.g. http://localhost:8089), run with standin.enabled=true,"
+                    + " or name the staging API explicitly to put load on it");
+        }
+        List<String> mobiles = split(config.loadUserMobiles());
+        if (mobiles.isEmpty()) {
+            mobiles = Arrays.asList(config.memberMobile(), config.nonMemberMobile());
+        }
+        int users = Math.max(1, config.loadUsers());
+        if (users > mobiles.size() && standIn == null) {
+            String race = users + " virtual users share " + mobiles.size() + " accounts - concurrent journeys"
+                    + " race on the same carts and orders" + (config.loadVerifyPayment() ? " and payments" : "");
+            if (!config.loadAllowSharedAccounts()) {
+                throw new IllegalStateException("❌ " + race + ". Add accounts to load.user.mobiles, lower load.users,"
+                        + " or set load.allow.shared.accounts=true for a target that keeps no state");
+            }
+            LoggerUtil.warn("⚠️ " + race + " (load.allow.shared.accounts=true)");
+        }
+        return LoadProfile.builder()
+                .model(LoadModel.fromConfig(config.loadModel()))
+                .users(users)
+                .arrivalRate(config.loadArrivalRate())
+                .rampUpSeconds(Math.max(0, config.loadRampUpSeconds()))
+                .steadySeconds(Math.max(0, config.loadSteadySeconds()))
+                .thinkTimeMs(Math.max(0, config.loadThinkTimeMs()))
+                .pacingMs(Math.max(0, config.loadPacingMs()))
+                .baseUrl(target.isEmpty() ? standIn : target)
+                .rebaseAbsoluteUrls(!target.isEmpty())
+                .mobiles(mobiles)
+                .location(config.loadLocation())
+                .brand(config.loadBrand())
+                .searchTerms(split(config.loadSearchTerms()))
+                .verifyPayment(config.loadVerifyPayment())
+                .build();
+    }
+
+    public int getDurationSeconds() {
+        return rampUpSeconds + steadySeconds;
+    }
+
+    private static List<String> split(String csv) {
+        List<String> values = new ArrayList<>();
+        if (csv != null) {
+            for (String value : csv.split(",")) {
+                if (!value.trim().isEmpty()) {
+                    values.add(value.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        String schedule = model == LoadModel.CLOSED
+                ? users + " virtual users" + (pacingMs > 0 ? " paced every " + pacingMs + "ms" : "")
+                : arrivalRate + " journeys/s (max " + users + " in flight)";
+        return "🚦 Load profile | " + model + ": " + schedule + ", ramp-up " + rampUpSeconds + "s, steady "
+                + steadySeconds + "s | target " + baseUrl + " | " + mobiles.size() + " accounts";
+    }
+}
@@ -0,0 +1,264 @@
+package com.mryoda.diagnostics.api.load;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
+import com.mryoda.diagnostics.api.http.HttpClientPool;
+import com.mryoda.diagnostics.api.http.RetryBudget;
+import com.mryoda.diagnostics.api.metrics.LatencyHistory;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+import com.mryoda.diagnostics.api.metrics.SloVerifier;
+import com.mryoda.diagnostics.api.standin.StandInServer;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import com.mryoda.diagnostics.api.utils.TaskExecutors;
+import io.restassured.RestAssured;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the booking journey ({@link BookingJourney}) as load.
+ *
+ * CLOSED model: load.users virtual users, started evenly over the ramp-up, each
+ * running journeys back to back (plus think time) until the steady state ends, or
+ * on a fixed schedule of one journey per load.pacing.ms.
+ *
+ * OPEN model: journeys start at load.arrival.rate per second (rising linearly from
+ * zero during the ramp-up) no matter how slow the server gets. At most load.users
+ * run at once, each leasing an account no other running journey holds; an arrival
+ * that finds no free account is counted as dropped instead of being queued, so a
+ * saturated server shows up as drops rather than as hidden delay.
+ *
+ * Every journey is passed the time the schedule intended it to start (arrival time,
+ * or the virtual user's paced slot), so request latencies are recorded both from the
+ * actual and from the intended send time - the latter corrected for coordinated
+ * omission (see {@link LatencyRegistry}).
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dload.model=open -Dload.arrival.rate=5 -Dload.base.url=http://localhost:8089
+ * </pre>
+ * With standin.enabled=true the journeys run against recorded fixtures on an
+ * in-process stand-in instead (see {@link StandInServer}).
+ */
+public class LoadRunner {
+
+    private static final long PROGRESS_INTERVAL_MS = 10_000;
+    private static final long OPEN_TICK_MS = 10;
+    /** CLOSED: pause of a virtual user after a failed journey (an unreachable target fails instantly) */
+    private static final long FAILURE_PAUSE_MS = 1_000;
+
+    private LoadRunner() {
+        // Utility class
+    }
+
+    public static void main(String[] args) {
+        LoadStats stats;
+        try {
+            StandInServer.startIfEnabled();
+            stats = run(LoadProfile.fromConfig());
+        } finally {
+            AsyncRequestExecutor.shutdown();
+            HttpClientPool.shutdown();
+            StandInServer.stopIfRunning();
+        }
+        LoadStats.StepStats journeys = stats.get(LoadStats.JOURNEY);
+        if (journeys == null || journeys.getCount() == journeys.getErrors()) {
+            LoggerUtil.error("❌ No journey completed successfully");
+            System.exit(1);
+        }
+        if (ConfigLoader.getConfig().sloEnabled()) {
+            List<SloVerifier.Result> slo = SloVerifier.evaluate();
+            LoggerUtil.info(SloVerifier.describe(slo));
+            if (!SloVerifier.breaches(slo).isEmpty()) {
+                LoggerUtil.error("❌ " + SloVerifier.breaches(slo).size() + " performance SLO breach(es)");
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Run the profile to completion (ramp-up + steady state + journeys still in flight)
+     */
+    public static LoadStats run(LoadProfile profile) {
+        LoggerUtil.info(profile.toString());
+        int poolPerRoute = ConfigLoader.getConfig().httpPoolMaxPerRoute();
+        if (profile.getUsers() > poolPerRoute) {
+            LoggerUtil.warn("⚠️ load.users=" + profile.getUsers() + " exceeds http.pool.max.per.route=" + poolPerRoute
+                    + " - virtual users will queue for connections");
+        }
+        RestAssured.baseURI = profile.getBaseUrl();
+
+        LoadStats stats = new LoadStats();
+        BookingJourney journey = new BookingJourney(profile, stats);
+        ExecutorService executor = TaskExecutors.newExecutor("load-vu-", profile.getUsers());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        try {
+            if (profile.getModel() == LoadModel.CLOSED) {
+                runClosed(profile, journey, executor, start, end, stats);
+            } else {
+                runOpen(profile, journey, executor, start, end, stats);
+            }
+        } finally {
+            executor.shutdown();
+            awaitInFlight(executor, stats);
+        }
+
+        LoggerUtil.info("\n🚦 LOAD RUN FINISHED (" + profile.getModel() + ")\n" + stats.describe());
+        LoggerUtil.info(LatencyRegistry.getInstance().describe());
+        LoggerUtil.info(RetryBudget.getInstance().describe());
+        LatencyHistory.archiveRun("load-" + profile.getModel().name().toLowerCase());
+        return stats;
+    }
+
+    // ============================================================
+    // CLOSED MODEL
+    // ============================================================
+
+    private static void runClosed(LoadProfile profile, BookingJourney journey, ExecutorService executor,
+                                  long start, long end, LoadStats stats) {
+        int users = profile.getUsers();
+        long rampNanos = TimeUnit.SECONDS.toNanos(profile.getRampUpSeconds());
+        long pacingNanos = TimeUnit.MILLISECONDS.toNanos(profile.getPacingMs());
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            long startAt = start + rampNanos * user / users;
+            executor.execute(() -> {
+                sleepUntil(startAt);
+                String mobile = mobileFor(profile, user);
+                long intended = startAt;
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    if (pacingNanos == 0) {
+                        boolean passed = journey.run(mobile);
+                        sleep(passed ? profile.getThinkTimeMs() : Math.max(profile.getThinkTimeMs(), FAILURE_PAUSE_MS));
+                        continue;
+                    }
+                    // Paced: the schedule keeps its own clock, a late journey does not move it
+                    boolean passed = journey.run(mobile, intended);
+                    intended += pacingNanos;
+                    long resumeAt = passed ? intended
+                            : Math.max(intended, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FAILURE_PAUSE_MS));
+                    sleepUntil(Math.min(resumeAt, end));
+                }
+            });
+        }
+        waitForEnd(end, stats);
+    }
+
+    // ============================================================
+    // OPEN MODEL
+    // ============================================================
+
+    private static void runOpen(LoadProfile profile, BookingJourney journey, ExecutorService executor,
+                                long start, long end, LoadStats stats) {
+        // One entry per slot: a journey runs on the account it polled and puts it back when
+        // done, so two running journeys never share a cart (accounts repeat only when
+        // load.allow.shared.accounts lets load.users exceed them)
+        BlockingQueue<String> freeMobiles = new ArrayBlockingQueue<>(profile.getUsers());
+        for (int i = 0; i < profile.getUsers(); i++) {
+            freeMobiles.add(mobileFor(profile, i));
+        }
+        double rampSeconds = profile.getRampUpSeconds();
+        double credits = 0;
+        long last = start;
+        long nextProgress = start + TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL_MS);
+
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= end) {
+                break;
+            }
+            double elapsedSeconds = (now - start) / 1e9;
+            double rate = rampSeconds > 0 && elapsedSeconds < rampSeconds
+                    ? profile.getArrivalRate() * elapsedSeconds / rampSeconds
+                    : profile.getArrivalRate();
+            credits += rate * (now - last) / 1e9;
+            last = now;
+
+            while (credits >= 1) {
+                credits -= 1;
+                // The credit left over says how long ago this arrival was actually due
+                long intended = rate > 0 ? now - (long) (credits / rate * 1e9) : now;
+                String mobile = freeMobiles.poll();
+                if (mobile == null) {
+                    stats.recordDropped();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        journey.run(mobile, intended);
+                    } finally {
+                        freeMobiles.add(mobile);
+                    }
+                });
+            }
+
+            if (now >= nextProgress) {
+                logProgress(stats);
+                nextProgress += TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL_MS);
+            }
+            sleep(OPEN_TICK_MS);
+        }
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    private static String mobileFor(LoadProfile profile, int user) {
+        return profile.getMobiles().get(Math.floorMod(user, profile.getMobiles().size()));
+    }
+
+    private static void waitForEnd(long end, LoadStats stats) {
+        while (true) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+            if (remainingMs <= 0) {
+                return;
+            }
+            sleep(Math.min(remainingMs, PROGRESS_INTERVAL_MS));
+            logProgress(stats);
+        }
+    }
+
+    /**
+     * Journeys already started are allowed to finish (bounded by a few request timeouts)
+     */
+    private static void awaitInFlight(ExecutorService executor, LoadStats stats) {
+        long graceMs = 3L * ConfigLoader.getConfig().apiTimeout();
+        try {
+            if (!executor.awaitTermination(graceMs, TimeUnit.MILLISECONDS)) {
+                LoggerUtil.warn("⚠️ Journeys still running after " + graceMs + " ms - interrupting them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logProgress(stats);
+    }
+
+    private static void logProgress(LoadStats stats) {
+        LoadStats.StepStats journeys = stats.get(LoadStats.JOURNEY);
+        int done = journeys == null ? 0 : journeys.getCount();
+        long failed = journeys == null ? 0 : journeys.getErrors();
+        System.out.println(String.format("⏱️  +%ds | journeys: %d done, %d failed, %d dropped | %.2f/s",
+                stats.getElapsedMs() / 1000, done, failed, stats.getDropped(), stats.getThroughput()));
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        sleep(TimeUnit.NANOSECONDS.toMillis(nanoTime - System.nanoTime()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
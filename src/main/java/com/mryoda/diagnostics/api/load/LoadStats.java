@@ -0,0 +1,159 @@
+package com.mryoda.diagnostics.api.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counters and latencies of a load run, per journey step plus one
+ * "journey" entry for complete iterations.
+ */
+public class LoadStats {
+
+    public static final String JOURNEY = "journey";
+
+    /** How late journeys started compared with the load schedule */
+    public static final String START_LAG = "startLag";
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errorsByType = new ConcurrentSkipListMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Latencies of one step (milliseconds, all samples kept for exact percentiles)
+     */
+    public static final class StepStats {
+        private final String name;
+        private long[] samples = new long[64];
+        private int count;
+        private long errors;
+        private long totalMs;
+        private long maxMs;
+
+        private StepStats(String name) {
+            this.name = name;
+        }
+
+        private synchronized void record(long millis, boolean success) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = millis;
+            totalMs += millis;
+            maxMs = Math.max(maxMs, millis);
+            if (!success) {
+                errors++;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        public synchronized long getErrors() {
+            return errors;
+        }
+
+        public synchronized double getMeanMs() {
+            return count == 0 ? 0 : (double) totalMs / count;
+        }
+
+        public synchronized long getMaxMs() {
+            return maxMs;
+        }
+
+        /**
+         * Nearest-rank percentile, e.g. percentile(95)
+         */
+        public synchronized long percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(p / 100.0 * count);
+            return sorted[Math.min(count, Math.max(1, rank)) - 1];
+        }
+    }
+
+    // ============================================================
+    // RECORDING
+    // ============================================================
+
+    public void record(String step, long millis, boolean success) {
+        steps.computeIfAbsent(step, StepStats::new).record(millis, success);
+    }
+
+    public void recordError(String step, Throwable error) {
+        String type = step + ": " + error.getClass().getSimpleName();
+        errorsByType.computeIfAbsent(type, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * OPEN model: an arrival found all load.users slots busy and was not started
+     */
+    public void recordDropped() {
+        dropped.incrementAndGet();
+    }
+
+    // ============================================================
+    // RESULTS
+    // ============================================================
+
+    public StepStats get(String step) {
+        return steps.get(step);
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getElapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Completed journeys per second since the run started
+     */
+    public double getThroughput() {
+        StepStats journeys = steps.get(JOURNEY);
+        long elapsed = getElapsedMs();
+        return journeys == null || elapsed == 0 ? 0 : (journeys.getCount() - journeys.getErrors()) * 1000.0 / elapsed;
+    }
+
+    /**
+     * Table of all steps in journey order, then complete journeys and their start lag
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("   %-14s %7s %7s %9s %7s %7s %7s %7s%n",
+                "Step", "Count", "Errors", "Mean", "p50", "p95", "p99", "Max"));
+        for (String step : BookingJourney.STEPS) {
+            appendRow(sb, steps.get(step));
+        }
+        appendRow(sb, steps.get(JOURNEY));
+        appendRow(sb, steps.get(START_LAG));
+        sb.append(String.format("   Throughput: %.2f journeys/s over %d s | dropped arrivals: %d%n",
+                getThroughput(), getElapsedMs() / 1000, dropped.get()));
+        if (!errorsByType.isEmpty()) {
+            sb.append("   Errors:\n");
+            errorsByType.forEach((type, count) -> sb.append("     ").append(count.get()).append(" × ").append(type).append('\n'));
+        }
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, StepStats s) {
+        if (s == null) {
+            return;
+        }
+        sb.append(String.format("   %-14s %7d %7d %7.1fms %5dms %5dms %5dms %5dms%n", s.getName(), s.getCount(),
+                s.getErrors(), s.getMeanMs(), s.percentile(50), s.percentile(95), s.percentile(99), s.getMaxMs()));
+    }
+}
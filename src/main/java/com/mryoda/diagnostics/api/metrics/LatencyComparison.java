@@ -0,0 +1,330 @@
+package com.mryoda.diagnostics.api.metrics;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Per-endpoint comparison of a run with a baseline run ({@link LatencyHistory}).
+ *
+ * An endpoint is flagged as a REGRESSION when either
+ * - its latencies are significantly higher (one-sided Mann-Whitney U test on the
+ *   corrected histograms, p below latency.regression.alpha) and p50 or p90 grew by
+ *   at least latency.regression.min.percent, or
+ * - its error rate is significantly higher (one-sided two-proportion z-test).
+ * The size threshold keeps large runs from flagging differences nobody cares about;
+ * the test keeps small runs from flagging noise. Endpoints with fewer than
+ * latency.regression.min.samples responses on either side are not judged on latency.
+ *
+ * <pre>
+ * mvn -Platency-compare test-compile exec:java                          (latest run vs the one before)
+ * mvn -Platency-compare test-compile exec:java -Dexec.args="20261010"   (latest run vs that baseline)
+ * mvn -Platency-compare test-compile exec:java -Dexec.args="BASE CURRENT"
+ * </pre>
+ */
+public final class LatencyComparison {
+
+    public enum Verdict { REGRESSION, IMPROVED, UNCHANGED, TOO_FEW_SAMPLES, NEW, REMOVED }
+
+    private final String baselineId;
+    private final String currentId;
+    private final List<Row> rows;
+
+    private LatencyComparison(String baselineId, String currentId, List<Row> rows) {
+        this.baselineId = baselineId;
+        this.currentId = currentId;
+        this.rows = rows;
+    }
+
+    /**
+     * One endpoint, baseline vs current
+     */
+    public static final class Row {
+        private final String endpoint;
+        private final Histogram baseline;
+        private final Histogram current;
+        private final double baselineErrorRate;
+        private final double currentErrorRate;
+        private final double latencyPValue; // NaN when not tested
+        private final double errorPValue;   // NaN when not tested
+        private final Verdict verdict;
+
+        private Row(String endpoint, Histogram baseline, Histogram current, double baselineErrorRate,
+                    double currentErrorRate, double latencyPValue, double errorPValue, Verdict verdict) {
+            this.endpoint = endpoint;
+            this.baseline = baseline;
+            this.current = current;
+            this.baselineErrorRate = baselineErrorRate;
+            this.currentErrorRate = currentErrorRate;
+            this.latencyPValue = latencyPValue;
+            this.errorPValue = errorPValue;
+            this.verdict = verdict;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        public double getLatencyPValue() {
+            return latencyPValue;
+        }
+
+        public double getErrorPValue() {
+            return errorPValue;
+        }
+    }
+
+    // ============================================================
+    // COMPARISON
+    // ============================================================
+
+    public static LatencyComparison fromConfig(LatencyHistory.Run baseline, LatencyHistory.Run current) {
+        ConfigManager config = ConfigLoader.getConfig();
+        return compare(baseline, current, config.latencyRegressionAlpha(), config.latencyRegressionMinPercent(),
+                config.latencyRegressionMinSamples());
+    }
+
+    public static LatencyComparison compare(LatencyHistory.Run baseline, LatencyHistory.Run current,
+                                            double alpha, double minPercent, int minSamples) {
+        TreeSet<String> endpoints = new TreeSet<>(baseline.getCorrected().keySet());
+        endpoints.addAll(current.getCorrected().keySet());
+        List<Row> rows = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            Histogram base = baseline.getCorrected().get(endpoint);
+            Histogram cur = current.getCorrected().get(endpoint);
+            double baseErrors = errorRate(baseline, endpoint);
+            double curErrors = errorRate(current, endpoint);
+            if (base == null || cur == null) {
+                rows.add(new Row(endpoint, base, cur, baseErrors, curErrors, Double.NaN, Double.NaN,
+                        base == null ? Verdict.NEW : Verdict.REMOVED));
+                continue;
+            }
+
+            double errorP = errorRegressionPValue(baseline.getRequests(endpoint), baseline.getErrors(endpoint),
+                    current.getRequests(endpoint), current.getErrors(endpoint));
+            boolean errorsWorse = errorP < alpha;
+
+            double latencyP = Double.NaN;
+            boolean latencyWorse = false;
+            boolean latencyBetter = false;
+            if (base.getTotalCount() >= minSamples && cur.getTotalCount() >= minSamples) {
+                double z = mannWhitneyZ(base, cur);
+                latencyP = 1 - normalCdf(z);
+                double factor = minPercent / 100.0;
+                latencyWorse = latencyP < alpha
+                        && (grew(base, cur, 50, factor) || grew(base, cur, 90, factor));
+                latencyBetter = normalCdf(z) < alpha
+                        && cur.getValueAtPercentile(50) <= base.getValueAtPercentile(50) * (1 - factor);
+            }
+
+            Verdict verdict;
+            if (latencyWorse || errorsWorse) {
+                verdict = Verdict.REGRESSION;
+            } else if (Double.isNaN(latencyP)) {
+                verdict = Verdict.TOO_FEW_SAMPLES;
+            } else if (latencyBetter) {
+                verdict = Verdict.IMPROVED;
+            } else {
+                verdict = Verdict.UNCHANGED;
+            }
+            rows.add(new Row(endpoint, base, cur, baseErrors, curErrors, latencyP, errorP, verdict));
+        }
+        return new LatencyComparison(baseline.getId(), current.getId(), rows);
+    }
+
+    private static boolean grew(Histogram base, Histogram cur, double percentile, double factor) {
+        return cur.getValueAtPercentile(percentile) >= base.getValueAtPercentile(percentile) * (1 + factor);
+    }
+
+    private static double errorRate(LatencyHistory.Run run, String endpoint) {
+        long requests = run.getRequests(endpoint);
+        return requests == 0 ? Double.NaN : 100.0 * run.getErrors(endpoint) / requests;
+    }
+
+    // ============================================================
+    // STATISTICS
+    // ============================================================
+
+    /**
+     * z-score of the Mann-Whitney U statistic of current vs baseline (positive = current
+     * slower), with tie correction. Histogram buckets are the tie groups, so this works on
+     * the recorded histograms without the raw samples.
+     */
+    static double mannWhitneyZ(Histogram baseline, Histogram current) {
+        Map<Long, long[]> buckets = new TreeMap<>();
+        addCounts(buckets, baseline, 0);
+        addCounts(buckets, current, 1);
+        double n1 = baseline.getTotalCount();
+        double n2 = current.getTotalCount();
+        double n = n1 + n2;
+
+        double rankSumCurrent = 0;
+        double tieTerm = 0;
+        double ranked = 0;
+        for (long[] counts : buckets.values()) {
+            double tied = counts[0] + counts[1];
+            double averageRank = ranked + (tied + 1) / 2;
+            rankSumCurrent += counts[1] * averageRank;
+            tieTerm += tied * tied * tied - tied;
+            ranked += tied;
+        }
+        double u = rankSumCurrent - n2 * (n2 + 1) / 2;
+        double mean = n1 * n2 / 2;
+        double variance = n1 * n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+        return variance <= 0 ? 0 : (u - mean) / Math.sqrt(variance);
+    }
+
+    private static void addCounts(Map<Long, long[]> buckets, Histogram h, int side) {
+        for (HistogramIterationValue v : h.recordedValues()) {
+            long bucket = h.highestEquivalentValue(v.getValueIteratedTo());
+            buckets.computeIfAbsent(bucket, k -> new long[2])[side] += v.getCountAtValueIteratedTo();
+        }
+    }
+
+    /**
+     * One-sided p-value that the current error rate is higher than the baseline's;
+     * NaN when there is nothing to test
+     */
+    static double errorRegressionPValue(long baseRequests, long baseErrors, long curRequests, long curErrors) {
+        if (baseRequests == 0 || curRequests == 0) {
+            return Double.NaN;
+        }
+        double p1 = (double) baseErrors / baseRequests;
+        double p2 = (double) curErrors / curRequests;
+        double pooled = (double) (baseErrors + curErrors) / (baseRequests + curRequests);
+        double se = Math.sqrt(pooled * (1 - pooled) * (1.0 / baseRequests + 1.0 / curRequests));
+        if (se == 0) {
+            return Double.NaN; // no errors on either side (or nothing but errors): nothing to test
+        }
+        return 1 - normalCdf((p2 - p1) / se);
+    }
+
+    /**
+     * Standard normal CDF (Abramowitz-Stegun 7.1.26, error below 1.5e-7)
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    // ============================================================
+    // RESULTS
+    // ============================================================
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public List<Row> getRegressions() {
+        List<Row> regressions = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.verdict == Verdict.REGRESSION) {
+                regressions.add(row);
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Table of p50/p90/p99 and error rate, baseline → current, per endpoint
+     */
+    public String describe() {
+        int width = 8;
+        for (Row row : rows) {
+            width = Math.max(width, row.endpoint.length());
+        }
+        String line = "   %-" + width + "s %13s %21s %21s %21s %15s %9s  %s%n";
+        StringBuilder sb = new StringBuilder("📊 Latency vs baseline " + baselineId + " → " + currentId + " (ms)\n");
+        sb.append(String.format(line, "Endpoint", "Count", "p50", "p90", "p99", "Errors", "p-value", "Verdict"));
+        for (Row row : rows) {
+            sb.append(String.format(line, row.endpoint,
+                    count(row.baseline) + "→" + count(row.current),
+                    change(row, 50), change(row, 90), change(row, 99),
+                    rate(row.baselineErrorRate) + "→" + rate(row.currentErrorRate),
+                    pValue(row), icon(row.verdict) + row.verdict));
+        }
+        sb.append("   ").append(getRegressions().size()).append(" regression(s)\n");
+        return sb.toString();
+    }
+
+    private static String count(Histogram h) {
+        return h == null ? "-" : String.valueOf(h.getTotalCount());
+    }
+
+    private static String change(Row row, double percentile) {
+        if (row.baseline == null || row.current == null) {
+            Histogram only = row.baseline == null ? row.current : row.baseline;
+            return String.format("%.1f", only.getValueAtPercentile(percentile) / 1000.0);
+        }
+        double base = row.baseline.getValueAtPercentile(percentile) / 1000.0;
+        double cur = row.current.getValueAtPercentile(percentile) / 1000.0;
+        return String.format("%.1f→%.1f %+.0f%%", base, cur, base == 0 ? 0 : (cur - base) * 100 / base);
+    }
+
+    private static String rate(double percent) {
+        return Double.isNaN(percent) ? "-" : String.format("%.1f%%", percent);
+    }
+
+    private static String pValue(Row row) {
+        double p = Double.isNaN(row.latencyPValue) ? row.errorPValue
+                : Double.isNaN(row.errorPValue) ? row.latencyPValue : Math.min(row.latencyPValue, row.errorPValue);
+        return Double.isNaN(p) ? "-" : String.format("%.4f", p);
+    }
+
+    private static String icon(Verdict verdict) {
+        switch (verdict) {
+            case REGRESSION:
+                return "❌ ";
+            case IMPROVED:
+                return "✅ ";
+            default:
+                return "";
+        }
+    }
+
+    // ============================================================
+    // COMMAND LINE
+    // ============================================================
+
+    /**
+     * args: [baseline [current]]; current defaults to the latest archived run, baseline to
+     * latency.baseline or the run before current. Exits 1 when a regression is flagged.
+     */
+    public static void main(String[] args) {
+        LatencyHistory history = LatencyHistory.fromConfig();
+        List<String> ids = history.runIds();
+        String current = args.length > 1 ? history.resolve(args[1], null) : ids.isEmpty() ? null : ids.get(ids.size() - 1);
+        if (current == null) {
+            LoggerUtil.error("❌ No archived latency run to compare (latency.history.dir=" + ConfigLoader.getConfig().latencyHistoryDir() + ")");
+            System.exit(2);
+        }
+        String reference = args.length > 0 ? args[0] : ConfigLoader.getConfig().latencyBaseline().trim();
+        String baseline = history.resolve(reference.isEmpty() ? LatencyHistory.PREVIOUS : reference, current);
+        if (baseline == null) {
+            LoggerUtil.error("❌ No baseline run '" + (reference.isEmpty() ? LatencyHistory.PREVIOUS : reference)
+                    + "' for " + current + " - archived runs: " + ids);
+            System.exit(2);
+        }
+
+        LatencyComparison comparison = fromConfig(history.load(baseline), history.load(current));
+        LoggerUtil.info(comparison.describe());
+        if (!comparison.getRegressions().isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.mryoda.diagnostics.api.metrics;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Per-run archive of the endpoint latencies recorded in {@link LatencyRegistry}, so a
+ * run can be compared with an earlier one ({@link LatencyComparison}).
+ *
+ * Every run gets a directory under latency.history.dir named after its start time:
+ *
+ * <pre>
+ * 20261017-210603-Regression_Suite/
+ *   latency.hlog       HdrHistogram log, one tagged histogram per endpoint (raw + corrected)
+ *   counts.properties  format version, requests and errors per endpoint
+ * </pre>
+ *
+ * Run ids sort chronologically; the newest latency.history.keep runs are kept.
+ */
+public class LatencyHistory {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String HISTOGRAM_FILE = "latency.hlog";
+    private static final String COUNTS_FILE = "counts.properties";
+    private static final String RAW_TAG = "raw.";
+    private static final String CORRECTED_TAG = "co.";
+
+    /** Baseline reference meaning "the run before the one being compared" */
+    public static final String PREVIOUS = "previous";
+
+    private final Path dir;
+    private final int keep;
+
+    public LatencyHistory(Path dir, int keep) {
+        this.dir = dir;
+        this.keep = keep;
+    }
+
+    public static LatencyHistory fromConfig() {
+        ConfigManager config = ConfigLoader.getConfig();
+        return new LatencyHistory(Paths.get(config.latencyHistoryDir()), Math.max(1, config.latencyHistoryKeep()));
+    }
+
+    /**
+     * Latencies and error counts of one run, keyed like LatencyRegistry ("GET /path")
+     */
+    public static final class Run {
+        private final String id;
+        private final Map<String, Histogram> raw;
+        private final Map<String, Histogram> corrected;
+        private final Map<String, Long> requests;
+        private final Map<String, Long> errors;
+
+        private Run(String id, Map<String, Histogram> raw, Map<String, Histogram> corrected,
+                    Map<String, Long> requests, Map<String, Long> errors) {
+            this.id = id;
+            this.raw = raw;
+            this.corrected = corrected;
+            this.requests = requests;
+            this.errors = errors;
+        }
+
+        /**
+         * Everything recorded so far in this JVM
+         */
+        public static Run of(String id, LatencyRegistry registry) {
+            Map<String, Histogram> raw = registry.snapshot();
+            Map<String, Long> requests = new TreeMap<>();
+            Map<String, Long> errors = new TreeMap<>();
+            for (String key : raw.keySet()) {
+                requests.put(key, registry.getRequests(key));
+                errors.put(key, registry.getErrors(key));
+            }
+            return new Run(id, raw, registry.correctedSnapshot(), requests, errors);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Map<String, Histogram> getRaw() {
+            return Collections.unmodifiableMap(raw);
+        }
+
+        public Map<String, Histogram> getCorrected() {
+            return Collections.unmodifiableMap(corrected);
+        }
+
+        public long getRequests(String key) {
+            return requests.getOrDefault(key, 0L);
+        }
+
+        public long getErrors(String key) {
+            return errors.getOrDefault(key, 0L);
+        }
+    }
+
+    // ============================================================
+    // WRITE
+    // ============================================================
+
+    /**
+     * Archive everything recorded in this JVM; returns the new run id
+     */
+    public String save(String label, LatencyRegistry registry) throws IOException {
+        String id = newRunId(label);
+        Run run = Run.of(id, registry);
+        Path runDir = dir.resolve(id);
+        Files.createDirectories(runDir);
+
+        long now = System.currentTimeMillis();
+        try (OutputStream out = Files.newOutputStream(runDir.resolve(HISTOGRAM_FILE));
+             PrintStream print = new PrintStream(out, false, "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(print);
+            writer.outputComment("Endpoint latency of run " + id + " (microseconds)");
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(now);
+            writer.outputLegend();
+            writeTagged(writer, RAW_TAG, run.raw, now);
+            writeTagged(writer, CORRECTED_TAG, run.corrected, now);
+        }
+
+        Properties counts = new Properties();
+        counts.setProperty("format.version", String.valueOf(FORMAT_VERSION));
+        for (String key : run.raw.keySet()) {
+            counts.setProperty(tag(key) + ".requests", String.valueOf(run.getRequests(key)));
+            counts.setProperty(tag(key) + ".errors", String.valueOf(run.getErrors(key)));
+        }
+        try (OutputStream out = Files.newOutputStream(runDir.resolve(COUNTS_FILE))) {
+            counts.store(out, "Requests and errors per endpoint of run " + id);
+        }
+
+        prune();
+        return id;
+    }
+
+    private static void writeTagged(HistogramLogWriter writer, String prefix, Map<String, Histogram> histograms, long now) {
+        histograms.forEach((key, h) -> {
+            Histogram copy = h.copy();
+            copy.setTag(prefix + tag(key));
+            copy.setStartTimeStamp(now);
+            copy.setEndTimeStamp(now);
+            writer.outputIntervalHistogram(copy);
+        });
+    }
+
+    private String newRunId(String label) {
+        String id = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        if (label != null && !label.trim().isEmpty()) {
+            id += "-" + label.trim().replaceAll("[^A-Za-z0-9._-]+", "_");
+        }
+        String unique = id;
+        for (int n = 2; Files.exists(dir.resolve(unique)); n++) {
+            unique = id + "-" + n;
+        }
+        return unique;
+    }
+
+    private void prune() {
+        List<String> ids = runIds();
+        for (String old : ids.subList(0, Math.max(0, ids.size() - keep))) {
+            try (Stream<Path> files = Files.walk(dir.resolve(old))) {
+                for (Path p : files.sorted(Collections.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(p);
+                }
+            } catch (IOException e) {
+                LoggerUtil.warn("⚠️ Could not remove old latency run " + old + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // ============================================================
+    // READ
+    // ============================================================
+
+    /**
+     * Archived run ids, oldest first
+     */
+    public List<String> runIds() {
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> runs = Files.list(dir)) {
+            return runs.filter(p -> Files.exists(p.resolve(HISTOGRAM_FILE)))
+                    .map(p -> p.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not list latency history in " + dir, e);
+        }
+    }
+
+    /**
+     * Resolve a baseline reference: a run id (or unique id prefix), or "previous" for the
+     * run archived just before current; null when there is no such run
+     */
+    public String resolve(String reference, String current) {
+        List<String> ids = runIds();
+        if (PREVIOUS.equalsIgnoreCase(reference.trim())) {
+            int index = current == null ? ids.size() : ids.indexOf(current);
+            return index > 0 ? ids.get(index - 1) : null;
+        }
+        List<String> matches = new ArrayList<>();
+        for (String id : ids) {
+            if (id.equals(reference.trim())) {
+                return id;
+            }
+            if (id.startsWith(reference.trim())) {
+                matches.add(id);
+            }
+        }
+        if (matches.size() > 1) {
+            throw new IllegalStateException("❌ Baseline '" + reference + "' matches several runs: " + matches);
+        }
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    public Run load(String id) {
+        Path runDir = dir.resolve(id);
+        Properties counts = new Properties();
+        try (InputStream in = Files.newInputStream(runDir.resolve(COUNTS_FILE))) {
+            counts.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read latency run " + runDir, e);
+        }
+        String version = counts.getProperty("format.version", "");
+        if (!String.valueOf(FORMAT_VERSION).equals(version)) {
+            throw new IllegalStateException("❌ Latency run " + id + " has format version '" + version
+                    + "', expected " + FORMAT_VERSION);
+        }
+
+        Map<String, Histogram> raw = new TreeMap<>();
+        Map<String, Histogram> corrected = new TreeMap<>();
+        try {
+            HistogramLogReader reader = new HistogramLogReader(runDir.resolve(HISTOGRAM_FILE).toFile());
+            EncodableHistogram next;
+            while ((next = reader.nextIntervalHistogram()) != null) {
+                String tag = next.getTag() == null ? "" : next.getTag();
+                if (tag.startsWith(RAW_TAG)) {
+                    raw.put(key(tag.substring(RAW_TAG.length())), (Histogram) next);
+                } else if (tag.startsWith(CORRECTED_TAG)) {
+                    corrected.put(key(tag.substring(CORRECTED_TAG.length())), (Histogram) next);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read latency run " + runDir, e);
+        }
+
+        Map<String, Long> requests = new TreeMap<>();
+        Map<String, Long> errors = new TreeMap<>();
+        for (String key : raw.keySet()) {
+            requests.put(key, Long.parseLong(counts.getProperty(tag(key) + ".requests", "0")));
+            errors.put(key, Long.parseLong(counts.getProperty(tag(key) + ".errors", "0")));
+        }
+        return new Run(id, raw, corrected, requests, errors);
+    }
+
+    // Log tags may not contain spaces or commas: "GET /path" <-> "GET:/path"
+    private static String tag(String key) {
+        return key.replaceFirst(" ", ":").replace(",", "%2C");
+    }
+
+    private static String key(String tag) {
+        return tag.replaceFirst(":", " ").replace("%2C", ",");
+    }
+
+    // ============================================================
+    // END OF RUN
+    // ============================================================
+
+    /**
+     * Archive this JVM's latencies (latency.history.enabled) and, when latency.baseline
+     * is set, log the comparison with that run. Never fails the run.
+     */
+    public static void archiveRun(String label) {
+        ConfigManager config = ConfigLoader.getConfig();
+        LatencyRegistry registry = LatencyRegistry.getInstance();
+        if (!config.latencyHistoryEnabled() || registry.snapshot().isEmpty()) {
+            return;
+        }
+        LatencyHistory history = fromConfig();
+        String id;
+        try {
+            id = history.save(label, registry);
+            LoggerUtil.info("📦 Latency run archived as " + history.dir.resolve(id));
+        } catch (IOException e) {
+            LoggerUtil.warn("⚠️ Could not archive latency run: " + e.getMessage());
+            return;
+        }
+
+        String reference = config.latencyBaseline().trim();
+        if (reference.isEmpty()) {
+            return;
+        }
+        try {
+            String baseline = history.resolve(reference, id);
+            if (baseline == null) {
+                LoggerUtil.warn("⚠️ No latency baseline '" + reference + "' in " + history.dir + " - nothing to compare");
+                return;
+            }
+            LoggerUtil.info(LatencyComparison.fromConfig(history.load(baseline), history.load(id)).describe());
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("⚠️ Latency comparison failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.mryoda.diagnostics.api.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Latency of every call made through RequestBuilder, one HdrHistogram per
+ * "METHOD endpoint-template" (e.g. GET /carts/v2/getCartById/{user_id}).
+ *
+ * - recording is wait-free (HdrHistogram {@link Recorder}), so concurrent tests and
+ *   load runs do not contend on a lock per request
+ * - values are kept in microseconds with 3 significant digits
+ * - each endpoint has an uncorrected histogram (send to completion) and a corrected
+ *   one (intended send to completion, see {@link ScheduleLag}) so stalls hidden by
+ *   coordinated omission show up in the tail; outside load runs they differ only by
+ *   the time async calls queued for an executor thread
+ * - errors (HTTP 5xx, or no response at all) are counted per endpoint for error-rate budgets
+ * - endpoints that were substituted before reaching RequestBuilder have id-like path
+ *   segments folded into {id}, so the number of histograms stays bounded
+ */
+public class LatencyRegistry {
+
+    private static volatile LatencyRegistry instance;
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final Pattern ABSOLUTE_URL = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*");
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "(?<=/)(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{24})(?=/|$)");
+
+    private static final List<String> COLUMNS = Arrays.asList("Mean", "p50", "p90", "p99", "p99.9", "Max");
+
+    private final Map<String, EndpointSeries> series = new ConcurrentHashMap<>();
+    private final AtomicBoolean lagged = new AtomicBoolean();
+
+    private LatencyRegistry() {
+    }
+
+    public static LatencyRegistry getInstance() {
+        if (instance == null) {
+            synchronized (LatencyRegistry.class) {
+                if (instance == null) {
+                    instance = new LatencyRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Samples of one histogram: writers record into the Recorder, readers fold its
+     * interval histograms into the running total
+     */
+    private static final class Series {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS); // guarded by this
+        private Histogram interval; // guarded by this, recycled between snapshots
+
+        private synchronized Histogram snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return total.copy();
+        }
+    }
+
+    private static final class EndpointSeries {
+        private final Series uncorrected = new Series();
+        private final Series corrected = new Series();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder failures = new LongAdder(); // errors without a response (not in the histograms)
+    }
+
+    // ============================================================
+    // RECORDING
+    // ============================================================
+
+    public void record(String method, String endpoint, long nanos) {
+        record(method, endpoint, nanos, 0);
+    }
+
+    /**
+     * @param nanos    send to completion
+     * @param lagNanos how much later than intended the request was sent
+     */
+    public void record(String method, String endpoint, long nanos, long lagNanos) {
+        EndpointSeries s = endpointSeries(method, endpoint);
+        s.uncorrected.recorder.recordValue(micros(nanos));
+        s.corrected.recorder.recordValue(micros(nanos + Math.max(0, lagNanos)));
+        if (lagNanos > 0 && !lagged.get()) {
+            lagged.set(true);
+        }
+    }
+
+    /**
+     * A response that counts against the error budget (HTTP 5xx); its latency is recorded as well
+     */
+    public void recordError(String method, String endpoint) {
+        endpointSeries(method, endpoint).errors.increment();
+    }
+
+    /**
+     * A request that produced no response (connect/read timeout, connection reset)
+     */
+    public void recordFailure(String method, String endpoint) {
+        EndpointSeries s = endpointSeries(method, endpoint);
+        s.failures.increment();
+        s.errors.increment();
+    }
+
+    private EndpointSeries endpointSeries(String method, String endpoint) {
+        return series.computeIfAbsent(key(method, endpoint), k -> new EndpointSeries());
+    }
+
+    /**
+     * Histogram key, e.g. "GET /carts/v2/getCartById/{user_id}"
+     */
+    public static String key(String method, String endpoint) {
+        return method + " " + template(endpoint);
+    }
+
+    private static long micros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Path part of the endpoint without query string, ids folded into {id}
+     */
+    public static String template(String endpoint) {
+        if (endpoint == null || endpoint.isEmpty()) {
+            return "/";
+        }
+        String path = ABSOLUTE_URL.matcher(endpoint).replaceFirst("");
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("{id}");
+    }
+
+    // ============================================================
+    // RESULTS
+    // ============================================================
+
+    /**
+     * Accumulated send-to-completion histograms since the start of the run, sorted by endpoint
+     */
+    public Map<String, Histogram> snapshot() {
+        Map<String, Histogram> result = new TreeMap<>();
+        series.forEach((key, s) -> result.put(key, s.uncorrected.snapshot()));
+        return result;
+    }
+
+    /**
+     * Accumulated intended-send-to-completion histograms, sorted by endpoint
+     */
+    public Map<String, Histogram> correctedSnapshot() {
+        Map<String, Histogram> result = new TreeMap<>();
+        series.forEach((key, s) -> result.put(key, s.corrected.snapshot()));
+        return result;
+    }
+
+    /**
+     * Requests sent to the endpoint key, with or without a response
+     */
+    public long getRequests(String key) {
+        EndpointSeries s = series.get(key);
+        return s == null ? 0 : s.uncorrected.snapshot().getTotalCount() + s.failures.sum();
+    }
+
+    /**
+     * Requests to the endpoint key that answered 5xx or not at all
+     */
+    public long getErrors(String key) {
+        EndpointSeries s = series.get(key);
+        return s == null ? 0 : s.errors.sum();
+    }
+
+    /**
+     * Whether any request went out later than intended
+     */
+    public boolean hasLag() {
+        return lagged.get();
+    }
+
+    public void reset() {
+        series.clear();
+        lagged.set(false);
+    }
+
+    /**
+     * Table of p50/p90/p99/p99.9/max per endpoint (milliseconds); when requests went out
+     * late, the coordinated-omission corrected percentiles follow on the same row
+     */
+    public String describe() {
+        Map<String, Histogram> histograms = snapshot();
+        if (histograms.isEmpty()) {
+            return "⏱️ Endpoint latency | no requests recorded";
+        }
+        Map<String, Histogram> corrected = hasLag() ? correctedSnapshot() : null;
+        int width = 8;
+        for (String key : histograms.keySet()) {
+            width = Math.max(width, key.length());
+        }
+        String cells = " %8s %8s %8s %8s %8s %8s";
+        String row = "   %-" + width + "s %7s %7s" + cells + (corrected == null ? "" : " |" + cells) + "%n";
+        StringBuilder sb = new StringBuilder("⏱️ Endpoint latency (ms)");
+        sb.append(corrected == null ? "\n" : " - uncorrected | corrected for coordinated omission\n");
+        List<Object> header = new ArrayList<>(Arrays.asList("Endpoint", "Count", "Errors"));
+        header.addAll(COLUMNS);
+        if (corrected != null) {
+            header.addAll(COLUMNS);
+        }
+        sb.append(String.format(row, header.toArray()));
+        histograms.forEach((key, h) -> {
+            List<Object> values = new ArrayList<>(Arrays.asList(key, h.getTotalCount(), getErrors(key)));
+            values.addAll(cells(h));
+            if (corrected != null) {
+                values.addAll(cells(corrected.get(key)));
+            }
+            sb.append(String.format(row, values.toArray()));
+        });
+        return sb.toString();
+    }
+
+    private static List<String> cells(Histogram h) {
+        return Arrays.asList(millis(h.getMean()), millis(h.getValueAtPercentile(50)),
+                millis(h.getValueAtPercentile(90)), millis(h.getValueAtPercentile(99)),
+                millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+    }
+
+    private static String millis(double micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.mryoda.diagnostics.api.metrics;
+
+/**
+ * How late the current thread's work started compared with when the load schedule
+ * intended it to start.
+ *
+ * A blocking client that waits for a stalled server sends its next request late and
+ * never measures the wait (coordinated omission). The load runner sets the lag at the
+ * start of each journey; RequestBuilder adds it to every request of that journey to
+ * record the latency the user would have seen had the journey started on time.
+ * Threads that never set it (regular test runs) have no lag.
+ */
+public final class ScheduleLag {
+
+    private static final ThreadLocal<Long> LAG_NANOS = ThreadLocal.withInitial(() -> 0L);
+
+    private ScheduleLag() {
+        // Utility class
+    }
+
+    /**
+     * Work intended to start at intendedNanos (System.nanoTime()) starts now
+     */
+    public static void begin(long intendedNanos) {
+        LAG_NANOS.set(Math.max(0, System.nanoTime() - intendedNanos));
+    }
+
+    public static long currentNanos() {
+        return LAG_NANOS.get();
+    }
+
+    public static void clear() {
+        LAG_NANOS.remove();
+    }
+}
@@ -0,0 +1,248 @@
+package com.mryoda.diagnostics.api.metrics;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Checks the latencies recorded in {@link LatencyRegistry} against the per-endpoint
+ * budgets of slo.file (default slo.properties), e.g.
+ *
+ * <pre>
+ * CREATE_ORDER.p99=800
+ * CREATE_ORDER.error.rate=1
+ * </pre>
+ *
+ * Keys name an {@link APIEndpoints} constant; all HTTP methods sent to that endpoint
+ * are evaluated together. Latency budgets are in milliseconds against the corrected
+ * histograms, error.rate is a percentage. An actual value above its budget is a breach.
+ *
+ * Endpoints called fewer than slo.min.samples times are reported but never breach:
+ * the "p99" of three functional-suite calls is just the slowest of them.
+ */
+public final class SloVerifier {
+
+    private static final String ERROR_RATE = "error.rate";
+
+    private SloVerifier() {
+        // Utility class
+    }
+
+    /**
+     * Outcome of one budget line
+     */
+    public static final class Result {
+        private final String endpoint;
+        private final String metric;
+        private final double budget;
+        private final double actual; // NaN when the endpoint was not called
+        private final long requests;
+        private final boolean enoughSamples;
+
+        private Result(String endpoint, String metric, double budget, double actual, long requests,
+                       boolean enoughSamples) {
+            this.endpoint = endpoint;
+            this.metric = metric;
+            this.budget = budget;
+            this.actual = actual;
+            this.requests = requests;
+            this.enoughSamples = enoughSamples;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getBudget() {
+            return budget;
+        }
+
+        public double getActual() {
+            return actual;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public boolean hasData() {
+            return !Double.isNaN(actual);
+        }
+
+        /**
+         * Whether the endpoint was called at least slo.min.samples times
+         */
+        public boolean hasEnoughSamples() {
+            return enoughSamples;
+        }
+
+        public boolean isBreached() {
+            return hasData() && enoughSamples && actual > budget;
+        }
+    }
+
+    // ============================================================
+    // EVALUATION
+    // ============================================================
+
+    /**
+     * Evaluate slo.file against everything recorded so far in this JVM
+     */
+    public static List<Result> evaluate() {
+        return evaluate(load(ConfigLoader.getConfig().sloFile()), LatencyRegistry.getInstance(),
+                ConfigLoader.getConfig().sloMinSamples());
+    }
+
+    public static List<Result> evaluate(Properties budgets, LatencyRegistry registry, int minSamples) {
+        Map<String, Histogram> histograms = registry.correctedSnapshot();
+        List<Result> results = new ArrayList<>();
+        for (String key : new TreeSet<>(budgets.stringPropertyNames())) {
+            int dot = key.indexOf('.');
+            if (dot <= 0 || dot == key.length() - 1) {
+                throw new IllegalStateException("❌ Invalid SLO key '" + key + "' (expected <ENDPOINT>.<metric>)");
+            }
+            String endpoint = key.substring(0, dot);
+            String metric = key.substring(dot + 1);
+            double budget = parseBudget(key, budgets.getProperty(key));
+            String path = LatencyRegistry.template(APIEndpoints.byName(endpoint));
+
+            Histogram merged = new Histogram(3);
+            long requests = 0;
+            long errors = 0;
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                if (path.equals(entry.getKey().substring(entry.getKey().indexOf(' ') + 1))) {
+                    merged.add(entry.getValue());
+                    requests += registry.getRequests(entry.getKey());
+                    errors += registry.getErrors(entry.getKey());
+                }
+            }
+            results.add(new Result(endpoint, metric, budget, actual(key, metric, merged, requests, errors), requests,
+                    requests >= minSamples));
+        }
+        return results;
+    }
+
+    private static double actual(String key, String metric, Histogram h, long requests, long errors) {
+        if (ERROR_RATE.equals(metric)) {
+            return requests == 0 ? Double.NaN : errors * 100.0 / requests;
+        }
+        if (h.getTotalCount() == 0) {
+            // Still validate the metric name, so a typo is not hidden behind "no data"
+            percentileOf(key, metric);
+            return Double.NaN;
+        }
+        if ("max".equals(metric)) {
+            return h.getMaxValue() / 1000.0;
+        }
+        if ("mean".equals(metric)) {
+            return h.getMean() / 1000.0;
+        }
+        return h.getValueAtPercentile(percentileOf(key, metric)) / 1000.0;
+    }
+
+    private static double percentileOf(String key, String metric) {
+        if ("max".equals(metric) || "mean".equals(metric)) {
+            return 100;
+        }
+        try {
+            if (metric.startsWith("p")) {
+                double p = Double.parseDouble(metric.substring(1));
+                if (p > 0 && p <= 100) {
+                    return p;
+                }
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalStateException("❌ Unknown SLO metric in '" + key
+                + "' (expected p50, p90, p99, p99.9, max, mean or error.rate)");
+    }
+
+    private static double parseBudget(String key, String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("❌ SLO budget of '" + key + "' is not a number: " + value, e);
+        }
+    }
+
+    public static Properties load(String resource) {
+        Properties budgets = new Properties();
+        try (InputStream in = SloVerifier.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("❌ SLO file not found on classpath: " + resource);
+            }
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read SLO file " + resource, e);
+        }
+        return budgets;
+    }
+
+    // ============================================================
+    // REPORTING
+    // ============================================================
+
+    public static List<Result> breaches(List<Result> results) {
+        List<Result> breaches = new ArrayList<>();
+        for (Result r : results) {
+            if (r.isBreached()) {
+                breaches.add(r);
+            }
+        }
+        return breaches;
+    }
+
+    /**
+     * Table of all budgets with their actual values
+     */
+    public static String describe(List<Result> results) {
+        StringBuilder sb = new StringBuilder("🎯 Performance SLOs\n");
+        appendTable(sb, results);
+        return sb.toString();
+    }
+
+    /**
+     * Fail with a table of the breached budgets
+     */
+    public static void assertMet(List<Result> results) {
+        List<Result> breaches = breaches(results);
+        if (!breaches.isEmpty()) {
+            StringBuilder sb = new StringBuilder("❌ " + breaches.size() + " performance SLO breach(es)\n");
+            appendTable(sb, breaches);
+            throw new AssertionError(sb.toString());
+        }
+    }
+
+    private static void appendTable(StringBuilder sb, List<Result> results) {
+        int width = 8;
+        for (Result r : results) {
+            width = Math.max(width, r.getEndpoint().length());
+        }
+        String row = "   %-" + width + "s %-10s %10s %10s %8s  %s%n";
+        sb.append(String.format(row, "Endpoint", "Metric", "Budget", "Actual", "Requests", "Status"));
+        for (Result r : results) {
+            String status = !r.hasData() ? "– no data"
+                    : !r.hasEnoughSamples() ? "– too few samples"
+                    : r.isBreached() ? "❌ BREACH" : "✅";
+            sb.append(String.format(row, r.getEndpoint(), r.getMetric(), format(r.getMetric(), r.getBudget()),
+                    r.hasData() ? format(r.getMetric(), r.getActual()) : "-", r.getRequests(), status));
+        }
+    }
+
+    private static String format(String metric, double value) {
+        return ERROR_RATE.equals(metric) ? String.format("%.2f%%", value) : String.format("%.1fms", value);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mryoda.diagnostics.api.pojo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of an OTP login, as cached by TokenCache
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginSession {
+    private String userType;
+    private String mobile;
+    private String token;
+    private String firstName;
+    private String lastName;
+    private String userId;
+    private String email;
+    /** access_token expiry (epoch seconds) */
+    private long expiresAt;
+}
@@ -0,0 +1,25 @@
+package com.mryoda.diagnostics.api.pojo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One reference-data response (locations, brands) as kept by ReferenceDataCache
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReferenceSnapshot {
+    private String key;
+    /** Raw JSON response body */
+    private String body;
+    /** ETag response header, sent back as If-None-Match */
+    private String etag;
+    /** Last-Modified response header, sent back as If-Modified-Since */
+    private String lastModified;
+    /** When the body was fetched or last revalidated (epoch millis) */
+    private long fetchedAt;
+}
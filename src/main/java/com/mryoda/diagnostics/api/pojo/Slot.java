@@ -0,0 +1,29 @@
+package com.mryoda.diagnostics.api.pojo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One entry of the GET_SLOT_COUNT_BY_TIME response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Slot {
+    /** Date the slot was probed for */
+    private LocalDate date;
+    private String guid;
+    private String startTime;
+    private String endTime;
+    /** Remaining capacity; null when the API sent no usable count */
+    private Integer count;
+
+    public boolean isAvailable() {
+        return guid != null && startTime != null && count != null && count > 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mryoda.diagnostics.api.standin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Content of one fixture file: every recorded exchange of "METHOD path-template",
+ * e.g. GET /carts/v2/getCartById/{user_id}, oldest first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EndpointRecording {
+    private String method;
+    private String path;
+    @Builder.Default
+    private List<RecordedExchange> exchanges = new ArrayList<>();
+}
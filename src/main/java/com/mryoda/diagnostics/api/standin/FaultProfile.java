@@ -0,0 +1,397 @@
+package com.mryoda.diagnostics.api.standin;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.metrics.LatencyRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * Latency and faults the stand-in injects per endpoint, read from the scenario named by
+ * standin.scenario (classpath standin/&lt;name&gt;.properties), e.g.
+ *
+ * <pre>
+ * *.latency=uniform:20-60
+ * GET_SLOT_COUNT_BY_TIME.latency=lognormal:800,0.5
+ * VERIFY_PAYMENT.error.rate=20
+ * VERIFY_PAYMENT.timeout.rate=5
+ * CREATE_ORDER.throttle.rps=2
+ * </pre>
+ *
+ * Keys name an {@link APIEndpoints} constant, or * for every endpoint; an endpoint's own
+ * settings override the * ones one by one (endpoints without lines of their own share
+ * one * throttle and concurrency limit). Settings:
+ *
+ * <pre>
+ * latency          fixed:MS | uniform:MIN-MAX | lognormal:MEDIAN,SIGMA   (ms)
+ * error.rate       % of requests answered with error.status (default 503)
+ * timeout.rate     % of requests held for standin.fault.hang.ms, then dropped without a response
+ * reset.rate       % of requests whose connection is closed without a response
+ * throttle.rps     requests per second (burst throttle.burst, default = rps); excess gets 429
+ * max.concurrent   requests in flight; excess gets 503 right away
+ * </pre>
+ *
+ * Every endpoint draws from its own random sequence seeded from standin.fault.seed, so
+ * a scenario injects the same faults on every run (for one client thread per endpoint;
+ * concurrent clients keep the rates, not the order).
+ */
+public class FaultProfile {
+
+    /** What happens to one request */
+    public enum Fault {
+        NONE, ERROR, TIMEOUT, RESET
+    }
+
+    private static final String ALL = "*";
+
+    private final String name;
+    private final long hangMs;
+    private final List<EndpointFaults> endpoints = new ArrayList<>(); // most literal path first
+    private final EndpointFaults fallback;
+
+    private FaultProfile(String name, long hangMs, EndpointFaults fallback) {
+        this.name = name;
+        this.hangMs = hangMs;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Scenario from standin.scenario; without one only standin.latency.ms / jitter apply
+     */
+    public static FaultProfile fromConfig() {
+        ConfigManager config = ConfigLoader.getConfig();
+        String scenario = config.standinScenario().trim();
+        Properties settings = scenario.isEmpty() ? new Properties() : load("standin/" + scenario + ".properties");
+        // standin.latency.ms / jitter unless the scenario sets its own default latency
+        long base = Math.max(0, config.standinLatencyMs());
+        settings.putIfAbsent(ALL + ".latency", "uniform:" + base + "-" + (base + Math.max(0, config.standinLatencyJitterMs())));
+        return parse(scenario.isEmpty() ? "none" : scenario, settings, config.standinFaultSeed(), config.standinFaultHangMs());
+    }
+
+    public static FaultProfile parse(String name, Properties settings, long seed, long hangMs) {
+        Map<String, Map<String, String>> byEndpoint = new LinkedHashMap<>();
+        for (String key : new TreeSet<>(settings.stringPropertyNames())) {
+            int dot = key.indexOf('.');
+            if (dot <= 0 || dot == key.length() - 1) {
+                throw new IllegalStateException("❌ Invalid stand-in scenario key '" + key
+                        + "' in " + name + " (expected <ENDPOINT>.<setting>)");
+            }
+            byEndpoint.computeIfAbsent(key.substring(0, dot), k -> new LinkedHashMap<>())
+                    .put(key.substring(dot + 1), settings.getProperty(key).trim());
+        }
+
+        Map<String, String> defaults = byEndpoint.getOrDefault(ALL, new LinkedHashMap<>());
+        FaultProfile profile = new FaultProfile(name, hangMs,
+                new EndpointFaults(ALL, null, defaults, new Random(seed)));
+        byEndpoint.forEach((endpoint, own) -> {
+            if (ALL.equals(endpoint)) {
+                return;
+            }
+            String template = LatencyRegistry.template(APIEndpoints.byName(endpoint));
+            Map<String, String> merged = new LinkedHashMap<>(defaults);
+            merged.putAll(own);
+            profile.endpoints.add(new EndpointFaults(endpoint, template, merged, new Random(seed ^ template.hashCode())));
+        });
+        profile.endpoints.sort((a, b) -> b.template.length() - a.template.length());
+        return profile;
+    }
+
+    private static Properties load(String resource) {
+        Properties settings = new Properties();
+        try (InputStream in = FaultProfile.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("❌ Stand-in scenario not found on classpath: " + resource);
+            }
+            settings.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not read stand-in scenario " + resource, e);
+        }
+        return settings;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * How long a TIMEOUT request is held before its connection is dropped
+     */
+    public long getHangMs() {
+        return hangMs;
+    }
+
+    /**
+     * Settings of the endpoint serving this request path (the * settings when none is configured)
+     */
+    public EndpointFaults forPath(String path) {
+        for (EndpointFaults e : endpoints) {
+            if (e.pattern.matcher(path).matches()) {
+                return e;
+            }
+        }
+        return fallback;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("🧪 Stand-in scenario '" + name + "'\n");
+        sb.append("   ").append(fallback).append('\n');
+        for (EndpointFaults e : endpoints) {
+            sb.append("   ").append(e).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // ============================================================
+    // PER ENDPOINT
+    // ============================================================
+
+    public static final class EndpointFaults {
+        private final String endpoint;
+        private final String template;
+        private final Pattern pattern;
+        private final Random random; // guarded by this
+        private final LatencyDistribution latency;
+        private final double errorRate;
+        private final int errorStatus;
+        private final double timeoutRate;
+        private final double resetRate;
+        private final TokenBucket throttle;
+        private final Semaphore concurrency;
+        private final String summary;
+
+        private EndpointFaults(String endpoint, String template, Map<String, String> settings, Random random) {
+            this.endpoint = endpoint;
+            this.template = template == null ? "" : template;
+            this.pattern = template == null ? null : StandInServer.pathPattern(template);
+            this.random = random;
+            Map<String, String> s = new LinkedHashMap<>(settings);
+            this.latency = LatencyDistribution.parse(endpoint, s.remove("latency"));
+            this.errorRate = percent(endpoint, "error.rate", s.remove("error.rate"));
+            this.errorStatus = (int) number(endpoint, "error.status", s.remove("error.status"), 503);
+            this.timeoutRate = percent(endpoint, "timeout.rate", s.remove("timeout.rate"));
+            this.resetRate = percent(endpoint, "reset.rate", s.remove("reset.rate"));
+            double rps = number(endpoint, "throttle.rps", s.remove("throttle.rps"), 0);
+            double burst = number(endpoint, "throttle.burst", s.remove("throttle.burst"), Math.max(1, rps));
+            this.throttle = rps > 0 ? new TokenBucket(rps, burst) : null;
+            int maxConcurrent = (int) number(endpoint, "max.concurrent", s.remove("max.concurrent"), 0);
+            this.concurrency = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+            if (!s.isEmpty()) {
+                throw new IllegalStateException("❌ Unknown stand-in scenario setting(s) for " + endpoint + ": " + s.keySet()
+                        + " (expected latency, error.rate, error.status, timeout.rate, reset.rate,"
+                        + " throttle.rps, throttle.burst or max.concurrent)");
+            }
+            this.summary = String.format("%-22s latency %s | 5xx %.1f%% (%d) | timeout %.1f%% | reset %.1f%%%s%s",
+                    endpoint, latency, errorRate, errorStatus, timeoutRate, resetRate,
+                    rps > 0 ? String.format(" | %.1f rps", rps) : "",
+                    maxConcurrent > 0 ? " | max " + maxConcurrent + " in flight" : "");
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Take a slot of max.concurrent; false when all are in use. Pair with release().
+         */
+        public boolean tryEnter() {
+            return concurrency == null || concurrency.tryAcquire();
+        }
+
+        public void release() {
+            if (concurrency != null) {
+                concurrency.release();
+            }
+        }
+
+        /**
+         * False when throttle.rps is exceeded
+         */
+        public boolean tryPass() {
+            return throttle == null || throttle.tryTake();
+        }
+
+        public synchronized long sampleLatencyMs() {
+            return latency.sampleMs(random);
+        }
+
+        public synchronized Fault roll() {
+            double r = random.nextDouble() * 100;
+            if (r < resetRate) {
+                return Fault.RESET;
+            }
+            if (r < resetRate + timeoutRate) {
+                return Fault.TIMEOUT;
+            }
+            if (r < resetRate + timeoutRate + errorRate) {
+                return Fault.ERROR;
+            }
+            return Fault.NONE;
+        }
+
+        public int getErrorStatus() {
+            return errorStatus;
+        }
+
+        @Override
+        public String toString() {
+            return summary;
+        }
+
+        private static double percent(String endpoint, String setting, String value) {
+            double p = number(endpoint, setting, value, 0);
+            if (p < 0 || p > 100) {
+                throw new IllegalStateException("❌ " + endpoint + "." + setting + " must be a percentage (0-100): " + value);
+            }
+            return p;
+        }
+
+        private static double number(String endpoint, String setting, String value, double fallback) {
+            if (value == null || value.isEmpty()) {
+                return fallback;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("❌ " + endpoint + "." + setting + " is not a number: " + value, e);
+            }
+        }
+    }
+
+    /**
+     * Requests per second with bursts of up to capacity
+     */
+    private static final class TokenBucket {
+        private final double perNano;
+        private final double capacity;
+        private double tokens; // guarded by this
+        private long refilledAt; // guarded by this
+
+        private TokenBucket(double perSecond, double capacity) {
+            this.perNano = perSecond / 1e9;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private synchronized boolean tryTake() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * perNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+
+    // ============================================================
+    // LATENCY
+    // ============================================================
+
+    /**
+     * fixed:MS, uniform:MIN-MAX or lognormal:MEDIAN,SIGMA (milliseconds)
+     */
+    public abstract static class LatencyDistribution {
+
+        private static final long MAX_MS = 120_000;
+
+        abstract long sampleMs(Random random);
+
+        static LatencyDistribution parse(String endpoint, String spec) {
+            if (spec == null || spec.isEmpty()) {
+                return fixed(0);
+            }
+            int colon = spec.indexOf(':');
+            String kind = colon < 0 ? spec : spec.substring(0, colon).trim();
+            String args = colon < 0 ? "" : spec.substring(colon + 1).trim();
+            try {
+                switch (kind) {
+                    case "fixed":
+                        return fixed(Long.parseLong(args));
+                    case "uniform": {
+                        String[] range = args.split("-");
+                        return uniform(Long.parseLong(range[0].trim()), Long.parseLong(range[1].trim()));
+                    }
+                    case "lognormal": {
+                        String[] params = args.split(",");
+                        return lognormal(Double.parseDouble(params[0].trim()), Double.parseDouble(params[1].trim()));
+                    }
+                    default:
+                        break;
+                }
+            } catch (RuntimeException e) {
+                // reported below
+            }
+            throw new IllegalStateException("❌ Invalid latency '" + spec + "' for " + endpoint
+                    + " (expected fixed:MS, uniform:MIN-MAX or lognormal:MEDIAN,SIGMA)");
+        }
+
+        static LatencyDistribution fixed(long ms) {
+            return new LatencyDistribution() {
+                @Override
+                long sampleMs(Random random) {
+                    return ms;
+                }
+
+                @Override
+                public String toString() {
+                    return ms + "ms";
+                }
+            };
+        }
+
+        static LatencyDistribution uniform(long min, long max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("uniform range");
+            }
+            if (min == max) {
+                return fixed(min);
+            }
+            return new LatencyDistribution() {
+                @Override
+                long sampleMs(Random random) {
+                    return min + (long) (random.nextDouble() * (max - min + 1));
+                }
+
+                @Override
+                public String toString() {
+                    return min + "-" + max + "ms";
+                }
+            };
+        }
+
+        /**
+         * Long right tail: median * e^(sigma * N(0,1)), capped at two minutes
+         */
+        static LatencyDistribution lognormal(double median, double sigma) {
+            if (median <= 0 || sigma < 0) {
+                throw new IllegalArgumentException("lognormal parameters");
+            }
+            return new LatencyDistribution() {
+                @Override
+                long sampleMs(Random random) {
+                    return Math.min(MAX_MS, Math.round(median * Math.exp(sigma * random.nextGaussian())));
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("lognormal(median %.0fms, σ %.2f, p99 ≈ %.0fms)",
+                            median, sigma, median * Math.exp(2.326 * sigma));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.mryoda.diagnostics.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Directory of fixture files, one JSON file ({@link EndpointRecording}) per
+ * "METHOD path-template", named e.g. GET__carts_v2_getCartById_{user_id}.json.
+ *
+ * A new exchange replaces an earlier one with the same normalized query and request
+ * body, so recording the suite again refreshes the fixtures instead of growing them;
+ * at most maxPerEndpoint distinct exchanges are kept per file (oldest dropped).
+ */
+public class FixtureStore {
+
+    static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path dir;
+    private final Map<String, EndpointRecording> files = new HashMap<>(); // guarded by this
+
+    public FixtureStore(Path dir) {
+        this.dir = dir;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    // ============================================================
+    // WRITE
+    // ============================================================
+
+    public synchronized void add(String method, String path, RecordedExchange exchange, int maxPerEndpoint)
+            throws IOException {
+        String name = fileName(method, path);
+        EndpointRecording recording = files.get(name);
+        if (recording == null) {
+            Path file = dir.resolve(name);
+            recording = Files.exists(file)
+                    ? read(file)
+                    : EndpointRecording.builder().method(method).path(path).build();
+            files.put(name, recording);
+        }
+
+        LocalDate today = LocalDate.now();
+        recording.getExchanges().removeIf(e -> sameRequest(e, exchange, today));
+        recording.getExchanges().add(exchange);
+        while (recording.getExchanges().size() > Math.max(1, maxPerEndpoint)) {
+            recording.getExchanges().remove(0);
+        }
+
+        Files.createDirectories(dir);
+        Path tmp = dir.resolve(name + ".tmp");
+        MAPPER.writeValue(tmp.toFile(), recording);
+        Files.move(tmp, dir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static String fileName(String method, String path) {
+        String flat = path.replaceAll("^/+", "").replaceAll("[^A-Za-z0-9{}._-]+", "_");
+        return method.toUpperCase() + "__" + (flat.isEmpty() ? "root" : flat) + ".json";
+    }
+
+    private static boolean sameRequest(RecordedExchange a, RecordedExchange b, LocalDate today) {
+        return normalizedQuery(a.getQuery(), today).equals(normalizedQuery(b.getQuery(), today))
+                && Objects.equals(normalizedBody(a.getRequestBody(), today), normalizedBody(b.getRequestBody(), today));
+    }
+
+    // ============================================================
+    // READ
+    // ============================================================
+
+    /**
+     * Every fixture file of the directory (none when it does not exist)
+     */
+    public List<EndpointRecording> loadAll() throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        List<EndpointRecording> recordings = new ArrayList<>();
+        try (Stream<Path> list = Files.list(dir)) {
+            for (Path file : list.filter(p -> p.toString().endsWith(".json")).sorted().collect(Collectors.toList())) {
+                recordings.add(read(file));
+            }
+        }
+        return recordings;
+    }
+
+    private static EndpointRecording read(Path file) throws IOException {
+        try {
+            return MAPPER.readValue(file.toFile(), EndpointRecording.class);
+        } catch (IOException e) {
+            throw new IOException("❌ Invalid fixture file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // ============================================================
+    // BODIES AND MATCHING
+    // ============================================================
+
+    /**
+     * Body as stored in a fixture: JSON when it parses, text otherwise, null when empty
+     */
+    public static JsonNode toNode(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        try {
+            JsonNode node = MAPPER.readTree(text);
+            return node == null || node.isMissingNode() ? TextNode.valueOf(text) : node;
+        } catch (IOException e) {
+            return TextNode.valueOf(text);
+        }
+    }
+
+    static String toText(JsonNode node) {
+        if (node == null) {
+            return null;
+        }
+        return node.isTextual() ? node.textValue() : node.toString();
+    }
+
+    /**
+     * Request body in its normalized form (see FixtureTemplates.normalize), compared as a
+     * JSON tree so property order does not matter
+     */
+    static JsonNode normalizedBody(JsonNode body, LocalDate day) {
+        return toNode(FixtureTemplates.normalize(toText(body), day));
+    }
+
+    static Map<String, String> normalizedQuery(Map<String, String> query, LocalDate day) {
+        Map<String, String> normalized = new HashMap<>();
+        if (query != null) {
+            query.forEach((k, v) -> normalized.put(k, FixtureTemplates.normalize(Objects.toString(v, ""), day)));
+        }
+        return normalized;
+    }
+}
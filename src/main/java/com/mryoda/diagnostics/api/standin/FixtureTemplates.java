@@ -0,0 +1,113 @@
+package com.mryoda.diagnostics.api.standin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Placeholders that keep recordings valid on any later day:
+ *
+ * <pre>
+ * {{token}}     JWT (access token) - replayed as a fresh unsigned JWT valid for an hour,
+ *               so TokenCache sees a future "exp"
+ * {{date:+N}}   yyyy-MM-dd date N days after the recording day - replayed relative to today,
+ *               so slots found by SlotFinder are still in the future
+ * {{uuid}}      replayed as a random GUID; recordings keep their GUIDs, so this is for
+ *               hand-edited fixtures (and GUIDs are folded into it for matching)
+ * {{id}}        24-hex object id (matching only, see normalize())
+ * </pre>
+ */
+public final class FixtureTemplates {
+
+    private static final Pattern TOKEN = Pattern.compile("eyJ[A-Za-z0-9_-]+\\.eyJ[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern DATE = Pattern.compile("(?<![0-9])\\d{4}-\\d{2}-\\d{2}(?![0-9])");
+    private static final Pattern UUID_TEXT = Pattern.compile(
+            "(?<![0-9a-fA-F-])[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?![0-9a-fA-F-])");
+    private static final Pattern OBJECT_ID = Pattern.compile("(?<![0-9a-fA-F])[0-9a-fA-F]{24}(?![0-9a-fA-F])");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(token|uuid|date:([+-]\\d+))}}");
+
+    private static final long TOKEN_TTL_SECONDS = 3600;
+
+    private FixtureTemplates() {
+        // Utility class
+    }
+
+    /**
+     * Replace tokens and dates of a recorded body (day = recording day)
+     */
+    public static String templatize(String text, LocalDate day) {
+        if (text == null) {
+            return null;
+        }
+        String result = TOKEN.matcher(text).replaceAll("{{token}}");
+        Matcher m = DATE.matcher(result);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String replacement = m.group();
+            try {
+                long offset = ChronoUnit.DAYS.between(day, LocalDate.parse(m.group()));
+                replacement = "{{date:" + (offset < 0 ? "" : "+") + offset + "}}";
+            } catch (DateTimeParseException e) {
+                // Looks like a date but is not one (e.g. 2026-13-45) - keep as recorded
+            }
+            m.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Form used to match requests: templated, with GUIDs and object ids folded as well,
+     * so a request for another user or cart still finds its recording
+     */
+    public static String normalize(String text, LocalDate day) {
+        if (text == null) {
+            return null;
+        }
+        String result = templatize(text, day);
+        result = UUID_TEXT.matcher(result).replaceAll("{{uuid}}");
+        return OBJECT_ID.matcher(result).replaceAll("{{id}}");
+    }
+
+    /**
+     * Fill the placeholders of a recorded body for a response sent today
+     */
+    public static String render(String text, LocalDate today) {
+        if (text == null || !text.contains("{{")) {
+            return text;
+        }
+        String token = freshToken();
+        Matcher m = PLACEHOLDER.matcher(text);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String replacement;
+            if ("token".equals(m.group(1))) {
+                replacement = token;
+            } else if ("uuid".equals(m.group(1))) {
+                replacement = UUID.randomUUID().toString();
+            } else {
+                replacement = today.plusDays(Long.parseLong(m.group(2).replace("+", ""))).toString();
+            }
+            m.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Unsigned JWT ("alg": "none") - nothing in the framework verifies signatures
+     */
+    static String freshToken() {
+        long now = System.currentTimeMillis() / 1000;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = "{\"alg\":\"none\",\"typ\":\"JWT\"}";
+        String payload = "{\"sub\":\"stand-in\",\"iat\":" + now + ",\"exp\":" + (now + TOKEN_TTL_SECONDS) + "}";
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".";
+    }
+}
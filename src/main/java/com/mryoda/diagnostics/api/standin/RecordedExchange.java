@@ -0,0 +1,27 @@
+package com.mryoda.diagnostics.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One recorded request/response pair. Bodies are JSON when they parse as JSON,
+ * otherwise text; tokens and dates in them are already templated (see FixtureTemplates).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordedExchange {
+    private Map<String, String> query;
+    private JsonNode requestBody;
+    private int status;
+    private String contentType;
+    private JsonNode responseBody;
+    /** Day of the recording (yyyy-MM-dd), for reference only - dates are stored relative to it */
+    private String recordedOn;
+}
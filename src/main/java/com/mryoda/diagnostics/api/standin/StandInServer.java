@@ -0,0 +1,366 @@
+package com.mryoda.diagnostics.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.http.BaseUrlOverride;
+import com.mryoda.diagnostics.api.utils.LoggerUtil;
+import com.mryoda.diagnostics.api.utils.TaskExecutors;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the API that replays the fixtures recorded by RecordingFilter,
+ * so the suite and load runs can execute against localhost at a controlled speed.
+ *
+ * - a request matches the fixture file of its method and endpoint template
+ *   ("{user_id}" matches any segment; with several candidates the most literal path wins)
+ * - within the file, the exchange with the same query and request body (normalized:
+ *   tokens, dates, GUIDs and object ids ignored) is replayed; failing that one with
+ *   the same query, failing that the latest recording
+ * - response placeholders are rendered per response: fresh tokens, dates relative
+ *   to today (see {@link FixtureTemplates})
+ * - every response is delayed by standin.latency.ms plus up to standin.latency.jitter.ms,
+ *   or as the standin.scenario says, which can also inject 5xx errors, timeouts,
+ *   dropped connections and throttling per endpoint (see {@link FaultProfile})
+ * - a request without a recording gets 404 and is logged once per endpoint
+ *
+ * Standalone (for load.base.url=http://localhost:8089):
+ * <pre>
+ * mvn -Pstandin test-compile exec:java
+ * </pre>
+ * In-process: standin.enabled=true starts it for the suite (TestListener) or a load
+ * run, and every RequestBuilder call is sent to it (see {@link BaseUrlOverride}).
+ */
+public class StandInServer {
+
+    private static volatile StandInServer running;
+
+    private final FixtureStore store;
+    private final int port;
+    private final FaultProfile faults;
+    private final int threads;
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Set<String> unmatchedLogged = ConcurrentHashMap.newKeySet();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private final Map<FaultProfile.Fault, LongAdder> injected = new EnumMap<>(FaultProfile.Fault.class);
+    private final LongAdder throttled = new LongAdder();
+    private HttpServer server;
+    private ExecutorService executor;
+    private volatile int boundPort;
+
+    public StandInServer(Path fixturesDir, int port, FaultProfile faults, int threads) {
+        this.store = new FixtureStore(fixturesDir);
+        this.port = port;
+        this.faults = faults;
+        this.threads = Math.max(1, threads);
+        for (FaultProfile.Fault fault : FaultProfile.Fault.values()) {
+            injected.put(fault, new LongAdder());
+        }
+    }
+
+    public static StandInServer fromConfig() {
+        ConfigManager config = ConfigLoader.getConfig();
+        return new StandInServer(Paths.get(config.standinFixturesDir()), config.standinPort(),
+                FaultProfile.fromConfig(), config.standinThreads());
+    }
+
+    /**
+     * All recorded exchanges of one fixture file, with the pattern its paths must match
+     */
+    private static final class Route {
+        private final String method;
+        private final String path;
+        private final Pattern pattern;
+        private final int literalLength;
+        private final List<RecordedExchange> exchanges;
+        // Normalized once - stored bodies are already templated, so the day does not matter
+        private final List<Map<String, String>> queries = new ArrayList<>();
+        private final List<JsonNode> bodies = new ArrayList<>();
+
+        private Route(EndpointRecording recording) {
+            this.method = recording.getMethod().toUpperCase();
+            this.path = recording.getPath();
+            this.pattern = pathPattern(path);
+            this.literalLength = path.replaceAll("\\{[^}]*}", "").length();
+            this.exchanges = recording.getExchanges();
+            LocalDate today = LocalDate.now();
+            for (RecordedExchange e : exchanges) {
+                queries.add(FixtureStore.normalizedQuery(e.getQuery(), today));
+                bodies.add(FixtureStore.normalizedBody(e.getRequestBody(), today));
+            }
+        }
+    }
+
+    /**
+     * Request paths of an endpoint template: "{user_id}" matches any one segment
+     */
+    static Pattern pathPattern(String template) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : template.split("(?=\\{)|(?<=})")) {
+            if (part.startsWith("{") && part.endsWith("}")) {
+                regex.append("[^/]+");
+            } else {
+                regex.append(Pattern.quote(part));
+            }
+        }
+        return Pattern.compile(regex + "/?");
+    }
+
+    // ============================================================
+    // LIFECYCLE
+    // ============================================================
+
+    public synchronized StandInServer start() throws IOException {
+        if (server != null) {
+            return this;
+        }
+        routes.clear();
+        int exchanges = 0;
+        for (EndpointRecording recording : store.loadAll()) {
+            routes.add(new Route(recording));
+            exchanges += recording.getExchanges().size();
+        }
+        routes.sort(Comparator.comparingInt((Route r) -> r.literalLength).reversed());
+        if (routes.isEmpty()) {
+            LoggerUtil.warn("⚠️ Stand-in has no fixtures in " + store.getDir().toAbsolutePath()
+                    + " - record some with http.record.dir first");
+        }
+
+        // The JDK server leaves Nagle on; with keep-alive clients every response would then
+        // wait for a delayed ACK and the stand-in would be slower than standin.latency.ms.
+        // Read once when the server classes load, so it must be set before the first create()
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        executor = TaskExecutors.newExecutor("standin-", threads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        boundPort = server.getAddress().getPort();
+        LoggerUtil.info("🎭 Stand-in serving " + exchanges + " recorded exchange(s) of " + routes.size()
+                + " endpoint(s) on " + getBaseUrl());
+        LoggerUtil.info(faults.toString());
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            LoggerUtil.info(describe());
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + (boundPort != 0 ? boundPort : port);
+    }
+
+    public String describe() {
+        return "🎭 Stand-in | served " + served.sum() + " | unmatched " + unmatched.sum()
+                + " | injected 5xx " + injected.get(FaultProfile.Fault.ERROR).sum()
+                + ", timeouts " + injected.get(FaultProfile.Fault.TIMEOUT).sum()
+                + ", resets " + injected.get(FaultProfile.Fault.RESET).sum()
+                + ", throttled " + throttled.sum() + " | " + getBaseUrl();
+    }
+
+    /**
+     * Start the stand-in for this run when standin.enabled, and send every RequestBuilder
+     * call to it. Safe to call more than once.
+     */
+    public static synchronized void startIfEnabled() {
+        if (running != null || !ConfigLoader.getConfig().standinEnabled()) {
+            return;
+        }
+        try {
+            StandInServer standIn = fromConfig().start();
+            BaseUrlOverride.set(standIn.getBaseUrl());
+            running = standIn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("❌ Could not start the stand-in on port "
+                    + ConfigLoader.getConfig().standinPort(), e);
+        }
+    }
+
+    public static synchronized void stopIfRunning() {
+        if (running != null) {
+            BaseUrlOverride.clear();
+            running.stop();
+            running = null;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandInServer standIn = fromConfig().start();
+        Runtime.getRuntime().addShutdownHook(new Thread(standIn::stop));
+        LoggerUtil.info("🎭 Stand-in running - stop with Ctrl+C");
+        Thread.currentThread().join();
+    }
+
+    // ============================================================
+    // REPLAY
+    // ============================================================
+
+    private void handle(HttpExchange http) throws IOException {
+        String path = http.getRequestURI().getRawPath();
+        FaultProfile.EndpointFaults endpoint = faults.forPath(path);
+        if (!endpoint.tryEnter()) {
+            throttled.increment();
+            try {
+                send(http, 503, "application/json", "{\"success\":false,\"message\":\"Too many concurrent requests\"}");
+            } finally {
+                http.close();
+            }
+            return;
+        }
+        try {
+            if (!endpoint.tryPass()) {
+                throttled.increment();
+                http.getResponseHeaders().set("Retry-After", "1");
+                send(http, 429, "application/json", "{\"success\":false,\"message\":\"Too many requests\"}");
+                return;
+            }
+            FaultProfile.Fault fault = endpoint.roll();
+            injected.get(fault).increment();
+            switch (fault) {
+                case RESET:
+                    // Closed without a response - the client sees the connection drop
+                    return;
+                case TIMEOUT:
+                    sleep(faults.getHangMs());
+                    return;
+                case ERROR:
+                    sleep(endpoint.sampleLatencyMs());
+                    send(http, endpoint.getErrorStatus(), "application/json",
+                            "{\"success\":false,\"message\":\"Injected fault\"}");
+                    return;
+                default:
+                    replay(http, path, endpoint.sampleLatencyMs());
+            }
+        } finally {
+            endpoint.release();
+            http.close();
+        }
+    }
+
+    private void replay(HttpExchange http, String path, long latencyMs) throws IOException {
+        String method = http.getRequestMethod().toUpperCase();
+        Route route = route(method, path);
+        if (route == null || route.exchanges.isEmpty()) {
+            unmatched.increment();
+            if (unmatchedLogged.add(method + " " + path)) {
+                LoggerUtil.warn("⚠️ Stand-in has no recording for " + method + " " + path);
+            }
+            sleep(latencyMs);
+            send(http, 404, "application/json",
+                    "{\"success\":false,\"message\":\"No recording for " + method + " " + path + "\"}");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        String body;
+        try (InputStream in = http.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        RecordedExchange exchange = select(route, parseQuery(http.getRequestURI().getRawQuery()),
+                FixtureStore.toNode(body), today);
+        sleep(latencyMs);
+        served.increment();
+        send(http, exchange.getStatus(), exchange.getContentType(),
+                FixtureTemplates.render(FixtureStore.toText(exchange.getResponseBody()), today));
+    }
+
+    private Route route(String method, String path) {
+        for (Route route : routes) {
+            if (route.method.equals(method) && route.pattern.matcher(path).matches()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static RecordedExchange select(Route route, Map<String, String> query, JsonNode body, LocalDate today) {
+        Map<String, String> wantedQuery = FixtureStore.normalizedQuery(query, today);
+        JsonNode wantedBody = FixtureStore.normalizedBody(body, today);
+        RecordedExchange sameQuery = null;
+        // Latest first - a refreshed recording wins over an older one
+        for (int i = route.exchanges.size() - 1; i >= 0; i--) {
+            RecordedExchange e = route.exchanges.get(i);
+            if (!wantedQuery.equals(route.queries.get(i))) {
+                continue;
+            }
+            if (Objects.equals(wantedBody, route.bodies.get(i))) {
+                return e;
+            }
+            if (sameQuery == null) {
+                sameQuery = e;
+            }
+        }
+        return sameQuery != null ? sameQuery : route.exchanges.get(route.exchanges.size() - 1);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sleep(long ms) {
+        if (ms > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(ms);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void send(HttpExchange http, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        if (contentType != null && !contentType.isEmpty()) {
+            http.getResponseHeaders().set("Content-Type", contentType);
+        }
+        http.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = http.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -107,7 +107,7 @@ public class AssertionUtil {
      * Verify JSON field exists
      */
     public static void verifyJsonFieldExists(Response response, String fieldPath) {
-        Object value = response.jsonPath().get(fieldPath);
+        Object value = ParsedResponse.of(response).get(fieldPath);
         assertNotNull(value, "Field '" + fieldPath + "' does not exist in response");
         LoggerUtil.info("Field Exists: " + fieldPath);
     }
@@ -116,7 +116,7 @@ public class AssertionUtil {
      * Verify JSON field value
      */
     public static void verifyJsonFieldValue(Response response, String fieldPath, Object expectedValue) {
-        Object actualValue = response.jsonPath().get(fieldPath);
+        Object actualValue = ParsedResponse.of(response).get(fieldPath);
         assertEquals(actualValue, expectedValue, 
             "Field value mismatch for '" + fieldPath + "'. Expected: " + expectedValue + ", Actual: " + actualValue);
         LoggerUtil.info("Field Value Verified: " + fieldPath + " = " + actualValue);
@@ -126,7 +126,7 @@ public class AssertionUtil {
      * Verify JSON field is not null
      */
     public static void verifyJsonFieldNotNull(Response response, String fieldPath) {
-        Object value = response.jsonPath().get(fieldPath);
+        Object value = ParsedResponse.of(response).get(fieldPath);
         assertNotNull(value, "Field '" + fieldPath + "' is null");
         LoggerUtil.info("Field Not Null: " + fieldPath);
     }
@@ -135,7 +135,7 @@ public class AssertionUtil {
      * Verify JSON array size
      */
     public static void verifyJsonArraySize(Response response, String arrayPath, int expectedSize) {
-        int actualSize = response.jsonPath().getList(arrayPath).size();
+        int actualSize = ParsedResponse.of(response).size(arrayPath);
         assertEquals(actualSize, expectedSize, 
             "Array size mismatch for '" + arrayPath + "'. Expected: " + expectedSize + ", Actual: " + actualSize);
         LoggerUtil.info("Array Size Verified: " + arrayPath + " = " + actualSize);
@@ -197,7 +197,7 @@ public class AssertionUtil {
 
     public static void softVerifyJsonFieldValue(Response response, String fieldPath, Object expectedValue) {
         if (softAssert != null) {
-            Object actualValue = response.jsonPath().get(fieldPath);
+            Object actualValue = ParsedResponse.of(response).get(fieldPath);
             softAssert.assertThat(actualValue)
                 .as("Field Value Verification for: " + fieldPath)
                 .isEqualTo(expectedValue);
@@ -0,0 +1,308 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the test catalog of one location.
+ *
+ * The catalog is paged through tests/adminTests once per location; afterwards
+ * names are resolved locally:
+ * <ol>
+ *   <li>exact match on the normalized name (case, whitespace and dashes ignored)</li>
+ *   <li>slug, other_names and search_keywords</li>
+ *   <li>containment either way, found through trigram postings</li>
+ * </ol>
+ * These are the exact and partial matches the search API path accepts. Near misses
+ * ("Bone Profile 3" vs "Bone Profile 1") are never resolved here: siblings differ by a
+ * single digit, so they go to the search API like any other index miss.
+ * Instances are immutable and shared by all sessions; GlobalSearchHelper only
+ * calls the search API for names the index cannot resolve.
+ */
+public final class CatalogIndex {
+
+    private static final Map<String, CatalogIndex> INDEXES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> BUILD_LOCKS = new ConcurrentHashMap<>();
+
+    private final String locationId;
+    private final List<Map<String, Object>> tests;
+    private final String[] nameKeys;
+    private final int[] trigramCounts;
+    private final Map<String, List<Integer>> byName = new HashMap<>();
+    private final Map<String, List<Integer>> byAlias = new HashMap<>();
+    private final Map<String, List<Integer>> byTrigram = new HashMap<>();
+    private final int pages;
+    private final boolean complete;
+    private final long buildMs;
+
+    private CatalogIndex(String locationId, List<Map<String, Object>> tests, int pages, boolean complete,
+                         long buildMs) {
+        this.locationId = locationId;
+        this.tests = Collections.unmodifiableList(new ArrayList<>(tests));
+        this.nameKeys = new String[this.tests.size()];
+        this.trigramCounts = new int[this.tests.size()];
+        this.pages = pages;
+        this.complete = complete;
+        this.buildMs = buildMs;
+
+        for (int i = 0; i < this.tests.size(); i++) {
+            Map<String, Object> test = this.tests.get(i);
+            String key = TestNameNormalizer.canonicalKey(displayName(test));
+            nameKeys[i] = key;
+            if (key.isEmpty()) {
+                continue;
+            }
+            byName.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+
+            addAlias(test.get("slug"), i);
+            addAlias(test.get("other_names"), i);
+            addAlias(test.get("search_keywords"), i);
+
+            Set<String> trigrams = trigrams(key);
+            trigramCounts[i] = trigrams.size();
+            for (String trigram : trigrams) {
+                byTrigram.computeIfAbsent(trigram, k -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    // ============================================================
+    // SHARED INDEXES
+    // ============================================================
+
+    /**
+     * Index of the location, paging the catalog on first use (one build per location)
+     */
+    public static CatalogIndex forLocation(String locationId, String token) {
+        CatalogIndex index = INDEXES.get(locationId);
+        if (index != null) {
+            return index;
+        }
+        synchronized (BUILD_LOCKS.computeIfAbsent(locationId, k -> new Object())) {
+            index = INDEXES.get(locationId);
+            if (index == null) {
+                index = load(locationId, token);
+                INDEXES.put(locationId, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Like {@link #forLocation} but returns null when the index is disabled or cannot be built,
+     * so callers fall back to the search API
+     */
+    public static CatalogIndex forLocationOrNull(String locationId, String token) {
+        if (locationId == null || !ConfigLoader.getConfig().catalogIndexEnabled()) {
+            return null;
+        }
+        try {
+            return forLocation(locationId, token);
+        } catch (RuntimeException | AssertionError e) {
+            System.out.println("⚠️ Catalog index unavailable for location " + locationId
+                    + " (" + e.getMessage() + ") - using search API");
+            return null;
+        }
+    }
+
+    /**
+     * Index built from already fetched tests (fixtures, cached catalogs); not shared
+     */
+    public static CatalogIndex of(String locationId, List<Map<String, Object>> tests) {
+        return new CatalogIndex(locationId, tests, 0, true, 0);
+    }
+
+    private static CatalogIndex load(String locationId, String token) {
+        int pageSize = Math.max(1, ConfigLoader.getConfig().catalogIndexPageSize());
+        int maxPages = Math.max(1, ConfigLoader.getConfig().catalogIndexMaxPages());
+        long start = System.nanoTime();
+
+        List<Map<String, Object>> tests = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        int page = 0;
+        boolean complete = false;
+        while (page < maxPages) {
+            page++;
+            Response response = new RequestBuilder()
+                    .setEndpoint(APIEndpoints.GLOBAL_SEARCH)
+                    .addHeader("Authorization", "Bearer " + token)
+                    .addBodyParam("page", page)
+                    .addBodyParam("limit", pageSize)
+                    .addBodyParam("search_string", "")
+                    .addBodyParam("sort_by", "Type")
+                    .addBodyParam("location", locationId)
+                    .expectStatus(200)
+                    .post();
+
+            List<Map<String, Object>> data = ParsedResponse.of(response).getList("data");
+            if (data == null || data.isEmpty()) {
+                complete = true;
+                break;
+            }
+            int added = 0;
+            for (Map<String, Object> test : data) {
+                Object id = test.get("_id");
+                if (id != null && seenIds.add(id.toString())) {
+                    tests.add(test);
+                    added++;
+                }
+            }
+            // Short page, or the API ignores paging and keeps returning the same tests
+            if (data.size() < pageSize || added == 0) {
+                complete = true;
+                break;
+            }
+        }
+
+        CatalogIndex index = new CatalogIndex(locationId, tests, page, complete, (System.nanoTime() - start) / 1_000_000);
+        System.out.println("📚 " + index.describe());
+        return index;
+    }
+
+    // ============================================================
+    // LOOKUP
+    // ============================================================
+
+    /**
+     * Tests matching the requested name, best first (empty on an index miss)
+     */
+    public List<Map<String, Object>> lookup(String testName) {
+        String key = TestNameNormalizer.canonicalKey(testName);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> exact = byName.get(key);
+        if (exact != null) {
+            return select(exact);
+        }
+        List<Integer> alias = byAlias.get(key);
+        if (alias != null) {
+            return select(alias);
+        }
+        // A name missing from a truncated catalog may still exist - let the API decide
+        if (!complete) {
+            return Collections.emptyList();
+        }
+
+        // Count shared trigrams per candidate
+        Set<String> queryTrigrams = trigrams(key);
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            List<Integer> postings = byTrigram.get(trigram);
+            if (postings != null) {
+                for (Integer i : postings) {
+                    shared.merge(i, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Integer> contained = new ArrayList<>();
+        Map<Integer, Double> scores = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+            int i = entry.getKey();
+            int common = entry.getValue();
+            // All trigrams of the shorter side present - verify real containment
+            if ((common == queryTrigrams.size() || common == trigramCounts[i])
+                    && (nameKeys[i].contains(key) || key.contains(nameKeys[i]))) {
+                contained.add(i);
+                // Dice similarity: the closest containing name first
+                scores.put(i, 2.0 * common / (queryTrigrams.size() + trigramCounts[i]));
+            }
+        }
+
+        contained.sort((a, b) -> {
+            int byScore = Double.compare(scores.get(b), scores.get(a));
+            return byScore != 0 ? byScore : Integer.compare(a, b);
+        });
+        return select(contained);
+    }
+
+    public String getLocationId() {
+        return locationId;
+    }
+
+    public int size() {
+        return tests.size();
+    }
+
+    public String describe() {
+        return "Catalog index [" + locationId + "]: " + tests.size() + " tests, "
+                + byName.size() + " names, " + byAlias.size() + " aliases, "
+                + byTrigram.size() + " trigrams (" + pages + " pages" + (complete ? "" : ", truncated")
+                + ", " + buildMs + "ms)";
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    // ============================================================
+    // INTERNALS
+    // ============================================================
+
+    private List<Map<String, Object>> select(List<Integer> positions) {
+        List<Map<String, Object>> result = new ArrayList<>(positions.size());
+        for (Integer i : positions) {
+            result.add(tests.get(i));
+        }
+        return result;
+    }
+
+    private void addAlias(Object value, int position) {
+        if (value instanceof List) {
+            for (Object alias : (List<?>) value) {
+                addAlias(alias, position);
+            }
+        } else if (value != null) {
+            String key = TestNameNormalizer.canonicalKey(value.toString());
+            if (!key.isEmpty()) {
+                List<Integer> positions = byAlias.computeIfAbsent(key, k -> new ArrayList<>(1));
+                if (!positions.contains(position)) {
+                    positions.add(position);
+                }
+            }
+        }
+    }
+
+    /**
+     * test_name, or product_name / name / title, or the slug
+     */
+    private static String displayName(Map<String, Object> test) {
+        if (test.get("_id") == null) {
+            return null;
+        }
+        for (String field : new String[] {"test_name", "product_name", "name", "title", "slug"}) {
+            Object value = test.get(field);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Distinct character trigrams of a key, padded so short keys still have some
+     */
+    private static Set<String> trigrams(String key) {
+        String padded = " " + key + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,197 @@
+package com.mryoda.diagnostics.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, shared snapshot of read-mostly catalog data: locations, brands and
+ * tests found by global search.
+ *
+ * All sessions read the same instance without copying. Writers go through
+ * {@link #update(Consumer)}: changes are collected in a pending builder and a new
+ * snapshot is published on the next read, so a burst of storeLocation() calls
+ * costs a single copy instead of one per call.
+ */
+public final class CatalogSnapshot {
+
+    private static final Object LOCK = new Object();
+    private static volatile CatalogSnapshot current = new Builder().build();
+    private static volatile boolean dirty;
+    private static Builder pending; // guarded by LOCK
+
+    private final Map<String, String> locations;
+    private final Map<String, String> locationLatitudes;
+    private final Map<String, String> locationLongitudes;
+    private final Map<String, String> locationCities;
+    private final Map<String, String> locationStates;
+    private final Map<String, String> brands;
+    private final Map<String, Map<String, Object>> storedTests;
+    private final List<Map<String, Object>> globalTests;
+
+    private CatalogSnapshot(Builder b) {
+        this.locations = Collections.unmodifiableMap(new LinkedHashMap<>(b.locations));
+        this.locationLatitudes = Collections.unmodifiableMap(new LinkedHashMap<>(b.locationLatitudes));
+        this.locationLongitudes = Collections.unmodifiableMap(new LinkedHashMap<>(b.locationLongitudes));
+        this.locationCities = Collections.unmodifiableMap(new LinkedHashMap<>(b.locationCities));
+        this.locationStates = Collections.unmodifiableMap(new LinkedHashMap<>(b.locationStates));
+        this.brands = Collections.unmodifiableMap(new LinkedHashMap<>(b.brands));
+        this.storedTests = Collections.unmodifiableMap(new LinkedHashMap<>(b.storedTests));
+        this.globalTests = Collections.unmodifiableList(new ArrayList<>(b.globalTests));
+    }
+
+    // ============================================================
+    // SHARED INSTANCE
+    // ============================================================
+
+    /**
+     * Latest published snapshot (publishes pending changes first)
+     */
+    public static CatalogSnapshot current() {
+        if (dirty) {
+            synchronized (LOCK) {
+                if (pending != null) {
+                    current = pending.build();
+                    pending = null;
+                }
+                dirty = false;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Apply a change; visible to all sessions from the next {@link #current()} call
+     */
+    public static void update(Consumer<Builder> change) {
+        synchronized (LOCK) {
+            if (pending == null) {
+                pending = current.toBuilder();
+            }
+            change.accept(pending);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Replace the whole catalog at once (e.g. loaded from a cache)
+     */
+    public static void publish(CatalogSnapshot snapshot) {
+        synchronized (LOCK) {
+            pending = null;
+            dirty = false;
+            current = snapshot;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder b = new Builder();
+        b.locations.putAll(locations);
+        b.locationLatitudes.putAll(locationLatitudes);
+        b.locationLongitudes.putAll(locationLongitudes);
+        b.locationCities.putAll(locationCities);
+        b.locationStates.putAll(locationStates);
+        b.brands.putAll(brands);
+        b.storedTests.putAll(storedTests);
+        b.globalTests.addAll(globalTests);
+        return b;
+    }
+
+    // ============================================================
+    // READ ACCESS (all views are unmodifiable)
+    // ============================================================
+
+    public Map<String, String> getLocations() {
+        return locations;
+    }
+
+    public Map<String, String> getLocationLatitudes() {
+        return locationLatitudes;
+    }
+
+    public Map<String, String> getLocationLongitudes() {
+        return locationLongitudes;
+    }
+
+    public Map<String, String> getLocationCities() {
+        return locationCities;
+    }
+
+    public Map<String, String> getLocationStates() {
+        return locationStates;
+    }
+
+    public Map<String, String> getBrands() {
+        return brands;
+    }
+
+    public Map<String, Map<String, Object>> getStoredTests() {
+        return storedTests;
+    }
+
+    public List<Map<String, Object>> getGlobalTests() {
+        return globalTests;
+    }
+
+    // ============================================================
+    // BUILDER
+    // ============================================================
+
+    public static final class Builder {
+        private final Map<String, String> locations = new LinkedHashMap<>();
+        private final Map<String, String> locationLatitudes = new LinkedHashMap<>();
+        private final Map<String, String> locationLongitudes = new LinkedHashMap<>();
+        private final Map<String, String> locationCities = new LinkedHashMap<>();
+        private final Map<String, String> locationStates = new LinkedHashMap<>();
+        private final Map<String, String> brands = new LinkedHashMap<>();
+        private final Map<String, Map<String, Object>> storedTests = new LinkedHashMap<>();
+        private final List<Map<String, Object>> globalTests = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder location(String title, String id) {
+            locations.put(title, id);
+            return this;
+        }
+
+        public Builder locationCoordinates(String title, String latitude, String longitude) {
+            locationLatitudes.put(title, latitude);
+            locationLongitudes.put(title, longitude);
+            return this;
+        }
+
+        public Builder locationCityState(String title, String city, String state) {
+            locationCities.put(title, city);
+            locationStates.put(title, state);
+            return this;
+        }
+
+        public Builder brand(String title, String brandId) {
+            brands.put(title, brandId);
+            return this;
+        }
+
+        public Builder storedTest(String testName, Map<String, Object> details) {
+            storedTests.put(testName, Collections.unmodifiableMap(new LinkedHashMap<>(details)));
+            return this;
+        }
+
+        public Builder globalTests(List<Map<String, Object>> tests) {
+            globalTests.clear();
+            globalTests.addAll(tests);
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            return new CatalogSnapshot(this);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mryoda.diagnostics.api.utils;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -200,6 +201,46 @@ public class CrossAPIValidator {
         System.out.println("   📊 Total cart items validated: " + matchCount + "/" + cartItems.size());
     }
 
+    /**
+     * Validate that all cart items match tests from GlobalSearchAPI,
+     * reading items straight from the parsed GetCartById body
+     * 
+     * @param cart - Parsed GetCartById response
+     * @param itemsPath - Path to the items array (e.g. "data.cart_items" or "data[0].product_details")
+     */
+    public static void validateCartItemsMatchTests(ParsedResponse cart, String itemsPath) {
+        System.out.println("\n🔄 Cross-API Validation: Cart Items vs Global Search Tests");
+        
+        Map<String, Map<String, Object>> storedTests = RequestContext.getAllTests();
+        
+        AssertionUtil.verifyNotNull(storedTests, "Stored tests from GlobalSearchAPI");
+        AssertionUtil.verifyTrue(cart.has(itemsPath), "Cart items should not be null");
+        
+        // Index stored tests by product id once instead of scanning per cart item
+        Map<String, String> testNameByProductId = new HashMap<>();
+        for (Map.Entry<String, Map<String, Object>> entry : storedTests.entrySet()) {
+            Object storedProductId = entry.getValue().get("_id");
+            if (storedProductId != null) {
+                testNameByProductId.putIfAbsent(storedProductId.toString(), entry.getKey());
+            }
+        }
+        
+        List<ParsedResponse> cartItems = cart.elements(itemsPath);
+        int matchCount = 0;
+        
+        for (ParsedResponse cartItem : cartItems) {
+            String productId = cartItem.getString("product_id");
+            String testName = productId != null ? testNameByProductId.get(productId) : null;
+            
+            if (testName != null) {
+                System.out.println("   ✅ Cart item matches test: " + testName + " (ID: " + productId + ")");
+                matchCount++;
+            }
+        }
+        
+        System.out.println("   📊 Total cart items validated: " + matchCount + "/" + cartItems.size());
+    }
+
     /**
      * Print comprehensive validation summary
      * 
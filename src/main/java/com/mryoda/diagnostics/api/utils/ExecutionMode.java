@@ -0,0 +1,26 @@
+package com.mryoda.diagnostics.api.utils;
+
+/**
+ * How blocking work (HTTP calls, per-user flow steps) is scheduled.
+ * Configured via execution.mode (the java21 Maven profile sets "virtual").
+ */
+public enum ExecutionMode {
+
+    /** Bounded pools of platform threads (Java 11+) */
+    PLATFORM,
+
+    /** One virtual thread per task (Java 21+); falls back to PLATFORM on older JVMs */
+    VIRTUAL;
+
+    public static ExecutionMode fromConfig(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return PLATFORM;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("❌ Unknown execution.mode: '" + value
+                    + "' (expected platform or virtual)", e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.mryoda.diagnostics.api.utils;
 
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
 import io.restassured.response.Response;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 public class GlobalSearchHelper {
 
@@ -15,7 +20,7 @@ public class GlobalSearchHelper {
         if (str == null || str.isEmpty()) {
             return str;
         }
-        String[] words = str.split("\\s+");
+        String[] words = TestNameNormalizer.WHITESPACE.split(str);
         StringBuilder result = new StringBuilder();
         for (String word : words) {
             if (word.length() > 0) {
@@ -29,6 +34,21 @@ public class GlobalSearchHelper {
         return result.toString().trim();
     }
 
+    /**
+     * Token of any logged-in user - the catalog is the same for all of them, so a flow
+     * with only NON_MEMBER or NEW_USER does not depend on a MEMBER login
+     */
+    private static String searchToken() {
+        String[] tokens = {RequestContext.getMemberToken(), RequestContext.getNonMemberToken(),
+                RequestContext.getNewUserToken(), RequestContext.getToken()};
+        for (String token : tokens) {
+            if (token != null) {
+                return token;
+            }
+        }
+        return null;
+    }
+
     /**
      * Perform global test search using search string and selected location
      */
@@ -38,10 +58,7 @@ public class GlobalSearchHelper {
         String locationId = RequestContext.getSelectedLocationId();
         
         // Get token from RequestContext
-        String token = RequestContext.getMemberToken();
-        if (token == null) {
-            token = RequestContext.getToken();
-        }
+        String token = searchToken();
         
         // Verify token is not null
         if (token == null) {
@@ -68,44 +85,48 @@ public class GlobalSearchHelper {
     /**
      * Extract only the required tests & store them in RequestContext
      * Maps all fields from API response JSON structure
-     * Uses tests already found and stored by searchTestsByFullNames
+     * Uses the tests matched by searchTestsByFullNames
      */
+    public static void extractAndStoreTests(SearchResult result, String[] requiredTests) {
+        extractAndStoreTests(result.getMatches(), requiredTests);
+    }
+
+    /**
+     * Compatibility adapter for callers still holding a Response: the response is
+     * ignored and the tests stored by searchTestsByFullNames are used instead
+     */
+    @Deprecated
     public static void extractAndStoreTests(Response response, String[] requiredTests) {
+        extractAndStoreTests(RequestContext.getGlobalTests(), requiredTests);
+    }
 
-        // Use tests already stored from searchTestsByFullNames
-        List<Map<String, Object>> allTests = RequestContext.getGlobalTests();
+    private static void extractAndStoreTests(List<Map<String, Object>> allTests, String[] requiredTests) {
 
         if (allTests == null || allTests.isEmpty()) {
-            System.out.println("⚠️ No tests found in RequestContext.getGlobalTests()");
+            System.out.println("⚠️ No tests found by searchTestsByFullNames");
             allTests = new ArrayList<>();
         }
 
         System.out.println("\n📦 EXTRACTING & STORING TEST DETAILS");
         System.out.println("   Tests already found: " + allTests.size());
 
+        // Canonical key of every found test, computed once (e.g., "Profile -1" <=> "Profile 1")
+        List<String> foundKeys = new ArrayList<>(allTests.size());
+        for (Map<String, Object> test : allTests) {
+            Object testNameObj = test.get("test_name");
+            foundKeys.add(testNameObj != null ? TestNameNormalizer.canonicalKey(testNameObj.toString()) : "");
+        }
+
         for (String testName : requiredTests) {
 
-            Map<String, Object> found = allTests.stream()
-                    .filter(t -> {
-                        Object testNameObj = t.get("test_name");
-                        if (testNameObj == null) {
-                            return false;
-                        }
-                        String testNameInList = testNameObj.toString();
-                        
-                        // Normalize both names for comparison
-                        String normalizedList = testNameInList.trim().replaceAll("\\s+", " ");
-                        String normalizedSearch = testName.trim().replaceAll("\\s+", " ");
-                        
-                        // Also compare without dashes (e.g., "Profile -1" <=> "Profile 1")
-                        String listNoDash = normalizedList.replaceAll("\\s*-\\s*", " ");
-                        String searchNoDash = normalizedSearch.replaceAll("\\s*-\\s*", " ");
-                        
-                        return normalizedList.equalsIgnoreCase(normalizedSearch) ||
-                               listNoDash.equalsIgnoreCase(searchNoDash);
-                    })
-                    .findFirst()
-                    .orElse(null);
+            String requestedKey = TestNameNormalizer.canonicalKey(testName);
+            Map<String, Object> found = null;
+            for (int i = 0; i < allTests.size(); i++) {
+                if (TestNameNormalizer.keysMatch(foundKeys.get(i), requestedKey)) {
+                    found = allTests.get(i);
+                    break;
+                }
+            }
 
             if (found == null) {
                 System.out.println("\n❌ Test NOT found: " + testName);
@@ -228,9 +249,22 @@ public class GlobalSearchHelper {
         System.out.println("\n✅ All requested tests extracted and stored successfully!");
     }
     /**
-     * Search for multiple tests - searches each test individually with its FULL NAME
+     * Search for multiple tests - searches each test individually with its FULL NAME.
+     *
+     * Names are first resolved from the location's CatalogIndex (built once per
+     * location); only index misses are sent to the search API.
+     *
+     * API searches run concurrently (at most search.parallelism at a time). The
+     * search variations of one name are sent together; the lowest variation that
+     * matches wins and the remaining ones are cancelled. Matches are merged in the
+     * order of fullTestNames, so the stored result does not depend on timing. When
+     * an earlier name already took every candidate, the name's search resumes with
+     * its next variations before it is reported as not found.
+     *
+     * @return Matches, per-name attempts/latencies and misses (also stored via
+     *         RequestContext.storeGlobalTests)
      */
-    public static Response searchTestsByFullNames(String[] fullTestNames, String locationName) {
+    public static SearchResult searchTestsByFullNames(String[] fullTestNames, String locationName) {
 
         if (fullTestNames == null || fullTestNames.length == 0) {
             throw new RuntimeException("❌ No test names provided to search!");
@@ -244,179 +278,71 @@ public class GlobalSearchHelper {
         System.out.println("📌 LOCATION: " + locationName + " → " + locationId);
 
         // Get token
-        String token = RequestContext.getMemberToken();
-        if (token == null) {
-            token = RequestContext.getToken();
-        }
+        String token = searchToken();
         if (token == null) {
             throw new RuntimeException("❌ Token is null! Please login first.");
         }
 
-        // Combined list to store all found tests
+        long start = System.nanoTime();
+        List<NameSearch> searches = new ArrayList<>(fullTestNames.length);
+        List<String> misses = new ArrayList<>();
+        CatalogIndex index = CatalogIndex.forLocationOrNull(locationId, token);
+        for (String testName : fullTestNames) {
+            NameSearch search = index != null ? searchIndex(index, testName) : null;
+            searches.add(search);
+            if (search == null) {
+                misses.add(testName);
+            }
+        }
+
+        // Index misses go to the search API, results slotted back in input order
+        Iterator<NameSearch> apiSearches = searchNamesConcurrently(misses, token, locationId).iterator();
+        for (int i = 0; i < searches.size(); i++) {
+            if (searches.get(i) == null) {
+                searches.set(i, apiSearches.next());
+            }
+        }
+
+        // Merge in input order - first candidate not already taken by an earlier name wins
         List<Map<String, Object>> allFoundTests = new ArrayList<>();
+        List<SearchResult.NameResult> nameResults = new ArrayList<>();
         Set<String> addedTestIds = new HashSet<>(); // To avoid duplicates
 
-        // Search for each test individually using FULL TEST NAME with RETRY LOGIC
-        for (String testName : fullTestNames) {
-            
-            System.out.println("\n🔍 Searching: " + testName);
-            boolean found = false;
-            
-            // Create search variations to try (for cases like "Bone Profile -1")
-            List<String> searchVariations = new ArrayList<>();
-            searchVariations.add(testName); // Original name
-            searchVariations.add(testName.replace(" -", "-")); // Remove space before dash
-            searchVariations.add(testName.replace("- ", "-")); // Remove space after dash
-            searchVariations.add(testName.replace(" - ", "-")); // Remove spaces around dash
-            searchVariations.add(testName.replaceAll("\\s+", " ")); // Normalize multiple spaces
-            
-            // If name contains dash, also try without the part after dash
-            if (testName.contains("-")) {
-                String[] parts = testName.split("-");
-                if (parts.length > 0) {
-                    searchVariations.add(parts[0].trim()); // e.g., "Bone Profile"
+        for (NameSearch search : searches) {
+            System.out.print(search.log);
+
+            VariationMatch chosenMatch = null;
+            Map<String, Object> chosen = null;
+            int matchesSeen = 0;
+            while (true) {
+                for (; matchesSeen < search.matches.size() && chosen == null; matchesSeen++) {
+                    chosenMatch = search.matches.get(matchesSeen);
+                    chosen = firstUntaken(chosenMatch.candidates, addedTestIds);
                 }
-            }
-            
-            // Try each variation until we find a match
-            for (int attempt = 0; attempt < searchVariations.size() && !found; attempt++) {
-                String searchString = searchVariations.get(attempt);
-                
-                System.out.println("\n   🔄 Attempt " + (attempt + 1) + "/" + searchVariations.size());
-                System.out.println("   Search String: \"" + searchString + "\"");
-
-                // Call Global Search API
-                Response response = new RequestBuilder()
-                        .setEndpoint(APIEndpoints.GLOBAL_SEARCH)
-                        .addHeader("Authorization", "Bearer " + token)
-                        .addBodyParam("page", 1)
-                        .addBodyParam("limit", 50)
-                        .addBodyParam("search_string", searchString)
-                        .addBodyParam("sort_by", "Type")
-                        .addBodyParam("location", locationId)
-                        .expectStatus(200)
-                        .post();
-
-                // Extract tests from this response
-                List<Map<String, Object>> testsInResponse = response.jsonPath().getList("data");
-                
-                if (testsInResponse != null && !testsInResponse.isEmpty()) {
-                    System.out.println("   📊 API returned " + testsInResponse.size() + " results");
-                    
-                    // 🔍 DEBUG: Print ALL results to see what we're getting
-                    System.out.println("\n   🔍 DEBUG - ALL RESULTS for search \"" + searchString + "\":");
-                    for (int i = 0; i < Math.min(5, testsInResponse.size()); i++) {
-                        Map<String, Object> debugTest = testsInResponse.get(i);
-                        System.out.println("      Result " + (i + 1) + ":");
-                        System.out.println("         test_name: " + debugTest.get("test_name"));
-                        System.out.println("         _id: " + debugTest.get("_id"));
-                        System.out.println("         test_id: " + debugTest.get("test_id"));
-                        System.out.println("         slug: " + debugTest.get("slug"));
-                        System.out.println("         Type: " + debugTest.get("Type"));
-                    }
-                    System.out.println();
-                    
-                    // Look for exact match first, then partial match
-                    for (Map<String, Object> test : testsInResponse) {
-                        String testNameInResponse = (String) test.get("test_name");
-                        String testId = (String) test.get("_id");
-                        
-                        // 🔍 If test_name is null, try alternative fields
-                        if (testNameInResponse == null) {
-                            System.out.println("   ⚠️  test_name is NULL for ID: " + testId);
-                            System.out.println("      Checking alternative fields...");
-                            
-                            // Try product_name or other name fields
-                            testNameInResponse = (String) test.get("product_name");
-                            if (testNameInResponse == null) {
-                                testNameInResponse = (String) test.get("name");
-                            }
-                            if (testNameInResponse == null) {
-                                testNameInResponse = (String) test.get("title");
-                            }
-                            
-                            // If still null, try to construct from slug
-                            if (testNameInResponse == null) {
-                                String slug = (String) test.get("slug");
-                                if (slug != null) {
-                                    // Convert slug to readable name (e.g., "bone-profile-1" -> "Bone Profile 1")
-                                    testNameInResponse = slug.replace("-", " ").replace("_", " ");
-                                    testNameInResponse = capitalizeWords(testNameInResponse);
-                                    System.out.println("      ℹ️  Constructed name from slug: " + testNameInResponse);
-                                    // Also store it in the test object for later use
-                                    test.put("test_name", testNameInResponse);
-                                }
-                            }
-                            
-                            if (testNameInResponse != null) {
-                                System.out.println("      ✅ Found alternative name: " + testNameInResponse);
-                            }
-                        }
-                        
-                        if (testNameInResponse != null && testId != null) {
-                            // Normalize both names for comparison
-                            String normalizedResponse = testNameInResponse.trim().replaceAll("\\s+", " ");
-                            String normalizedOriginal = testName.trim().replaceAll("\\s+", " ");
-                            
-                            // Also create versions without dashes for comparison (e.g., "Profile -1" <=> "Profile 1")
-                            String responseNoDash = normalizedResponse.replaceAll("\\s*-\\s*", " ");
-                            String originalNoDash = normalizedOriginal.replaceAll("\\s*-\\s*", " ");
-                            
-                            // Check for exact match (case insensitive, normalized spaces)
-                            if (normalizedResponse.equalsIgnoreCase(normalizedOriginal) ||
-                                responseNoDash.equalsIgnoreCase(originalNoDash)) {
-                                // Add only if not already added
-                                if (!addedTestIds.contains(testId)) {
-                                    allFoundTests.add(test);
-                                    addedTestIds.add(testId);
-                                    System.out.println("   ✅ EXACT MATCH FOUND: " + testNameInResponse);
-                                    System.out.println("      Test ID: " + test.get("test_id"));
-                                    System.out.println("      Product ID: " + testId);
-                                    System.out.println("      ✅ SUCCESS with search variation: \"" + searchString + "\"");
-                                    if (!normalizedResponse.equalsIgnoreCase(normalizedOriginal)) {
-                                        System.out.println("      ℹ️  Matched by removing dash: \"" + testName + "\" → \"" + testNameInResponse + "\"");
-                                    }
-                                    found = true;
-                                    break;
-                                }
-                            }
-                            // Try contains match as fallback (for partial matches)
-                            else if (normalizedResponse.toLowerCase().contains(normalizedOriginal.toLowerCase()) ||
-                                     normalizedOriginal.toLowerCase().contains(normalizedResponse.toLowerCase())) {
-                                if (!addedTestIds.contains(testId)) {
-                                    allFoundTests.add(test);
-                                    addedTestIds.add(testId);
-                                    System.out.println("   ✅ PARTIAL MATCH FOUND: " + testNameInResponse);
-                                    System.out.println("      Test ID: " + test.get("test_id"));
-                                    System.out.println("      Product ID: " + testId);
-                                    System.out.println("      ⚠️  Note: Using partial match for: \"" + testName + "\"");
-                                    found = true;
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                    
-                    if (!found && attempt < searchVariations.size() - 1) {
-                        System.out.println("   ⚠️  No match with this variation, trying next...");
-                        System.out.println("   ℹ️  Available tests in results:");
-                        for (int i = 0; i < Math.min(3, testsInResponse.size()); i++) {
-                            System.out.println("      - " + testsInResponse.get(i).get("test_name"));
-                        }
-                    }
-                } else {
-                    System.out.println("   ❌ No results returned, trying next variation...");
+                if (chosen != null || search.attempts >= search.variations.size()) {
+                    break;
                 }
+                // Every candidate so far was taken by an earlier name - go on with the next variations
+                int logged = search.log.length();
+                search.log.append("   ⚠️  All matches already taken by earlier tests, trying next variation...\n");
+                searchVariationsFrom(search, search.attempts, token, locationId);
+                System.out.print(search.log.substring(logged));
             }
-            
-            // Final status for this test
-            if (!found) {
-                System.out.println("\n   ❌ FAILED: Could not find \"" + testName + "\" after " + searchVariations.size() + " attempts");
+
+            if (chosen != null) {
+                allFoundTests.add(chosen);
+                System.out.println("   ✅ MATCH STORED for \"" + search.testName + "\": " + chosen.get("test_name")
+                        + " (Product ID: " + chosen.get("_id") + ", variation: \"" + chosenMatch.variation + "\")");
+            } else {
+                System.out.println("\n   ❌ FAILED: Could not find \"" + search.testName + "\" after "
+                        + search.attempts + " attempts");
                 System.out.println("   ℹ️  Tried variations:");
-                for (String variation : searchVariations) {
+                for (String variation : search.variations) {
                     System.out.println("      - \"" + variation + "\"");
                 }
             }
+            nameResults.add(new SearchResult.NameResult(search.testName, chosen,
+                    chosen != null ? chosenMatch.variation : null, search.attempts, search.latencyMs));
         }
 
         System.out.println("\n📊 ========================================");
@@ -425,22 +351,262 @@ public class GlobalSearchHelper {
         
         // Store all found tests in RequestContext
         RequestContext.storeGlobalTests(allFoundTests);
-        
-        // Return the last response (required by method signature)
-        // The actual data will be used from RequestContext.getGlobalTests()
-        String lastTestName = fullTestNames[fullTestNames.length - 1];
-        return new RequestBuilder()
-                .setEndpoint(APIEndpoints.GLOBAL_SEARCH)
-                .addHeader("Authorization", "Bearer " + token)
-                .addBodyParam("page", 1)
-                .addBodyParam("limit", 50)
-                .addBodyParam("search_string", lastTestName)
-                .addBodyParam("sort_by", "Type")
-                .addBodyParam("location", locationId)
-                .expectStatus(200)
-                .post();
+
+        SearchResult result = new SearchResult(allFoundTests, nameResults, (System.nanoTime() - start) / 1_000_000);
+        System.out.println(result);
+        return result;
     }
-    
+
+    // ============================================================
+    // CONCURRENT SEARCH INTERNALS
+    // ============================================================
+
+    /**
+     * Outcome of searching one requested name
+     */
+    private static final class NameSearch {
+        private final String testName;
+        private final List<String> variations;
+        private final StringBuilder log = new StringBuilder();
+        /** Candidates of each variation that matched, in the order the variations were tried */
+        private final List<VariationMatch> matches = new ArrayList<>();
+        /** API variations tried so far; the next one to try has this index */
+        private int attempts;
+        private long latencyMs;
+
+        private NameSearch(String testName, List<String> variations) {
+            this.testName = testName;
+            this.variations = variations;
+        }
+    }
+
+    /**
+     * Matches of one search variation (or of the catalog index), in response order
+     */
+    private static final class VariationMatch {
+        private final String variation;
+        private final List<Map<String, Object>> candidates;
+
+        private VariationMatch(String variation, List<Map<String, Object>> candidates) {
+            this.variation = variation;
+            this.candidates = candidates;
+        }
+    }
+
+    private static Map<String, Object> firstUntaken(List<Map<String, Object>> candidates, Set<String> takenIds) {
+        for (Map<String, Object> candidate : candidates) {
+            if (takenIds.add((String) candidate.get("_id"))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve a name from the catalog index; null on an index miss. Its API variations are
+     * kept untried, for when earlier names already took every indexed candidate.
+     */
+    private static NameSearch searchIndex(CatalogIndex index, String testName) {
+        long start = System.nanoTime();
+        List<Map<String, Object>> candidates = index.lookup(testName);
+        long micros = (System.nanoTime() - start) / 1_000;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        NameSearch search = new NameSearch(testName, searchVariations(testName));
+        search.matches.add(new VariationMatch("catalog index", candidates));
+        search.latencyMs = micros / 1_000;
+        search.log.append("\n🔍 Searching: ").append(testName).append('\n')
+                .append("   ⚡ Resolved from catalog index: ").append(candidates.get(0).get("test_name"))
+                .append(" (").append(candidates.size()).append(" candidates, ").append(micros).append("µs)\n");
+        return search;
+    }
+
+    private static List<NameSearch> searchNamesConcurrently(List<String> fullTestNames, String token, String locationId) {
+        if (fullTestNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int parallelism = Math.max(1, ConfigLoader.getConfig().searchParallelism());
+        // Semaphore keeps the limit even with unbounded virtual-thread executors
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = TaskExecutors.newExecutor("global-search-", Math.min(parallelism, fullTestNames.size()));
+        try {
+            List<CompletableFuture<NameSearch>> futures = new ArrayList<>();
+            for (String testName : fullTestNames) {
+                futures.add(CompletableFuture.supplyAsync(SessionContext.propagate(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        return searchOneName(testName, token, locationId);
+                    } finally {
+                        permits.release();
+                    }
+                }), executor));
+            }
+
+            List<NameSearch> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<NameSearch> future : futures) {
+                results.add(AsyncRequestExecutor.join(future));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Search variations for one name; variations are sent together and the
+     * lowest-index variation with a match wins (higher ones are cancelled)
+     */
+    private static NameSearch searchOneName(String testName, String token, String locationId) {
+        NameSearch search = new NameSearch(testName, searchVariations(testName));
+        search.log.append("\n🔍 Searching: ").append(testName).append('\n');
+        searchVariationsFrom(search, 0, token, locationId);
+        return search;
+    }
+
+    /**
+     * Send the variations from index {@code from} on together; the lowest one with a match
+     * adds its candidates to the search and the higher ones are cancelled
+     */
+    private static void searchVariationsFrom(NameSearch search, int from, String token, String locationId) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Response>> inFlight = new ArrayList<>();
+        for (String searchString : search.variations.subList(from, search.variations.size())) {
+            inFlight.add(new RequestBuilder()
+                    .setEndpoint(APIEndpoints.GLOBAL_SEARCH)
+                    .addHeader("Authorization", "Bearer " + token)
+                    .addBodyParam("page", 1)
+                    .addBodyParam("limit", 50)
+                    .addBodyParam("search_string", searchString)
+                    .addBodyParam("sort_by", "Type")
+                    .addBodyParam("location", locationId)
+                    .expectStatus(200)
+                    .postAsync());
+        }
+
+        try {
+            for (int attempt = from; attempt < search.variations.size(); attempt++) {
+                String searchString = search.variations.get(attempt);
+                search.attempts = attempt + 1;
+                search.log.append("   🔄 Attempt ").append(attempt + 1).append('/').append(search.variations.size())
+                        .append(" → \"").append(searchString).append("\"\n");
+
+                Response response = AsyncRequestExecutor.join(inFlight.get(attempt - from));
+                List<Map<String, Object>> testsInResponse = ParsedResponse.of(response).getList("data");
+                if (testsInResponse == null || testsInResponse.isEmpty()) {
+                    search.log.append("   ❌ No results returned, trying next variation...\n");
+                    continue;
+                }
+
+                search.log.append("   📊 API returned ").append(testsInResponse.size()).append(" results\n");
+                List<Map<String, Object>> candidates = findMatches(search.testName, testsInResponse, search.log);
+                if (!candidates.isEmpty()) {
+                    search.matches.add(new VariationMatch(searchString, candidates));
+                    return;
+                }
+
+                search.log.append("   ⚠️  No match with this variation. Available tests in results:\n");
+                for (int i = 0; i < Math.min(3, testsInResponse.size()); i++) {
+                    search.log.append("      - ").append(testsInResponse.get(i).get("test_name")).append('\n');
+                }
+            }
+        } finally {
+            search.latencyMs += (System.nanoTime() - start) / 1_000_000;
+            // Match found (or failure) - stop whatever is still running
+            for (CompletableFuture<Response> future : inFlight) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Distinct search strings to try for a name (for cases like "Bone Profile -1")
+     */
+    private static List<String> searchVariations(String testName) {
+        Set<String> variations = new LinkedHashSet<>();
+        variations.add(testName); // Original name
+        variations.add(testName.replace(" -", "-")); // Remove space before dash
+        variations.add(testName.replace("- ", "-")); // Remove space after dash
+        variations.add(testName.replace(" - ", "-")); // Remove spaces around dash
+        variations.add(TestNameNormalizer.WHITESPACE.matcher(testName).replaceAll(" ")); // Normalize multiple spaces
+
+        // If name contains dash, also try without the part after dash
+        if (testName.contains("-")) {
+            String[] parts = testName.split("-");
+            if (parts.length > 0) {
+                variations.add(parts[0].trim()); // e.g., "Bone Profile"
+            }
+        }
+        return new ArrayList<>(variations);
+    }
+
+    /**
+     * All results matching the requested name, in response order
+     * (exact match after space/dash normalization, or containment either way)
+     */
+    private static List<Map<String, Object>> findMatches(String testName, List<Map<String, Object>> testsInResponse,
+                                                         StringBuilder log) {
+        String requestedKey = TestNameNormalizer.canonicalKey(testName);
+
+        List<Map<String, Object>> matches = new ArrayList<>();
+        for (Map<String, Object> test : testsInResponse) {
+            String testNameInResponse = resolveTestName(test, log);
+            String testId = (String) test.get("_id");
+            if (testNameInResponse == null || testId == null) {
+                continue;
+            }
+
+            // Compare canonical keys (e.g., "Profile -1" <=> "Profile 1")
+            String responseKey = TestNameNormalizer.canonicalKey(testNameInResponse);
+
+            if (TestNameNormalizer.keysMatch(responseKey, requestedKey)) {
+                log.append("   ✅ EXACT MATCH FOUND: ").append(testNameInResponse)
+                        .append(" (Test ID: ").append(test.get("test_id")).append(")\n");
+                matches.add(test);
+            }
+            // Contains match as fallback (for partial matches)
+            else if (TestNameNormalizer.keysOverlap(responseKey, requestedKey)) {
+                log.append("   ✅ PARTIAL MATCH FOUND: ").append(testNameInResponse)
+                        .append(" (Test ID: ").append(test.get("test_id")).append(")\n");
+                matches.add(test);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * test_name, or product_name / name / title, or a name constructed from the slug
+     */
+    private static String resolveTestName(Map<String, Object> test, StringBuilder log) {
+        String name = (String) test.get("test_name");
+        if (name != null) {
+            return name;
+        }
+        log.append("   ⚠️  test_name is NULL for ID: ").append(test.get("_id")).append('\n');
+
+        name = (String) test.get("product_name");
+        if (name == null) {
+            name = (String) test.get("name");
+        }
+        if (name == null) {
+            name = (String) test.get("title");
+        }
+        if (name == null) {
+            String slug = (String) test.get("slug");
+            if (slug != null) {
+                // Convert slug to readable name (e.g., "bone-profile-1" -> "Bone Profile 1")
+                name = capitalizeWords(slug.replace("-", " ").replace("_", " "));
+                log.append("      ℹ️  Constructed name from slug: ").append(name).append('\n');
+                // Also store it in the test object for later use
+                test.put("test_name", name);
+            }
+        }
+        return name;
+    }
+
     // ============================================================
     // HELPER METHODS TO RETRIEVE STORED TEST FIELDS
     // ============================================================
@@ -0,0 +1,276 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parse-once, read-only view over a JSON response body.
+ *
+ * Every call to {@code response.jsonPath()} re-parses the whole body, so reading
+ * N fields from an N-element array costs O(n²). This view parses the body into a
+ * Jackson tree once and answers the same dotted/indexed paths the tests already use
+ * ("data", "data[0].guid", "data.cart_items[2].price").
+ *
+ * There is no global cache: each {@link #of(Response)} parses again, so callers keep
+ * the view they got back and read every field from it.
+ *
+ * Getter names and return types mirror {@link io.restassured.path.json.JsonPath}
+ * so existing call sites can switch without changing their logic.
+ */
+public final class ParsedResponse {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Response response;
+    private final JsonNode root;
+
+    private ParsedResponse(Response response, JsonNode root) {
+        this.response = response;
+        this.root = root;
+    }
+
+    /**
+     * Parse the body of a response into a view
+     */
+    public static ParsedResponse of(Response response) {
+        if (response == null) {
+            throw new IllegalArgumentException("❌ Response must not be null");
+        }
+        return new ParsedResponse(response, readTree(response.asByteArray()));
+    }
+
+    /**
+     * Parse a raw JSON string (fixtures, stored payloads)
+     */
+    public static ParsedResponse parse(String json) {
+        try {
+            return new ParsedResponse(null, json == null ? MissingNode.getInstance() : MAPPER.readTree(json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("❌ Failed to parse JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static JsonNode readTree(byte[] body) {
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            // Non-JSON body (HTML error page etc.) - behave like an empty document
+            return MissingNode.getInstance();
+        }
+    }
+
+    // ============================================================
+    // ACCESSORS
+    // ============================================================
+
+    /**
+     * Underlying RestAssured response (null for views created from raw JSON or sub-paths)
+     */
+    public Response response() {
+        return response;
+    }
+
+    /**
+     * Underlying Jackson node of this view
+     */
+    public JsonNode root() {
+        return root;
+    }
+
+    /**
+     * Resolve a path to its Jackson node; never returns null (MissingNode when absent)
+     */
+    public JsonNode node(String path) {
+        JsonNode current = root;
+        if (path == null || path.isEmpty() || "$".equals(path)) {
+            return current;
+        }
+
+        int i = 0;
+        int len = path.length();
+        while (i < len && !current.isMissingNode()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("❌ Unclosed index in path: " + path);
+                }
+                int index = Integer.parseInt(path.substring(i + 1, end).trim());
+                if (!current.isArray()) {
+                    return MissingNode.getInstance();
+                }
+                current = current.path(index < 0 ? current.size() + index : index);
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < len && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                current = current.path(path.substring(i, end));
+                i = end;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Check whether a path resolves to a non-null value
+     */
+    public boolean has(String path) {
+        JsonNode node = node(path);
+        return !node.isMissingNode() && !node.isNull();
+    }
+
+    /**
+     * Sub-view rooted at the given path (shares the already parsed tree)
+     */
+    public ParsedResponse at(String path) {
+        return new ParsedResponse(null, node(path));
+    }
+
+    /**
+     * Views over each element of the array at the given path (empty if not an array)
+     */
+    public List<ParsedResponse> elements(String path) {
+        JsonNode array = node(path);
+        if (!array.isArray()) {
+            return Collections.emptyList();
+        }
+        List<ParsedResponse> views = new ArrayList<>(array.size());
+        for (JsonNode element : array) {
+            views.add(new ParsedResponse(null, element));
+        }
+        return views;
+    }
+
+    /**
+     * Size of the array or object at the given path (0 when absent)
+     */
+    public int size(String path) {
+        JsonNode node = node(path);
+        return node.isContainerNode() ? node.size() : 0;
+    }
+
+    // ============================================================
+    // TYPED GETTERS (JsonPath compatible)
+    // ============================================================
+
+    /**
+     * Value converted to plain Java types (Map, List, String, Number, Boolean)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path) {
+        return (T) toJava(node(path));
+    }
+
+    public String getString(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        if (node.isValueNode()) {
+            return node.asText();
+        }
+        return String.valueOf(toJava(node));
+    }
+
+    public Integer getInt(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        return node.isNumber() ? Integer.valueOf(node.intValue()) : Integer.valueOf(node.asText().trim());
+    }
+
+    public Long getLong(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        return node.isNumber() ? Long.valueOf(node.longValue()) : Long.valueOf(node.asText().trim());
+    }
+
+    public Double getDouble(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        return node.isNumber() ? Double.valueOf(node.doubleValue()) : Double.valueOf(node.asText().trim());
+    }
+
+    public Boolean getBoolean(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        return node.isBoolean() ? Boolean.valueOf(node.booleanValue()) : Boolean.valueOf(node.asText().trim());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        Object value = toJava(node);
+        if (value instanceof List) {
+            return (List<T>) value;
+        }
+        List<T> single = new ArrayList<>(1);
+        single.add((T) value);
+        return single;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getMap(String path) {
+        JsonNode node = node(path);
+        if (isAbsent(node)) {
+            return null;
+        }
+        if (!node.isObject()) {
+            throw new ClassCastException("❌ Value at '" + path + "' is not a JSON object: " + node.getNodeType());
+        }
+        return (Map<K, V>) toJava(node);
+    }
+
+    /**
+     * Raw JSON text of the value at the given path
+     */
+    public String toJson(String path) {
+        return node(path).toString();
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    private static boolean isAbsent(JsonNode node) {
+        return node.isMissingNode() || node.isNull();
+    }
+
+    private static Object toJava(JsonNode node) {
+        if (isAbsent(node)) {
+            return null;
+        }
+        try {
+            return MAPPER.treeToValue(node, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("❌ Failed to convert JSON value: " + e.getMessage(), e);
+        }
+    }
+}
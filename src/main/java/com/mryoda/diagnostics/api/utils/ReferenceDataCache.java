@@ -0,0 +1,250 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.http.WireLogBuffer;
+import com.mryoda.diagnostics.api.pojo.ReferenceSnapshot;
+import io.restassured.response.Response;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide cache of reference data that is identical for every user: the location
+ * list (GET_LOCATION) and the brand list (GET_ALL_BRANDS).
+ *
+ * - the first request loads the data; every later caller in the run gets the same
+ *   parsed body without a request
+ * - with reference.cache.persist=true each body is also written to reference.cache.dir,
+ *   so a rerun within reference.cache.ttl.minutes starts without these calls
+ * - an older snapshot is revalidated with If-None-Match / If-Modified-Since when the
+ *   server sent an ETag / Last-Modified header; a 304 keeps the stored body
+ */
+public class ReferenceDataCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static volatile ReferenceDataCache instance;
+
+    private final boolean enabled;
+    private final boolean persist;
+    private final Path dir;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong diskLoads = new AtomicLong();
+
+    private ReferenceDataCache(ConfigManager config) {
+        this.enabled = config.referenceCacheEnabled();
+        this.persist = config.referenceCachePersist();
+        this.dir = Paths.get(config.referenceCacheDir());
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(Math.max(0, config.referenceCacheTtlMinutes()));
+    }
+
+    public static ReferenceDataCache getInstance() {
+        if (instance == null) {
+            synchronized (ReferenceDataCache.class) {
+                if (instance == null) {
+                    instance = new ReferenceDataCache(ConfigLoader.getConfig());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Snapshot plus its parsed body; verified = fetched or revalidated during this run
+     */
+    private static final class Entry {
+        private final ReferenceSnapshot snapshot;
+        private final ParsedResponse body;
+        private final boolean verified;
+
+        private Entry(ReferenceSnapshot snapshot, boolean verified) {
+            this.snapshot = snapshot;
+            this.body = ParsedResponse.parse(snapshot.getBody());
+            this.verified = verified;
+        }
+    }
+
+    // ============================================================
+    // REFERENCE DATA
+    // ============================================================
+
+    /**
+     * All locations (POST GET_LOCATION), parsed body
+     */
+    public ParsedResponse locations(String token) {
+        return get("locations", token, () -> new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_LOCATION));
+    }
+
+    /**
+     * One page of brands (POST GET_ALL_BRANDS), parsed body
+     */
+    public ParsedResponse brands(String token, int page) {
+        return get("brands-page-" + page, token, () -> new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_ALL_BRANDS)
+                .addBodyParam("page", page));
+    }
+
+    // ============================================================
+    // LOADING / REVALIDATION
+    // ============================================================
+
+    private ParsedResponse get(String key, String token, Supplier<RequestBuilder> request) {
+        if (!enabled) {
+            fetches.incrementAndGet();
+            return ParsedResponse.of(send(request.get(), token, null, key));
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.verified) {
+            hits.incrementAndGet();
+            return entry.body;
+        }
+
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            entry = entries.get(key);
+            if (entry == null && persist) {
+                entry = loadFromDisk(key);
+            }
+            if (entry != null && (entry.verified || isFresh(entry.snapshot))) {
+                hits.incrementAndGet();
+                if (!entry.verified) {
+                    entry = new Entry(entry.snapshot, true);
+                    entries.put(key, entry);
+                }
+                return entry.body;
+            }
+
+            Response response = send(request.get(), token, entry != null ? entry.snapshot : null, key);
+            ReferenceSnapshot snapshot;
+            if (response.getStatusCode() == 304 && entry != null) {
+                revalidations.incrementAndGet();
+                ReferenceSnapshot previous = entry.snapshot;
+                snapshot = ReferenceSnapshot.builder()
+                        .key(key)
+                        .body(previous.getBody())
+                        .etag(headerOr(response, "ETag", previous.getEtag()))
+                        .lastModified(headerOr(response, "Last-Modified", previous.getLastModified()))
+                        .fetchedAt(System.currentTimeMillis())
+                        .build();
+            } else {
+                fetches.incrementAndGet();
+                snapshot = ReferenceSnapshot.builder()
+                        .key(key)
+                        .body(response.asString())
+                        .etag(response.getHeader("ETag"))
+                        .lastModified(response.getHeader("Last-Modified"))
+                        .fetchedAt(System.currentTimeMillis())
+                        .build();
+            }
+
+            Entry loaded = new Entry(snapshot, true);
+            // Failed payloads (success=false) are returned but never reused
+            if (!Boolean.FALSE.equals(loaded.body.getBoolean("success"))) {
+                entries.put(key, loaded);
+                saveToDisk(snapshot);
+            }
+            return loaded.body;
+        }
+    }
+
+    /**
+     * Plain or conditional request; anything but 200 (or 304 when revalidating) fails like expectStatus(200)
+     */
+    private static Response send(RequestBuilder builder, String token, ReferenceSnapshot previous, String key) {
+        builder.addHeader("Authorization", token);
+        if (previous != null && previous.getEtag() != null) {
+            builder.addHeader("If-None-Match", previous.getEtag());
+        }
+        if (previous != null && previous.getLastModified() != null) {
+            builder.addHeader("If-Modified-Since", previous.getLastModified());
+        }
+
+        Response response = builder.postWithoutStatusCheck();
+        int status = response.getStatusCode();
+        if (status != 200 && !(status == 304 && previous != null)) {
+            WireLogBuffer.flush("Expected HTTP 200 but got " + status + " | reference data " + key);
+            throw new AssertionError("❌ Expected HTTP 200 but got " + status + " | Reference data: " + key
+                    + "\nBody:\n" + response.asString());
+        }
+        return response;
+    }
+
+    private static String headerOr(Response response, String name, String fallback) {
+        String value = response.getHeader(name);
+        return value != null ? value : fallback;
+    }
+
+    private boolean isFresh(ReferenceSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.getFetchedAt() < ttlMillis;
+    }
+
+    // ============================================================
+    // DISK SNAPSHOTS
+    // ============================================================
+
+    private Path file(String key) {
+        return dir.resolve(key + ".json");
+    }
+
+    private Entry loadFromDisk(String key) {
+        Path file = file(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            ReferenceSnapshot snapshot = MAPPER.readValue(file.toFile(), ReferenceSnapshot.class);
+            diskLoads.incrementAndGet();
+            return new Entry(snapshot, false);
+        } catch (Exception e) {
+            // Corrupted snapshot - refetch, it is rewritten afterwards
+            LoggerUtil.warn("⚠️ Ignoring unreadable reference snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToDisk(ReferenceSnapshot snapshot) {
+        if (!persist) {
+            return;
+        }
+        Path file = file(snapshot.getKey());
+        try {
+            Files.createDirectories(dir);
+            MAPPER.writeValue(file.toFile(), snapshot);
+        } catch (Exception e) {
+            LoggerUtil.warn("⚠️ Could not write reference snapshot " + file + ": " + e.getMessage());
+        }
+    }
+
+    // ============================================================
+    // MAINTENANCE / STATS
+    // ============================================================
+
+    /**
+     * Forget everything in memory (disk snapshots are kept and revalidated on next use)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public String describe() {
+        return "📚 Reference data cache | hits=" + hits.get() + " fetches=" + fetches.get()
+                + " revalidated(304)=" + revalidations.get() + " diskLoads=" + diskLoads.get()
+                + " entries=" + entries.size() + (enabled ? "" : " (disabled)");
+    }
+}
@@ -2,139 +2,156 @@ package com.mryoda.diagnostics.api.utils;
 
 import java.util.HashMap;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Map;
 
+/**
+ * Static facade over the current {@link SessionContext} (per virtual user, bound to the
+ * executing thread or flow) and the shared {@link CatalogSnapshot} (locations, brands,
+ * tests). Method names are unchanged so existing tests keep working; without a bound
+ * session everything goes to the shared default session.
+ */
 public class RequestContext {
 
-	// ============================================================
-	// TOKENS (MEMBER / EXISTING MEMBER / NEW USER)
-	// ============================================================
-	private static String memberToken;
-	private static String existingMemberToken;
-	private static String newUserToken;
+	private static SessionContext session() {
+		return SessionContext.current();
+	}
 
-	// ============================================================
-	// USER DETAILS (Stored per user type)
-	// ============================================================
-	private static String memberFirstName, memberLastName, memberUserId;
-	private static String existingMemberFirstName, existingMemberLastName, existingMemberUserId;
-	private static String newUserFirstName, newUserLastName, newUserUserId;
+	private static SessionContext.UserState user(String userType) {
+		return SessionContext.current().user(userType);
+	}
 
-	// Generic (used by TokenManager)
-	private static String token;
-	private static String firstName;
-	private static String lastName;
-	private static String userId;
-	private static String mobile;
+	private static CatalogSnapshot catalog() {
+		return CatalogSnapshot.current();
+	}
 
 	// ============================================================
-	// LOCATION STORAGE
+	// LOCATION STORAGE (shared catalog)
 	// ============================================================
-	private static final Map<String, String> locations = new HashMap<>();
-	private static final Map<String, String> locationLatitudes = new HashMap<>();
-	private static final Map<String, String> locationLongitudes = new HashMap<>();
-	private static final Map<String, String> locationCities = new HashMap<>();
-	private static final Map<String, String> locationStates = new HashMap<>();
-	private static String selectedLocationId;
-
 	public static void storeLocation(String title, String id) {
-		locations.put(title, id);
+		CatalogSnapshot.update(b -> b.location(title, id));
 	}
 
 	public static void storeLocationCoordinates(String title, String latitude, String longitude) {
-		locationLatitudes.put(title, latitude);
-		locationLongitudes.put(title, longitude);
+		CatalogSnapshot.update(b -> b.locationCoordinates(title, latitude, longitude));
 	}
 
 	public static void storeLocationCityState(String title, String city, String state) {
-		locationCities.put(title, city);
-		locationStates.put(title, state);
+		CatalogSnapshot.update(b -> b.locationCityState(title, city, state));
+	}
+
+	/**
+	 * Store every location of a GET_LOCATION body (e.g. from ReferenceDataCache) in one catalog update
+	 */
+	public static void storeLocations(ParsedResponse body) {
+		List<ParsedResponse> locations = body.elements("data");
+		CatalogSnapshot.update(b -> {
+			for (ParsedResponse location : locations) {
+				String title = location.getString("title");
+				b.location(title, location.getString("_id"));
+				String city = location.getString("city");
+				String state = location.getString("state");
+				if (city != null && state != null) {
+					b.locationCityState(title, city, state);
+				}
+				String latitude = location.getString("google_map_latitude");
+				String longitude = location.getString("google_map_langitude");
+				if (latitude != null && longitude != null) {
+					b.locationCoordinates(title, latitude, longitude);
+				}
+			}
+		});
 	}
 
 	public static String getLocationId(String title) {
-		return locations.get(title);
+		return catalog().getLocations().get(title);
 	}
 
 	public static String getLocationLatitude(String title) {
-		return locationLatitudes.get(title);
+		return catalog().getLocationLatitudes().get(title);
 	}
 
 	public static String getLocationLongitude(String title) {
-		return locationLongitudes.get(title);
+		return catalog().getLocationLongitudes().get(title);
 	}
 
 	public static String getLocationCity(String title) {
-		return locationCities.get(title);
+		return catalog().getLocationCities().get(title);
 	}
 
 	public static String getLocationState(String title) {
-		return locationStates.get(title);
+		return catalog().getLocationStates().get(title);
 	}
 
 	public static Map<String, String> getAllLocations() {
-		return locations;
+		return catalog().getLocations();
 	}
 
 	public static Map<String, String> getAllLocationLatitudes() {
-		return locationLatitudes;
+		return catalog().getLocationLatitudes();
 	}
 
 	public static Map<String, String> getAllLocationLongitudes() {
-		return locationLongitudes;
+		return catalog().getLocationLongitudes();
 	}
 
 	public static void setSelectedLocation(String title) {
-		String id = locations.get(title);
+		String id = getLocationId(title);
 		if (id == null) {
 			throw new RuntimeException("❌ Location not found in RequestContext: " + title);
 		}
-		selectedLocationId = id;
+		session().setSelectedLocationId(id);
 	}
 
 	public static String getSelectedLocationId() {
-		return selectedLocationId;
+		return session().getSelectedLocationId();
 	}
 
 	// ============================================================
-	// BRAND STORAGE
+	// BRAND STORAGE (shared catalog)
 	// ============================================================
-	private static final Map<String, String> brands = new HashMap<>();
-	private static String selectedBrandId;
-
 	public static void storeBrand(String title, String brandId) {
-		brands.put(title, brandId);
+		CatalogSnapshot.update(b -> b.brand(title, brandId));
+	}
+
+	/**
+	 * Store every brand of a GET_ALL_BRANDS body (e.g. from ReferenceDataCache) in one catalog update
+	 */
+	public static void storeBrands(ParsedResponse body) {
+		List<ParsedResponse> brands = body.elements("data");
+		CatalogSnapshot.update(b -> {
+			for (ParsedResponse brand : brands) {
+				b.brand(brand.getString("title"), brand.getString("Guid"));
+			}
+		});
 	}
 
 	public static String getBrandId(String title) {
-		return brands.get(title);
+		return catalog().getBrands().get(title);
 	}
 
 	public static Map<String, String> getAllBrands() {
-		return brands;
+		return catalog().getBrands();
 	}
 
 	public static void setSelectedBrand(String title) {
-		String id = brands.get(title);
+		String id = getBrandId(title);
 		if (id == null) {
 			throw new RuntimeException("❌ Brand not found in RequestContext: " + title);
 		}
-		selectedBrandId = id;
+		session().setSelectedBrandId(id);
 	}
 
 	public static String getSelectedBrandId() {
-		return selectedBrandId;
+		return session().getSelectedBrandId();
 	}
 
 	// ============================================================
-	// GLOBAL SEARCH TEST STORAGE
+	// GLOBAL SEARCH TEST STORAGE (shared catalog)
 	// ============================================================
 	/**
 	 * Each testName → details map details = { id, test_id, price, original_price,
 	 * discount_percentage, type }
 	 */
-	private static final Map<String, Map<String, Object>> storedTests = new HashMap<>();
-
 	public static void storeTestDetails(String testName, String id, String testId, int price, int originalPrice,
 			int discountPercentage, String type) {
 
@@ -146,53 +163,57 @@ public class RequestContext {
 		data.put("discount_percentage", discountPercentage);
 		data.put("type", type);
 
-		storedTests.put(testName, data);
+		CatalogSnapshot.update(b -> b.storedTest(testName, data));
 	}
 
 	public static Map<String, Object> getTestDetails(String testName) {
-		return storedTests.get(testName);
+		return catalog().getStoredTests().get(testName);
 	}
 
 	public static Map<String, Map<String, Object>> getAllStoredTests() {
-		return storedTests;
+		return catalog().getStoredTests();
 	}
 
+
 	// ============================================================
-	// SETTERS
+	// TOKENS & USER DETAILS (per session, per user type)
 	// ============================================================
+
+	// User setters for Member
 	public static void setMemberToken(String v) {
-		memberToken = v;
+		user(TokenManager.MEMBER).setToken(v);
 	}
 
 	public static void setMemberFirstName(String v) {
-		memberFirstName = v;
+		user(TokenManager.MEMBER).setFirstName(v);
 	}
 
 	public static void setMemberLastName(String v) {
-		memberLastName = v;
+		user(TokenManager.MEMBER).setLastName(v);
 	}
 
 	public static void setMemberUserId(String v) {
-		memberUserId = v;
+		user(TokenManager.MEMBER).setUserId(v);
 	}
 
-	// NON-MEMBER setters (Mobile: 8220220227 - NOT a paid member)
+
+	// User setters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static void setNonMemberToken(String v) {
-		existingMemberToken = v;
+		user(TokenManager.NON_MEMBER).setToken(v);
 	}
 
 	public static void setNonMemberFirstName(String v) {
-		existingMemberFirstName = v;
+		user(TokenManager.NON_MEMBER).setFirstName(v);
 	}
 
 	public static void setNonMemberLastName(String v) {
-		existingMemberLastName = v;
+		user(TokenManager.NON_MEMBER).setLastName(v);
 	}
 
 	public static void setNonMemberUserId(String v) {
-		existingMemberUserId = v;
+		user(TokenManager.NON_MEMBER).setUserId(v);
 	}
-	
+
 	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static void setExistingMemberToken(String v) {
@@ -214,78 +235,60 @@ public class RequestContext {
 		setNonMemberUserId(v);
 	}
 
+
+	// User setters for New User
 	public static void setNewUserToken(String v) {
-		newUserToken = v;
+		user(TokenManager.NEW_USER).setToken(v);
 	}
 
 	public static void setNewUserFirstName(String v) {
-		newUserFirstName = v;
+		user(TokenManager.NEW_USER).setFirstName(v);
 	}
 
 	public static void setNewUserLastName(String v) {
-		newUserLastName = v;
+		user(TokenManager.NEW_USER).setLastName(v);
 	}
 
 	public static void setNewUserUserId(String v) {
-		newUserUserId = v;
+		user(TokenManager.NEW_USER).setUserId(v);
 	}
 
-	public static void setMobile(String v) {
-		mobile = v;
-	}
 
-	public static void setToken(String v) {
-		token = v;
-	}
-
-	public static void setFirstName(String v) {
-		firstName = v;
-	}
-
-	public static void setLastName(String v) {
-		lastName = v;
-	}
-
-	public static void setUserId(String v) {
-		userId = v;
-	}
-
-	// ============================================================
-	// GETTERS
-	// ============================================================
+	// User getters for Member
 	public static String getMemberToken() {
-		return memberToken;
+		return user(TokenManager.MEMBER).getToken();
 	}
 
 	public static String getMemberFirstName() {
-		return memberFirstName;
+		return user(TokenManager.MEMBER).getFirstName();
 	}
 
 	public static String getMemberLastName() {
-		return memberLastName;
+		return user(TokenManager.MEMBER).getLastName();
 	}
 
 	public static String getMemberUserId() {
-		return memberUserId;
+		return user(TokenManager.MEMBER).getUserId();
 	}
 
-	// NON-MEMBER getters (Mobile: 8220220227 - NOT a paid member)
+
+	// User getters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static String getNonMemberToken() {
-		return existingMemberToken;
+		return user(TokenManager.NON_MEMBER).getToken();
 	}
 
 	public static String getNonMemberFirstName() {
-		return existingMemberFirstName;
+		return user(TokenManager.NON_MEMBER).getFirstName();
 	}
 
 	public static String getNonMemberLastName() {
-		return existingMemberLastName;
+		return user(TokenManager.NON_MEMBER).getLastName();
 	}
 
 	public static String getNonMemberUserId() {
-		return existingMemberUserId;
+		return user(TokenManager.NON_MEMBER).getUserId();
 	}
-	
+
 	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static String getExistingMemberToken() {
@@ -307,259 +310,261 @@ public class RequestContext {
 		return getNonMemberUserId();
 	}
 
+
+	// User getters for New User
 	public static String getNewUserToken() {
-		return newUserToken;
+		return user(TokenManager.NEW_USER).getToken();
 	}
 
 	public static String getNewUserFirstName() {
-		return newUserFirstName;
+		return user(TokenManager.NEW_USER).getFirstName();
 	}
 
 	public static String getNewUserLastName() {
-		return newUserLastName;
+		return user(TokenManager.NEW_USER).getLastName();
 	}
 
 	public static String getNewUserUserId() {
-		return newUserUserId;
+		return user(TokenManager.NEW_USER).getUserId();
+	}
+
+
+	// Generic (used by TokenManager / UserCreateAPITest)
+	public static void setMobile(String v) {
+		session().setMobile(v);
+	}
+
+	public static void setToken(String v) {
+		user(TokenManager.GENERIC).setToken(v);
+	}
+
+	public static void setFirstName(String v) {
+		user(TokenManager.GENERIC).setFirstName(v);
+	}
+
+	public static void setLastName(String v) {
+		user(TokenManager.GENERIC).setLastName(v);
+	}
+
+	public static void setUserId(String v) {
+		user(TokenManager.GENERIC).setUserId(v);
 	}
 
 	public static String getMobile() {
-		return mobile;
+		return session().getMobile();
 	}
 
 	public static String getToken() {
-		return token;
+		return user(TokenManager.GENERIC).getToken();
 	}
 
 	public static String getFirstName() {
-		return firstName;
+		return user(TokenManager.GENERIC).getFirstName();
 	}
 
 	public static String getLastName() {
-		return lastName;
+		return user(TokenManager.GENERIC).getLastName();
 	}
 
 	public static String getUserId() {
-		return userId;
+		return user(TokenManager.GENERIC).getUserId();
 	}
 
 	// ----------------------------------------------------
-	// GLOBAL SEARCH TEST STORAGE
+	// GLOBAL SEARCH RESULTS (shared catalog)
 	// ----------------------------------------------------
-	private static List<Map<String, Object>> globalTests = new ArrayList<>();
-
 	public static void storeGlobalTests(List<Map<String, Object>> tests) {
-		globalTests.clear();
-		globalTests.addAll(tests);
+		CatalogSnapshot.update(b -> b.globalTests(tests));
 	}
 
 	public static List<Map<String, Object>> getGlobalTests() {
-		return globalTests;
+		return catalog().getGlobalTests();
 	}
 
-//Stores selected tests from global search
-	private static final Map<String, Map<String, Object>> selectedTests = new HashMap<>();
-
 //----------------------------------------------------
-//SELECTED TEST STORAGE
+//SELECTED TEST STORAGE (per session)
 //----------------------------------------------------
 	public static void storeTest(String testName, Map<String, Object> testData) {
-		selectedTests.put(testName, testData);
+		session().getSelectedTests().put(testName, testData);
 	}
 
 	public static Map<String, Object> getTest(String testName) {
-		return selectedTests.get(testName);
+		return session().getSelectedTests().get(testName);
 	}
 
 	public static Map<String, Map<String, Object>> getAllTests() {
-		return selectedTests;
+		return session().getSelectedTests();
 	}
 
 	public static void clearAllTests() {
-		selectedTests.clear();
+		session().getSelectedTests().clear();
 	}
 
 	// ============================================================
 	// CART STORAGE (Separate for each user type)
 	// ============================================================
-	private static String memberCartId;
-	private static Integer memberCartNumericId;
-	private static Integer memberTotalAmount;
-	private static Map<String, Object> memberAddToCartResponse;
-	private static Map<String, Object> memberGetCartResponse;
-	private static List<Map<String, Object>> memberCartItems;
-
-	private static String existingMemberCartId;
-	private static Integer existingMemberCartNumericId;
-	private static Integer existingMemberTotalAmount;
-	private static Map<String, Object> existingMemberAddToCartResponse;
-	private static Map<String, Object> existingMemberGetCartResponse;
-	private static List<Map<String, Object>> existingMemberCartItems;
-
-	private static String newUserCartId;
-	private static Integer newUserCartNumericId;
-	private static Integer newUserTotalAmount;
-	private static Map<String, Object> newUserAddToCartResponse;
-	private static Map<String, Object> newUserGetCartResponse;
-	private static List<Map<String, Object>> newUserCartItems;
 
 	// Cart setters for Member
-	public static void setMemberCartId(String id) {
-		memberCartId = id;
+	public static void setMemberCartId(String v) {
+		user(TokenManager.MEMBER).setCartId(v);
 	}
 
-	public static void setMemberCartNumericId(Integer id) {
-		memberCartNumericId = id;
+	public static void setMemberCartNumericId(Integer v) {
+		user(TokenManager.MEMBER).setCartNumericId(v);
 	}
 
-	public static void setMemberTotalAmount(Integer amount) {
-		memberTotalAmount = amount;
+	public static void setMemberTotalAmount(Integer v) {
+		user(TokenManager.MEMBER).setTotalAmount(v);
 	}
 
-	public static void setMemberAddToCartResponse(Map<String, Object> response) {
-		memberAddToCartResponse = response;
+	public static void setMemberAddToCartResponse(Map<String, Object> v) {
+		user(TokenManager.MEMBER).setAddToCartResponse(v);
 	}
 
-	public static void setMemberGetCartResponse(Map<String, Object> response) {
-		memberGetCartResponse = response;
+	public static void setMemberGetCartResponse(Map<String, Object> v) {
+		user(TokenManager.MEMBER).setGetCartResponse(v);
 	}
 
-	public static void setMemberCartItems(List<Map<String, Object>> items) {
-		memberCartItems = items;
+	public static void setMemberCartItems(List<Map<String, Object>> v) {
+		user(TokenManager.MEMBER).setCartItems(v);
 	}
 
-	// Cart setters for NON-MEMBER (Mobile: 8220220227)
-	public static void setNonMemberCartId(String id) {
-		existingMemberCartId = id;
+
+	// Cart setters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
+	public static void setNonMemberCartId(String v) {
+		user(TokenManager.NON_MEMBER).setCartId(v);
 	}
 
-	public static void setNonMemberCartNumericId(Integer id) {
-		existingMemberCartNumericId = id;
+	public static void setNonMemberCartNumericId(Integer v) {
+		user(TokenManager.NON_MEMBER).setCartNumericId(v);
 	}
 
-	public static void setNonMemberTotalAmount(Integer amount) {
-		existingMemberTotalAmount = amount;
+	public static void setNonMemberTotalAmount(Integer v) {
+		user(TokenManager.NON_MEMBER).setTotalAmount(v);
 	}
 
-	public static void setNonMemberAddToCartResponse(Map<String, Object> response) {
-		existingMemberAddToCartResponse = response;
+	public static void setNonMemberAddToCartResponse(Map<String, Object> v) {
+		user(TokenManager.NON_MEMBER).setAddToCartResponse(v);
 	}
 
-	public static void setNonMemberGetCartResponse(Map<String, Object> response) {
-		existingMemberGetCartResponse = response;
+	public static void setNonMemberGetCartResponse(Map<String, Object> v) {
+		user(TokenManager.NON_MEMBER).setGetCartResponse(v);
 	}
 
-	public static void setNonMemberCartItems(List<Map<String, Object>> items) {
-		existingMemberCartItems = items;
+	public static void setNonMemberCartItems(List<Map<String, Object>> v) {
+		user(TokenManager.NON_MEMBER).setCartItems(v);
 	}
 
-	// Cart setters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
-	public static void setExistingMemberCartId(String id) {
-		setNonMemberCartId(id);
+	public static void setExistingMemberCartId(String v) {
+		setNonMemberCartId(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberCartNumericId(Integer id) {
-		setNonMemberCartNumericId(id);
+	public static void setExistingMemberCartNumericId(Integer v) {
+		setNonMemberCartNumericId(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberTotalAmount(Integer amount) {
-		setNonMemberTotalAmount(amount);
+	public static void setExistingMemberTotalAmount(Integer v) {
+		setNonMemberTotalAmount(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberAddToCartResponse(Map<String, Object> response) {
-		setNonMemberAddToCartResponse(response);
+	public static void setExistingMemberAddToCartResponse(Map<String, Object> v) {
+		setNonMemberAddToCartResponse(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberGetCartResponse(Map<String, Object> response) {
-		setNonMemberGetCartResponse(response);
+	public static void setExistingMemberGetCartResponse(Map<String, Object> v) {
+		setNonMemberGetCartResponse(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberCartItems(List<Map<String, Object>> items) {
-		setNonMemberCartItems(items);
+	public static void setExistingMemberCartItems(List<Map<String, Object>> v) {
+		setNonMemberCartItems(v);
 	}
 
+
 	// Cart setters for New User
-	public static void setNewUserCartId(String id) {
-		newUserCartId = id;
+	public static void setNewUserCartId(String v) {
+		user(TokenManager.NEW_USER).setCartId(v);
 	}
 
-	public static void setNewUserCartNumericId(Integer id) {
-		newUserCartNumericId = id;
+	public static void setNewUserCartNumericId(Integer v) {
+		user(TokenManager.NEW_USER).setCartNumericId(v);
 	}
 
-	public static void setNewUserTotalAmount(Integer amount) {
-		newUserTotalAmount = amount;
+	public static void setNewUserTotalAmount(Integer v) {
+		user(TokenManager.NEW_USER).setTotalAmount(v);
 	}
 
-	public static void setNewUserAddToCartResponse(Map<String, Object> response) {
-		newUserAddToCartResponse = response;
+	public static void setNewUserAddToCartResponse(Map<String, Object> v) {
+		user(TokenManager.NEW_USER).setAddToCartResponse(v);
 	}
 
-	public static void setNewUserGetCartResponse(Map<String, Object> response) {
-		newUserGetCartResponse = response;
+	public static void setNewUserGetCartResponse(Map<String, Object> v) {
+		user(TokenManager.NEW_USER).setGetCartResponse(v);
 	}
 
-	public static void setNewUserCartItems(List<Map<String, Object>> items) {
-		newUserCartItems = items;
+	public static void setNewUserCartItems(List<Map<String, Object>> v) {
+		user(TokenManager.NEW_USER).setCartItems(v);
 	}
 
+
 	// Cart getters for Member
 	public static String getMemberCartId() {
-		return memberCartId;
+		return user(TokenManager.MEMBER).getCartId();
 	}
 
 	public static Integer getMemberCartNumericId() {
-		return memberCartNumericId;
+		return user(TokenManager.MEMBER).getCartNumericId();
 	}
 
 	public static Integer getMemberTotalAmount() {
-		return memberTotalAmount;
+		return user(TokenManager.MEMBER).getTotalAmount();
 	}
 
 	public static Map<String, Object> getMemberAddToCartResponse() {
-		return memberAddToCartResponse;
+		return user(TokenManager.MEMBER).getAddToCartResponse();
 	}
 
 	public static Map<String, Object> getMemberGetCartResponse() {
-		return memberGetCartResponse;
+		return user(TokenManager.MEMBER).getGetCartResponse();
 	}
 
 	public static List<Map<String, Object>> getMemberCartItems() {
-		return memberCartItems;
+		return user(TokenManager.MEMBER).getCartItems();
 	}
 
-	// Cart getters for NON-MEMBER (Mobile: 8220220227)
+
+	// Cart getters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static String getNonMemberCartId() {
-		return existingMemberCartId;
+		return user(TokenManager.NON_MEMBER).getCartId();
 	}
 
 	public static Integer getNonMemberCartNumericId() {
-		return existingMemberCartNumericId;
+		return user(TokenManager.NON_MEMBER).getCartNumericId();
 	}
 
 	public static Integer getNonMemberTotalAmount() {
-		return existingMemberTotalAmount;
+		return user(TokenManager.NON_MEMBER).getTotalAmount();
 	}
 
 	public static Map<String, Object> getNonMemberAddToCartResponse() {
-		return existingMemberAddToCartResponse;
+		return user(TokenManager.NON_MEMBER).getAddToCartResponse();
 	}
 
 	public static Map<String, Object> getNonMemberGetCartResponse() {
-		return existingMemberGetCartResponse;
+		return user(TokenManager.NON_MEMBER).getGetCartResponse();
 	}
 
 	public static List<Map<String, Object>> getNonMemberCartItems() {
-		return existingMemberCartItems;
+		return user(TokenManager.NON_MEMBER).getCartItems();
 	}
 
-	// Cart getters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static String getExistingMemberCartId() {
 		return getNonMemberCartId();
@@ -590,109 +595,107 @@ public class RequestContext {
 		return getNonMemberCartItems();
 	}
 
+
 	// Cart getters for New User
 	public static String getNewUserCartId() {
-		return newUserCartId;
+		return user(TokenManager.NEW_USER).getCartId();
 	}
 
 	public static Integer getNewUserCartNumericId() {
-		return newUserCartNumericId;
+		return user(TokenManager.NEW_USER).getCartNumericId();
 	}
 
 	public static Integer getNewUserTotalAmount() {
-		return newUserTotalAmount;
+		return user(TokenManager.NEW_USER).getTotalAmount();
 	}
 
 	public static Map<String, Object> getNewUserAddToCartResponse() {
-		return newUserAddToCartResponse;
+		return user(TokenManager.NEW_USER).getAddToCartResponse();
 	}
 
 	public static Map<String, Object> getNewUserGetCartResponse() {
-		return newUserGetCartResponse;
+		return user(TokenManager.NEW_USER).getGetCartResponse();
 	}
 
 	public static List<Map<String, Object>> getNewUserCartItems() {
-		return newUserCartItems;
+		return user(TokenManager.NEW_USER).getCartItems();
 	}
 
+
 	// Legacy methods for backward compatibility
 	public static void storeCartId(String id) {
-		memberCartId = id;
+		setMemberCartId(id);
 	}
 
 	public static String getCartId() {
-		return memberCartId;
+		return getMemberCartId();
 	}
 
 	// ============================================================
 	// ADDRESS STORAGE (Separate for each user type)
 	// ============================================================
-	private static String memberAddressId;
-	private static List<Map<String, Object>> memberAddresses;
-
-	private static String existingMemberAddressId;
-	private static List<Map<String, Object>> existingMemberAddresses;
-
-	private static String newUserAddressId;
-	private static List<Map<String, Object>> newUserAddresses;
 
 	// Address setters for Member
-	public static void setMemberAddressId(String id) {
-		memberAddressId = id;
+	public static void setMemberAddressId(String v) {
+		user(TokenManager.MEMBER).setAddressId(v);
 	}
 
-	public static void setMemberAddresses(List<Map<String, Object>> addresses) {
-		memberAddresses = addresses;
+	public static void setMemberAddresses(List<Map<String, Object>> v) {
+		user(TokenManager.MEMBER).setAddresses(v);
 	}
 
-	// Address setters for NON-MEMBER (Mobile: 8220220227)
-	public static void setNonMemberAddressId(String id) {
-		existingMemberAddressId = id;
+
+	// Address setters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
+	public static void setNonMemberAddressId(String v) {
+		user(TokenManager.NON_MEMBER).setAddressId(v);
 	}
 
-	public static void setNonMemberAddresses(List<Map<String, Object>> addresses) {
-		existingMemberAddresses = addresses;
+	public static void setNonMemberAddresses(List<Map<String, Object>> v) {
+		user(TokenManager.NON_MEMBER).setAddresses(v);
 	}
 
-	// Address setters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
-	public static void setExistingMemberAddressId(String id) {
-		setNonMemberAddressId(id);
+	public static void setExistingMemberAddressId(String v) {
+		setNonMemberAddressId(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberAddresses(List<Map<String, Object>> addresses) {
-		setNonMemberAddresses(addresses);
+	public static void setExistingMemberAddresses(List<Map<String, Object>> v) {
+		setNonMemberAddresses(v);
 	}
 
+
 	// Address setters for New User
-	public static void setNewUserAddressId(String id) {
-		newUserAddressId = id;
+	public static void setNewUserAddressId(String v) {
+		user(TokenManager.NEW_USER).setAddressId(v);
 	}
 
-	public static void setNewUserAddresses(List<Map<String, Object>> addresses) {
-		newUserAddresses = addresses;
+	public static void setNewUserAddresses(List<Map<String, Object>> v) {
+		user(TokenManager.NEW_USER).setAddresses(v);
 	}
 
+
 	// Address getters for Member
 	public static String getMemberAddressId() {
-		return memberAddressId;
+		return user(TokenManager.MEMBER).getAddressId();
 	}
 
 	public static List<Map<String, Object>> getMemberAddresses() {
-		return memberAddresses;
+		return user(TokenManager.MEMBER).getAddresses();
 	}
 
-	// Address getters for NON-MEMBER (Mobile: 8220220227)
+
+	// Address getters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static String getNonMemberAddressId() {
-		return existingMemberAddressId;
+		return user(TokenManager.NON_MEMBER).getAddressId();
 	}
 
 	public static List<Map<String, Object>> getNonMemberAddresses() {
-		return existingMemberAddresses;
+		return user(TokenManager.NON_MEMBER).getAddresses();
 	}
 
-	// Address getters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static String getExistingMemberAddressId() {
 		return getNonMemberAddressId();
@@ -703,148 +706,154 @@ public class RequestContext {
 		return getNonMemberAddresses();
 	}
 
+
 	// Address getters for New User
 	public static String getNewUserAddressId() {
-		return newUserAddressId;
+		return user(TokenManager.NEW_USER).getAddressId();
 	}
 
 	public static List<Map<String, Object>> getNewUserAddresses() {
-		return newUserAddresses;
+		return user(TokenManager.NEW_USER).getAddresses();
 	}
 
+
 	// ============================================================
 	// SLOT STORAGE
 	// ============================================================
-	private static String slotStartDate;
-	private static String existingMemberSlotGuid;
-	private static String memberSlotGuid;
-	private static String newUserSlotGuid;
-
-	// Slot setters
 	public static void setSlotStartDate(String date) {
-		slotStartDate = date;
+		session().setSlotStartDate(date);
 	}
 
-	public static void setNonMemberSlotGuid(String guid) {
-		existingMemberSlotGuid = guid;
+	public static String getSlotStartDate() {
+		return session().getSlotStartDate();
 	}
 
-	@Deprecated
-	public static void setExistingMemberSlotGuid(String guid) {
-		setNonMemberSlotGuid(guid);
+
+	// Slot setters for Member
+	public static void setMemberSlotGuid(String v) {
+		user(TokenManager.MEMBER).setSlotGuid(v);
 	}
 
-	public static void setMemberSlotGuid(String guid) {
-		memberSlotGuid = guid;
+
+	// Slot setters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
+	public static void setNonMemberSlotGuid(String v) {
+		user(TokenManager.NON_MEMBER).setSlotGuid(v);
 	}
 
-	public static void setNewUserSlotGuid(String guid) {
-		newUserSlotGuid = guid;
+	// Deprecated - use NON_MEMBER methods instead
+	@Deprecated
+	public static void setExistingMemberSlotGuid(String v) {
+		setNonMemberSlotGuid(v);
 	}
 
-	// Slot getters
-	public static String getSlotStartDate() {
-		return slotStartDate;
+
+	// Slot setters for New User
+	public static void setNewUserSlotGuid(String v) {
+		user(TokenManager.NEW_USER).setSlotGuid(v);
 	}
 
+
+	// Slot getters for Member
+	public static String getMemberSlotGuid() {
+		return user(TokenManager.MEMBER).getSlotGuid();
+	}
+
+
+	// Slot getters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static String getNonMemberSlotGuid() {
-		return existingMemberSlotGuid;
+		return user(TokenManager.NON_MEMBER).getSlotGuid();
 	}
 
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static String getExistingMemberSlotGuid() {
 		return getNonMemberSlotGuid();
 	}
 
-	public static String getMemberSlotGuid() {
-		return memberSlotGuid;
-	}
 
+	// Slot getters for New User
 	public static String getNewUserSlotGuid() {
-		return newUserSlotGuid;
+		return user(TokenManager.NEW_USER).getSlotGuid();
 	}
 
+
 	// Generic getter for selected slot (used by all user types)
 	public static String getSelectedSlotGuid() {
 		// Return the first non-null slot GUID
-		if (existingMemberSlotGuid != null)
-			return existingMemberSlotGuid;
-		if (memberSlotGuid != null)
-			return memberSlotGuid;
-		if (newUserSlotGuid != null)
-			return newUserSlotGuid;
+		if (getNonMemberSlotGuid() != null)
+			return getNonMemberSlotGuid();
+		if (getMemberSlotGuid() != null)
+			return getMemberSlotGuid();
+		if (getNewUserSlotGuid() != null)
+			return getNewUserSlotGuid();
 		return null;
 	}
 
 	// ============================================================
 	// ORDER STORAGE (Separate for each user type)
 	// ============================================================
-	private static String memberOrderGuid;
-	private static String memberOrderId;
-
-	private static String existingMemberOrderGuid;
-	private static String existingMemberOrderId;
-
-	private static String newUserOrderGuid;
-	private static String newUserOrderId;
 
 	// Order setters for Member
-	public static void setMemberOrderGuid(String guid) {
-		memberOrderGuid = guid;
+	public static void setMemberOrderGuid(String v) {
+		user(TokenManager.MEMBER).setOrderGuid(v);
 	}
 
-	public static void setMemberOrderId(String id) {
-		memberOrderId = id;
+	public static void setMemberOrderId(String v) {
+		user(TokenManager.MEMBER).setOrderId(v);
 	}
 
-	// Order setters for NON-MEMBER (Mobile: 8220220227)
-	public static void setNonMemberOrderGuid(String guid) {
-		existingMemberOrderGuid = guid;
+
+	// Order setters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
+	public static void setNonMemberOrderGuid(String v) {
+		user(TokenManager.NON_MEMBER).setOrderGuid(v);
 	}
 
-	public static void setNonMemberOrderId(String id) {
-		existingMemberOrderId = id;
+	public static void setNonMemberOrderId(String v) {
+		user(TokenManager.NON_MEMBER).setOrderId(v);
 	}
 
-	// Order setters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
-	public static void setExistingMemberOrderGuid(String guid) {
-		setNonMemberOrderGuid(guid);
+	public static void setExistingMemberOrderGuid(String v) {
+		setNonMemberOrderGuid(v);
 	}
 
 	@Deprecated
-	public static void setExistingMemberOrderId(String id) {
-		setNonMemberOrderId(id);
+	public static void setExistingMemberOrderId(String v) {
+		setNonMemberOrderId(v);
 	}
 
+
 	// Order setters for New User
-	public static void setNewUserOrderGuid(String guid) {
-		newUserOrderGuid = guid;
+	public static void setNewUserOrderGuid(String v) {
+		user(TokenManager.NEW_USER).setOrderGuid(v);
 	}
 
-	public static void setNewUserOrderId(String id) {
-		newUserOrderId = id;
+	public static void setNewUserOrderId(String v) {
+		user(TokenManager.NEW_USER).setOrderId(v);
 	}
 
+
 	// Order getters for Member
 	public static String getMemberOrderGuid() {
-		return memberOrderGuid;
+		return user(TokenManager.MEMBER).getOrderGuid();
 	}
 
 	public static String getMemberOrderId() {
-		return memberOrderId;
+		return user(TokenManager.MEMBER).getOrderId();
 	}
 
-	// Order getters for NON-MEMBER (Mobile: 8220220227)
+
+	// Order getters for NON-MEMBER (Mobile: 8220220227 - NOT a paid member)
 	public static String getNonMemberOrderGuid() {
-		return existingMemberOrderGuid;
+		return user(TokenManager.NON_MEMBER).getOrderGuid();
 	}
 
 	public static String getNonMemberOrderId() {
-		return existingMemberOrderId;
+		return user(TokenManager.NON_MEMBER).getOrderId();
 	}
 
-	// Order getters for Existing Member (Deprecated - use NON_MEMBER)
+	// Deprecated - use NON_MEMBER methods instead
 	@Deprecated
 	public static String getExistingMemberOrderGuid() {
 		return getNonMemberOrderGuid();
@@ -855,15 +864,17 @@ public class RequestContext {
 		return getNonMemberOrderId();
 	}
 
+
 	// Order getters for New User
 	public static String getNewUserOrderGuid() {
-		return newUserOrderGuid;
+		return user(TokenManager.NEW_USER).getOrderGuid();
 	}
 
 	public static String getNewUserOrderId() {
-		return newUserOrderId;
+		return user(TokenManager.NEW_USER).getOrderId();
 	}
 
+
 	// ============================================================
 	// CONVENIENCE METHODS FOR ADD TO CART
 	// ============================================================
@@ -871,11 +882,11 @@ public class RequestContext {
 	 * Get test ID (product_id) for add to cart
 	 */
 	public static String getTestId(String testName) {
-		Map<String, Object> testData = selectedTests.get(testName);
+		Map<String, Object> testData = getTest(testName);
 		if (testData != null && testData.containsKey("_id")) {
 			return (String) testData.get("_id");
 		}
 		return null;
 	}
 
-}
\ No newline at end of file
+}
@@ -29,16 +29,24 @@ public class ResponseUtil {
     
     /**
      * Get JsonPath from response
+     * Note: re-parses the body on every call - prefer {@link #getParsed(Response)}
      */
     public static JsonPath getJsonPath(Response response) {
         return response.jsonPath();
     }
     
+    /**
+     * Parse the response body once; keep the view to read several fields from it
+     */
+    public static ParsedResponse getParsed(Response response) {
+        return ParsedResponse.of(response);
+    }
+    
     /**
      * Extract string value from response
      */
     public static String extractString(Response response, String path) {
-        String value = response.jsonPath().getString(path);
+        String value = ParsedResponse.of(response).getString(path);
         LoggerUtil.info("Extracted String from '" + path + "': " + value);
         return value;
     }
@@ -47,7 +55,7 @@ public class ResponseUtil {
      * Extract integer value from response
      */
     public static Integer extractInt(Response response, String path) {
-        Integer value = response.jsonPath().getInt(path);
+        Integer value = ParsedResponse.of(response).getInt(path);
         LoggerUtil.info("Extracted Integer from '" + path + "': " + value);
         return value;
     }
@@ -56,7 +64,7 @@ public class ResponseUtil {
      * Extract list from response
      */
     public static <T> List<T> extractList(Response response, String path) {
-        List<T> list = response.jsonPath().getList(path);
+        List<T> list = ParsedResponse.of(response).getList(path);
         LoggerUtil.info("Extracted List from '" + path + "', Size: " + (list != null ? list.size() : 0));
         return list;
     }
@@ -65,7 +73,7 @@ public class ResponseUtil {
      * Extract map from response
      */
     public static <K, V> Map<K, V> extractMap(Response response, String path) {
-        Map<K, V> map = response.jsonPath().getMap(path);
+        Map<K, V> map = ParsedResponse.of(response).getMap(path);
         LoggerUtil.info("Extracted Map from '" + path + "', Size: " + (map != null ? map.size() : 0));
         return map;
     }
@@ -74,7 +82,7 @@ public class ResponseUtil {
      * Extract boolean value from response
      */
     public static Boolean extractBoolean(Response response, String path) {
-        Boolean value = response.jsonPath().getBoolean(path);
+        Boolean value = ParsedResponse.of(response).getBoolean(path);
         LoggerUtil.info("Extracted Boolean from '" + path + "': " + value);
         return value;
     }
@@ -119,8 +127,7 @@ public class ResponseUtil {
      */
     public static boolean isFieldPresent(Response response, String fieldPath) {
         try {
-            Object value = response.jsonPath().get(fieldPath);
-            return value != null;
+            return ParsedResponse.of(response).has(fieldPath);
         } catch (Exception e) {
             return false;
         }
@@ -1,59 +1,54 @@
 package com.mryoda.diagnostics.api.utils;
 
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
+import com.mryoda.diagnostics.api.http.Retrier;
+import com.mryoda.diagnostics.api.http.RetryPolicy;
 import io.restassured.response.Response;
-import java.util.concurrent.TimeUnit;
+
+import java.util.function.Supplier;
 
 /**
  * Retry Utility for retrying failed API calls
+ *
+ * RequestBuilder retries on its own (see {@link RetryPolicy}); this is for calls made
+ * outside it. Same rules: only transient failures (429, 502-504, no response) are
+ * retried, with decorrelated-jitter backoff under the global retry budget.
+ *
+ * Don't wrap RequestBuilder calls in it - set their policy in retry.properties instead.
+ * If one is wrapped anyway, its own retries are switched off for the attempt
+ * ({@link RetryPolicy#withoutRequestRetries}), so the two never nest.
  */
 public class RetryUtil {
-    
+
     private RetryUtil() {
         // Private constructor
     }
-    
+
     /**
      * Retry API call on failure
+     *
+     * @param maxRetries attempts in total, the first one included
+     * @param delayInMs  base delay of the backoff between attempts
+     * @return the last response, or null when no attempt got one
      */
     public static Response retryOnFailure(APICallable apiCall, int maxRetries, int delayInMs) {
-        Response response = null;
-        int attempts = 0;
-        
-        while (attempts < maxRetries) {
-            try {
-                response = apiCall.call();
-                
-                // If response is successful, return
-                if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
-                    LoggerUtil.info("API call successful on attempt: " + (attempts + 1));
-                    return response;
-                }
-                
-                LoggerUtil.warn("API call failed with status: " + response.getStatusCode() + 
-                              ", Attempt: " + (attempts + 1) + "/" + maxRetries);
-                
-            } catch (Exception e) {
-                LoggerUtil.error("API call failed with exception on attempt: " + (attempts + 1), e);
-            }
-            
-            attempts++;
-            
-            // Wait before retrying
-            if (attempts < maxRetries) {
-                try {
-                    LoggerUtil.info("Waiting " + delayInMs + "ms before retry...");
-                    TimeUnit.MILLISECONDS.sleep(delayInMs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    LoggerUtil.error("Retry interrupted", e);
-                }
+        RetryPolicy policy = RetryPolicy.of(Math.max(0, maxRetries - 1), delayInMs);
+        Supplier<Response> call = () -> RetryPolicy.withoutRequestRetries(apiCall::call);
+        try {
+            Response response = AsyncRequestExecutor.join(
+                    Retrier.execute(policy, "API call", Retrier.now(call), call, 0));
+            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+                LoggerUtil.info("API call successful");
+            } else {
+                LoggerUtil.warn("API call failed with status: " + response.getStatusCode());
             }
+            return response;
+        } catch (RuntimeException e) {
+            LoggerUtil.error("API call failed after up to " + maxRetries + " attempts", e);
+            return null;
         }
-        
-        LoggerUtil.error("API call failed after " + maxRetries + " attempts");
-        return response;
     }
-    
+
     /**
      * Functional interface for API calls
      */
@@ -0,0 +1,133 @@
+package com.mryoda.diagnostics.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated outcome of GlobalSearchHelper.searchTestsByFullNames:
+ * matched tests (in requested order), per-name attempts and latencies, and misses.
+ */
+public class SearchResult {
+
+    private final List<Map<String, Object>> matches;
+    private final List<NameResult> names;
+    private final long wallClockMs;
+
+    public SearchResult(List<Map<String, Object>> matches, List<NameResult> names, long wallClockMs) {
+        this.matches = Collections.unmodifiableList(new ArrayList<>(matches));
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.wallClockMs = wallClockMs;
+    }
+
+    /**
+     * Matched test objects (raw search API maps), one per found name
+     */
+    public List<Map<String, Object>> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Per requested name, in the order requested
+     */
+    public List<NameResult> getNames() {
+        return names;
+    }
+
+    /**
+     * Requested names without a match
+     */
+    public List<String> getMisses() {
+        List<String> misses = new ArrayList<>();
+        for (NameResult name : names) {
+            if (!name.isFound()) {
+                misses.add(name.getTestName());
+            }
+        }
+        return misses;
+    }
+
+    public int getTotalAttempts() {
+        int total = 0;
+        for (NameResult name : names) {
+            total += name.getAttempts();
+        }
+        return total;
+    }
+
+    public long getWallClockMs() {
+        return wallClockMs;
+    }
+
+    public boolean allFound() {
+        return getMisses().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("🔎 Search: ").append(matches.size()).append('/').append(names.size()).append(" found, ")
+                .append(getTotalAttempts()).append(" attempts, ").append(wallClockMs).append(" ms");
+        for (NameResult name : names) {
+            sb.append("\n   ").append(name.isFound() ? "✅ " : "❌ ").append(name.getTestName())
+                    .append(" | attempts=").append(name.getAttempts())
+                    .append(" latency=").append(name.getLatencyMs()).append(" ms");
+            if (name.isFound()) {
+                sb.append(" | via \"").append(name.getMatchedVariation()).append("\" → ")
+                        .append(name.getMatch().get("test_name"));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Outcome for a single requested name
+     */
+    public static class NameResult {
+        private final String testName;
+        private final Map<String, Object> match;
+        private final String matchedVariation;
+        private final int attempts;
+        private final long latencyMs;
+
+        public NameResult(String testName, Map<String, Object> match, String matchedVariation,
+                          int attempts, long latencyMs) {
+            this.testName = testName;
+            this.match = match;
+            this.matchedVariation = matchedVariation;
+            this.attempts = attempts;
+            this.latencyMs = latencyMs;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        /**
+         * Matched test (null when not found)
+         */
+        public Map<String, Object> getMatch() {
+            return match;
+        }
+
+        public String getMatchedVariation() {
+            return matchedVariation;
+        }
+
+        /**
+         * Variations consulted until a match (or all of them)
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public long getLatencyMs() {
+            return latencyMs;
+        }
+
+        public boolean isFound() {
+            return match != null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.payloads.UserPayloadBuilder;
+import com.mryoda.diagnostics.api.pojo.LoginSession;
+import io.restassured.response.Response;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Suite-level login of all configured user types (session.bootstrap.user.types).
+ *
+ * Logins for MEMBER, NON_MEMBER and NEW_USER are independent, so they run
+ * concurrently. NEW_USER is not bootstrapped by default: with no mobile known
+ * yet it would register a throwaway user, and UserCreateAPITest registers (and
+ * logs in) its own one anyway.
+ * RequestContext is only written once every login succeeded, in one step - a
+ * failing login aborts the others and leaves the context untouched.
+ */
+public class SessionBootstrapper {
+
+    private static volatile boolean bootstrapped;
+
+    private SessionBootstrapper() {
+        // Private constructor
+    }
+
+    /**
+     * Bootstrap the user types from config once per JVM (no-op when disabled)
+     */
+    public static synchronized void bootstrapFromConfig() {
+        if (bootstrapped || !ConfigLoader.getConfig().sessionBootstrapEnabled()) {
+            return;
+        }
+        List<String> userTypes = new ArrayList<>();
+        for (String type : ConfigLoader.getConfig().sessionBootstrapUserTypes().split(",")) {
+            if (!type.trim().isEmpty()) {
+                userTypes.add(TokenManager.normalizeUserType(type.trim().toUpperCase()));
+            }
+        }
+        bootstrap(userTypes);
+        bootstrapped = true;
+    }
+
+    /**
+     * Log all given user types in concurrently and publish them into RequestContext
+     *
+     * @return Sessions by user type, in the given order
+     */
+    public static Map<String, LoginSession> bootstrap(List<String> userTypes) {
+        System.out.println("\n🚀 SESSION BOOTSTRAP → " + userTypes);
+
+        long start = System.nanoTime();
+        ExecutorService executor = TaskExecutors.newExecutor("session-bootstrap-", userTypes.size());
+        Map<String, CompletableFuture<TimedSession>> futures = new LinkedHashMap<>();
+        try {
+            for (String userType : userTypes) {
+                futures.put(userType, CompletableFuture.supplyAsync(() -> loginTimed(userType), executor));
+            }
+            awaitAllOrFirstFailure(futures);
+        } finally {
+            executor.shutdownNow();
+        }
+        long wallClockMs = (System.nanoTime() - start) / 1_000_000;
+
+        Map<String, LoginSession> sessions = new LinkedHashMap<>();
+        long sequentialMs = 0;
+        for (Map.Entry<String, CompletableFuture<TimedSession>> entry : futures.entrySet()) {
+            TimedSession timed = entry.getValue().join();
+            sessions.put(entry.getKey(), timed.session);
+            sequentialMs += timed.elapsedMs;
+            System.out.println("   ✔ " + entry.getKey() + " logged in (" + timed.elapsedMs + " ms)");
+        }
+
+        publish(sessions);
+
+        System.out.println("⏱️ Bootstrap wall-clock: " + wallClockMs + " ms | sequential baseline: "
+                + sequentialMs + " ms" + (wallClockMs > 0
+                ? String.format(" | speed-up: %.1fx", (double) sequentialMs / wallClockMs) : ""));
+        return sessions;
+    }
+
+    // ============================================================
+    // INTERNALS
+    // ============================================================
+
+    private static final class TimedSession {
+        private final LoginSession session;
+        private final long elapsedMs;
+
+        private TimedSession(LoginSession session, long elapsedMs) {
+            this.session = session;
+            this.elapsedMs = elapsedMs;
+        }
+    }
+
+    private static TimedSession loginTimed(String userType) {
+        long start = System.nanoTime();
+        String mobile;
+        switch (userType) {
+            case TokenManager.MEMBER:
+                mobile = ConfigLoader.getConfig().memberMobile();
+                break;
+            case TokenManager.NON_MEMBER:
+                mobile = ConfigLoader.getConfig().nonMemberMobile();
+                break;
+            case TokenManager.NEW_USER:
+                mobile = RequestContext.getMobile();
+                if (mobile == null) {
+                    mobile = registerNewUser();
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("❌ Unsupported user type for bootstrap: " + userType);
+        }
+        LoginSession session = TokenManager.obtainSession(mobile, userType);
+        return new TimedSession(session, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static String registerNewUser() {
+        String mobile = "9" + RandomDataUtil.getRandomMobile().substring(1);
+        JSONObject req = UserPayloadBuilder.buildNewUserPayload();
+        req.put("mobile", mobile);
+
+        Response response = new RequestBuilder()
+                .setEndpoint(APIEndpoints.USER_CREATE)
+                .setRequestBody(req.toString())
+                .expectStatus(201)
+                .post();
+        AssertionUtil.verifyEquals(ParsedResponse.of(response).getString("data.mobile"), mobile,
+                "Mobile Number must match");
+        return mobile;
+    }
+
+    /**
+     * Wait for all logins; on the first failure cancel the rest and rethrow it
+     */
+    private static void awaitAllOrFirstFailure(Map<String, CompletableFuture<TimedSession>> futures) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        futures.forEach((userType, future) -> future.whenComplete((value, error) -> {
+            if (error != null) {
+                firstFailure.completeExceptionally(new RuntimeException(
+                        "❌ Session bootstrap failed for " + userType + ": " + rootCause(error).getMessage(),
+                        rootCause(error)));
+            }
+        }));
+
+        try {
+            CompletableFuture.anyOf(all, firstFailure).join();
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void publish(Map<String, LoginSession> sessions) {
+        synchronized (RequestContext.class) {
+            for (LoginSession session : sessions.values()) {
+                if (TokenManager.NEW_USER.equals(session.getUserType()) && RequestContext.getMobile() == null) {
+                    RequestContext.setMobile(session.getMobile());
+                }
+                TokenManager.storeInContext(session);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.mryoda.diagnostics.api.utils;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Mutable state of one virtual user / flow: tokens, cart, address, slot and
+ * order per user type, plus the session's selections.
+ *
+ * A session is bound to the executing thread with {@link #call(Supplier)} /
+ * {@link #run(Runnable)}; code that reads {@link RequestContext} then sees that
+ * session. Threads without a bound session share the default session, which keeps
+ * the sequential TestNG suite working unchanged. All storage is safe for
+ * concurrent access (TestNG parallel methods/classes, async workers).
+ *
+ * Read-mostly catalog data is NOT held here - see {@link CatalogSnapshot}.
+ */
+public final class SessionContext {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final SessionContext DEFAULT = new SessionContext("default");
+    private static final ThreadLocal<SessionContext> BOUND = new ThreadLocal<>();
+
+    private final String name;
+    private final Map<String, UserState> users = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> selectedTests = new ConcurrentHashMap<>();
+
+    private volatile String mobile;
+    private volatile String selectedLocationId;
+    private volatile String selectedBrandId;
+    private volatile String slotStartDate;
+
+    private SessionContext(String name) {
+        this.name = name;
+    }
+
+    /**
+     * New, empty session (one per virtual user)
+     */
+    public static SessionContext newSession(String name) {
+        return new SessionContext(name + "-" + SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * Session bound to the current thread, or the shared default session
+     */
+    public static SessionContext current() {
+        SessionContext bound = BOUND.get();
+        return bound != null ? bound : DEFAULT;
+    }
+
+    public static SessionContext defaultSession() {
+        return DEFAULT;
+    }
+
+    // ============================================================
+    // BINDING
+    // ============================================================
+
+    /**
+     * Run a task with this session bound to the current thread
+     */
+    public <T> T call(Supplier<T> task) {
+        SessionContext previous = BOUND.get();
+        BOUND.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                BOUND.set(previous);
+            } else {
+                BOUND.remove();
+            }
+        }
+    }
+
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wrap a task so it runs with the caller's session on another thread
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        SessionContext owner = BOUND.get();
+        if (owner == null) {
+            return task;
+        }
+        return () -> owner.call(task);
+    }
+
+    // ============================================================
+    // STATE
+    // ============================================================
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Per user type state (EXISTING_MEMBER is an alias of NON_MEMBER)
+     */
+    public UserState user(String userType) {
+        return users.computeIfAbsent(TokenManager.normalizeUserType(userType), k -> new UserState());
+    }
+
+    public Map<String, Map<String, Object>> getSelectedTests() {
+        return selectedTests;
+    }
+
+    public String getMobile() {
+        return mobile;
+    }
+
+    public void setMobile(String mobile) {
+        this.mobile = mobile;
+    }
+
+    public String getSelectedLocationId() {
+        return selectedLocationId;
+    }
+
+    public void setSelectedLocationId(String selectedLocationId) {
+        this.selectedLocationId = selectedLocationId;
+    }
+
+    public String getSelectedBrandId() {
+        return selectedBrandId;
+    }
+
+    public void setSelectedBrandId(String selectedBrandId) {
+        this.selectedBrandId = selectedBrandId;
+    }
+
+    public String getSlotStartDate() {
+        return slotStartDate;
+    }
+
+    public void setSlotStartDate(String slotStartDate) {
+        this.slotStartDate = slotStartDate;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionContext[" + name + "]";
+    }
+
+    /**
+     * Everything stored for one user type within a session
+     */
+    @Getter
+    @Setter
+    public static final class UserState {
+        private volatile String token;
+        private volatile String firstName;
+        private volatile String lastName;
+        private volatile String userId;
+
+        private volatile String cartId;
+        private volatile Integer cartNumericId;
+        private volatile Integer totalAmount;
+        private volatile Map<String, Object> addToCartResponse;
+        private volatile Map<String, Object> getCartResponse;
+        private volatile List<Map<String, Object>> cartItems;
+
+        private volatile String addressId;
+        private volatile List<Map<String, Object>> addresses;
+
+        private volatile String slotGuid;
+
+        private volatile String orderGuid;
+        private volatile String orderId;
+    }
+}
@@ -0,0 +1,195 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.pojo.Slot;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Slot availability shared by all user sessions, keyed by address GUID + date + order type.
+ *
+ * - entries expire after slot.cache.ttl.seconds (slot counts change slowly compared
+ *   with a test run, but they do change)
+ * - at most slot.cache.max.entries entries; the least recently used one is evicted
+ * - booking a slot (cart slot update) must call {@link #invalidateSlot(String)} so the
+ *   next lookup sees the reduced count
+ */
+public class SlotCache {
+
+    private static volatile SlotCache instance;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries; // guarded by this
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private SlotCache(ConfigManager config) {
+        this.enabled = config.slotCacheEnabled();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, config.slotCacheTtlSeconds()));
+        this.maxEntries = Math.max(1, config.slotCacheMaxEntries());
+        // Access order: iteration starts at the least recently used entry
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static SlotCache getInstance() {
+        if (instance == null) {
+            synchronized (SlotCache.class) {
+                if (instance == null) {
+                    instance = new SlotCache(ConfigLoader.getConfig());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static final class Key {
+        private final String addressGuid;
+        private final LocalDate date;
+        private final String type;
+
+        private Key(String addressGuid, LocalDate date, String type) {
+            this.addressGuid = addressGuid;
+            this.date = date;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(addressGuid, other.addressGuid) && Objects.equals(date, other.date)
+                    && Objects.equals(type, other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(addressGuid, date, type);
+        }
+    }
+
+    private static final class Entry {
+        private final List<Slot> slots;
+        private final long storedAt;
+
+        private Entry(List<Slot> slots, long storedAt) {
+            this.slots = slots;
+            this.storedAt = storedAt;
+        }
+    }
+
+    // ============================================================
+    // LOOKUP / STORE
+    // ============================================================
+
+    /**
+     * Cached slots, or null when absent, expired or caching is disabled
+     */
+    public synchronized List<Slot> get(String addressGuid, LocalDate date, String type) {
+        if (!enabled) {
+            return null;
+        }
+        Key key = new Key(addressGuid, date, type);
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.storedAt > ttlNanos) {
+            entries.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.slots;
+    }
+
+    public synchronized void put(String addressGuid, LocalDate date, String type, List<Slot> slots) {
+        if (enabled) {
+            entries.put(new Key(addressGuid, date, type),
+                    new Entry(Collections.unmodifiableList(slots), System.nanoTime()));
+        }
+    }
+
+    // ============================================================
+    // INVALIDATION
+    // ============================================================
+
+    public synchronized void invalidate(String addressGuid, LocalDate date, String type) {
+        if (entries.remove(new Key(addressGuid, date, type)) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop every entry that lists the slot (called after the slot was booked)
+     */
+    public synchronized void invalidateSlot(String slotGuid) {
+        if (slotGuid == null) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            for (Slot slot : it.next().slots) {
+                if (slotGuid.equals(slot.getGuid())) {
+                    it.remove();
+                    invalidations.incrementAndGet();
+                    break;
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    // ============================================================
+    // STATS
+    // ============================================================
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public String describe() {
+        return "📅 Slot cache | hits=" + hits.get() + " misses=" + misses.get()
+                + " evictions=" + evictions.get() + " invalidations=" + invalidations.get()
+                + " entries=" + size() + "/" + maxEntries
+                + " ttl=" + TimeUnit.NANOSECONDS.toSeconds(ttlNanos) + "s"
+                + (enabled ? "" : " (disabled)");
+    }
+}
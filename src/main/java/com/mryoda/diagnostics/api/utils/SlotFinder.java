@@ -0,0 +1,218 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.http.AsyncRequestExecutor;
+import com.mryoda.diagnostics.api.pojo.Slot;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Finds the earliest bookable home-collection slot.
+ *
+ * All dates of the window are probed at once (GET_SLOT_COUNT_BY_TIME via
+ * RequestBuilder.postAsync), but results are inspected in date order: the first
+ * date with a slot whose count &gt; 0 wins and the probes of later dates are
+ * cancelled. The outcome is the same as checking day by day, in roughly the time
+ * of the slowest single probe.
+ *
+ * Dates still fresh in the shared SlotCache are not probed at all.
+ */
+public class SlotFinder {
+
+    private static final String ORDER_TYPE = "home";
+
+    private SlotFinder() {
+        // Utility class
+    }
+
+    /**
+     * Outcome of a search: the selected slot (null if none) and how much probing it took
+     */
+    public static final class Result {
+        private final Slot slot;
+        private final int daysChecked;
+        private final int probesSent;
+        private final long wallClockMs;
+
+        private Result(Slot slot, int daysChecked, int probesSent, long wallClockMs) {
+            this.slot = slot;
+            this.daysChecked = daysChecked;
+            this.probesSent = probesSent;
+            this.wallClockMs = wallClockMs;
+        }
+
+        public Slot getSlot() {
+            return slot;
+        }
+
+        public boolean isFound() {
+            return slot != null;
+        }
+
+        /** Dates inspected up to and including the selected one */
+        public int getDaysChecked() {
+            return daysChecked;
+        }
+
+        public int getProbesSent() {
+            return probesSent;
+        }
+
+        public long getWallClockMs() {
+            return wallClockMs;
+        }
+
+        @Override
+        public String toString() {
+            return "📅 Slot search: " + (slot != null ? slot.getDate() + " " + slot.getStartTime() + " (" + slot.getGuid() + ")"
+                    : "no available slot") + ", " + daysChecked + " days checked, " + probesSent + " probes, "
+                    + wallClockMs + " ms";
+        }
+    }
+
+    /**
+     * Earliest available home slot from today, over slot.search.days days
+     */
+    public static Result findEarliest(String token, String addressGuid) {
+        return findEarliest(token, addressGuid, LocalDate.now(), ConfigLoader.getConfig().slotSearchDays());
+    }
+
+    /**
+     * Earliest available home slot in [from, from + days)
+     */
+    public static Result findEarliest(String token, String addressGuid, LocalDate from, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("❌ Slot search window must be at least one day, got " + days);
+        }
+        long start = System.nanoTime();
+
+        SlotCache cache = SlotCache.getInstance();
+        List<List<Slot>> cached = new ArrayList<>(days);
+        List<CompletableFuture<Response>> probes = new ArrayList<>(days);
+        int probesSent = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            List<Slot> slots = cache.get(addressGuid, date, ORDER_TYPE);
+            cached.add(slots);
+            probes.add(slots != null ? null : probe(token, addressGuid, date));
+            probesSent += slots != null ? 0 : 1;
+            if (slots != null && firstAvailable(slots) != null) {
+                break; // Later dates can never win
+            }
+        }
+
+        try {
+            for (int day = 0; day < cached.size(); day++) {
+                LocalDate date = from.plusDays(day);
+                System.out.println("\n🔍 Checking date: " + date + " (Day " + (day + 1) + ")");
+
+                List<Slot> slots = cached.get(day);
+                if (slots != null) {
+                    System.out.println("   ⚡ From slot cache");
+                } else {
+                    Response response = AsyncRequestExecutor.join(probes.get(day));
+                    Boolean success = ParsedResponse.of(response).getBoolean("success");
+                    AssertionUtil.verifyTrue(Boolean.TRUE.equals(success), "API success flag should be true");
+                    slots = parseSlots(response, date);
+                    cache.put(addressGuid, date, ORDER_TYPE, slots);
+                }
+                if (slots.isEmpty()) {
+                    System.out.println("   ⚠️  No slots found for " + date);
+                    continue;
+                }
+                System.out.println("   ✔ Found " + slots.size() + " slots for " + date);
+
+                Slot available = firstAvailable(slots);
+                if (available != null) {
+                    return new Result(available, day + 1, probesSent, elapsedMs(start));
+                }
+                System.out.println("   ⚠️  All slots full for " + date + ", checking next day...");
+            }
+            return new Result(null, days, probesSent, elapsedMs(start));
+        } finally {
+            // Earlier date confirmed (or failure) - later dates are not needed
+            for (CompletableFuture<Response> probe : probes) {
+                if (probe != null && !probe.isDone()) {
+                    probe.cancel(true);
+                }
+            }
+        }
+    }
+
+    private static CompletableFuture<Response> probe(String token, String addressGuid, LocalDate date) {
+        return new RequestBuilder()
+                .setEndpoint(APIEndpoints.GET_SLOT_COUNT_BY_TIME)
+                .addHeader("Authorization", token)
+                .addBodyParam("slot_start_time", date.toString())
+                .addBodyParam("page", 1)
+                .addBodyParam("limit", 100)
+                .addBodyParam("type", ORDER_TYPE)
+                .addBodyParam("addressguid", addressGuid)
+                .expectStatus(200)
+                .postAsync();
+    }
+
+    /**
+     * Slots of one response, in API order
+     */
+    public static List<Slot> parseSlots(Response response, LocalDate date) {
+        JsonNode data = ParsedResponse.of(response).node("data");
+        if (!data.isArray() || data.size() == 0) {
+            return Collections.emptyList();
+        }
+        List<Slot> slots = new ArrayList<>(data.size());
+        for (JsonNode node : data) {
+            slots.add(Slot.builder()
+                    .date(date)
+                    .guid(text(node, "guid"))
+                    .startTime(text(node, "starttime"))
+                    .endTime(text(node, "endtime"))
+                    .count(count(node.path("count")))
+                    .build());
+        }
+        return slots;
+    }
+
+    private static Slot firstAvailable(List<Slot> slots) {
+        for (Slot slot : slots) {
+            if (slot.isAvailable()) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * count may arrive as a number (int or decimal) or as a numeric string
+     */
+    private static Integer count(JsonNode value) {
+        if (value.isNumber()) {
+            return value.intValue();
+        }
+        if (value.isTextual()) {
+            try {
+                return (int) Double.parseDouble(value.asText().trim());
+            } catch (NumberFormatException e) {
+                System.out.println("   ⚠️  Could not parse count: " + value.asText());
+            }
+        }
+        return null;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
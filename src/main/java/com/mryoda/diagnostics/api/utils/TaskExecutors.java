@@ -0,0 +1,109 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor factory honouring execution.mode.
+ *
+ * The code base compiles for Java 11, so virtual threads are created reflectively
+ * (Executors.newVirtualThreadPerTaskExecutor / Thread.ofVirtual). On a Java 21 JVM
+ * with execution.mode=virtual every task gets its own virtual thread and no pool
+ * sizing is needed - the HTTP connection pool is the only limit. On older JVMs the
+ * same calls fall back to platform thread pools, so callers never branch on version.
+ */
+public class TaskExecutors {
+
+    private static volatile ExecutionMode mode;
+
+    private TaskExecutors() {
+        // Private constructor
+    }
+
+    /**
+     * Effective mode: configured mode, downgraded to PLATFORM when virtual threads are unavailable
+     */
+    public static ExecutionMode getMode() {
+        ExecutionMode current = mode;
+        if (current == null) {
+            synchronized (TaskExecutors.class) {
+                current = mode;
+                if (current == null) {
+                    current = ExecutionMode.fromConfig(ConfigLoader.getConfig().executionMode());
+                    if (current == ExecutionMode.VIRTUAL && !virtualThreadsSupported()) {
+                        LoggerUtil.warn("⚠️ execution.mode=virtual requires Java 21+ (running "
+                                + System.getProperty("java.version") + ") - using platform threads");
+                        current = ExecutionMode.PLATFORM;
+                    }
+                    mode = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public static boolean isVirtual() {
+        return getMode() == ExecutionMode.VIRTUAL;
+    }
+
+    /**
+     * Executor for independent blocking tasks.
+     * VIRTUAL: one virtual thread per task. PLATFORM: fixed pool of the given size.
+     *
+     * @param namePrefix      Thread name prefix
+     * @param platformThreads Pool size used in PLATFORM mode
+     */
+    public static ExecutorService newExecutor(String namePrefix, int platformThreads) {
+        if (isVirtual()) {
+            return newVirtualThreadPerTaskExecutor(namePrefix);
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), daemonThreads(namePrefix));
+    }
+
+    // ============================================================
+    // VIRTUAL THREAD SUPPORT (reflective - compiles on Java 11)
+    // ============================================================
+
+    public static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        try {
+            // Thread.ofVirtual().name(prefix, 1).factory()
+            // Methods are looked up on the public Thread.Builder interface - the
+            // implementation classes are not exported from java.base
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            ThreadFactory threads = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threads);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("❌ Failed to create virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Named daemon platform threads (never keep the JVM alive after the suite)
+     */
+    public static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
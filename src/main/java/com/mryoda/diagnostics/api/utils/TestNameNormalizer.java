@@ -0,0 +1,106 @@
+package com.mryoda.diagnostics.api.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of test names used for matching search results.
+ *
+ * {@link #canonicalKey(String)} does in one pass what the matching code used to do
+ * with {@code trim().replaceAll("\\s+", " ")}, {@code replaceAll("\\s*-\\s*", " ")}
+ * and repeated {@code toLowerCase()} calls: "Bone Profile -1", "bone-profile-1"
+ * and "BONE  PROFILE 1" all become "bone profile 1". Compute the key once per name
+ * and compare keys with {@code equals}/{@code contains}.
+ */
+public final class TestNameNormalizer {
+
+    /** Runs of whitespace (for splitting words or collapsing spaces) */
+    public static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TestNameNormalizer() {
+    }
+
+    /**
+     * Lower case, dashes/underscores treated as spaces, whitespace collapsed and trimmed.
+     * Returns "" for null or blank names.
+     */
+    public static String canonicalKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        int len = name.length();
+        if (isCanonical(name)) {
+            return name;
+        }
+
+        char[] out = new char[len];
+        int size = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < len; i++) {
+            char c = name.charAt(i);
+            if (isSeparator(c)) {
+                pendingSpace = size > 0;
+            } else {
+                if (pendingSpace) {
+                    out[size++] = ' ';
+                    pendingSpace = false;
+                }
+                out[size++] = Character.toLowerCase(c);
+            }
+        }
+        return new String(out, 0, size);
+    }
+
+    /**
+     * Same test name after normalization ("Profile -1" matches "profile 1")
+     */
+    public static boolean sameName(String a, String b) {
+        return keysMatch(canonicalKey(a), canonicalKey(b));
+    }
+
+    /**
+     * Exact match of two canonical keys (blank keys never match)
+     */
+    public static boolean keysMatch(String keyA, String keyB) {
+        return !keyA.isEmpty() && keyA.equals(keyB);
+    }
+
+    /**
+     * One canonical key contains the other (partial match; blank keys never match)
+     */
+    public static boolean keysOverlap(String keyA, String keyB) {
+        if (keyA.isEmpty() || keyB.isEmpty()) {
+            return false;
+        }
+        return keyA.length() >= keyB.length() ? keyA.contains(keyB) : keyB.contains(keyA);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-' || c == '_' || Character.isWhitespace(c);
+    }
+
+    /**
+     * Already a canonical key - lets the common case return without allocating
+     */
+    private static boolean isCanonical(String name) {
+        int len = name.length();
+        if (len == 0) {
+            return true;
+        }
+        if (name.charAt(0) == ' ' || name.charAt(len - 1) == ' ') {
+            return false;
+        }
+        char previous = 0;
+        for (int i = 0; i < len; i++) {
+            char c = name.charAt(i);
+            if (c == ' ') {
+                if (previous == ' ') {
+                    return false;
+                }
+            } else if (isSeparator(c) || Character.toLowerCase(c) != c) {
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,343 @@
+package com.mryoda.diagnostics.api.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mryoda.diagnostics.api.config.ConfigLoader;
+import com.mryoda.diagnostics.api.config.ConfigManager;
+import com.mryoda.diagnostics.api.pojo.LoginSession;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Login cache for TokenManager, keyed by mobile + user type.
+ *
+ * - expiry is read from the access_token JWT "exp" claim (token.cache.default.ttl.seconds
+ *   when the token is not a JWT)
+ * - a valid entry is reused instead of the OTP request + verify round trip
+ * - a lookup within token.cache.refresh.ahead.seconds of expiry logs in again (lazily, on
+ *   the caller's thread - nothing logs in for users no test asks for any more)
+ * - a token the API rejects with 401 is dropped (RequestBuilder calls {@link #invalidate})
+ * - concurrent lookups of the same user share one login; waiting threads park on a
+ *   future instead of a monitor, so virtual threads never pin a carrier for a login
+ * - with token.cache.persist=true entries are stored AES-GCM encrypted in token.cache.file
+ *   (key derived from token.cache.secret or the TOKEN_CACHE_SECRET env variable), so repeated
+ *   local runs skip login entirely
+ */
+public class TokenCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final byte[] KEY_SALT = "mryoda-token-cache".getBytes(StandardCharsets.UTF_8);
+
+    /** Tokens with less than this left are never handed out */
+    private static final long MIN_REMAINING_SECONDS = 10;
+
+    private static volatile TokenCache instance;
+
+    private final Map<String, LoginSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<LoginSession>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    private final boolean enabled;
+    private final long refreshAheadSeconds;
+    private final long defaultTtlSeconds;
+    private final Path file;
+    private final SecretKeySpec key;
+
+    private TokenCache(ConfigManager config) {
+        this.enabled = config.tokenCacheEnabled();
+        this.refreshAheadSeconds = config.tokenCacheRefreshAheadSeconds();
+        this.defaultTtlSeconds = config.tokenCacheDefaultTtlSeconds();
+
+        String configuredSecret = config.tokenCacheSecret();
+        if (configuredSecret == null || configuredSecret.isEmpty()) {
+            configuredSecret = System.getenv("TOKEN_CACHE_SECRET");
+        }
+        if (config.tokenCachePersist() && (configuredSecret == null || configuredSecret.isEmpty())) {
+            LoggerUtil.warn("⚠️ token.cache.persist=true but no token.cache.secret / TOKEN_CACHE_SECRET - tokens stay in memory");
+        }
+        boolean persist = config.tokenCachePersist() && configuredSecret != null && !configuredSecret.isEmpty();
+        this.file = persist ? Paths.get(config.tokenCacheFile()) : null;
+        this.key = persist ? deriveKey(configuredSecret) : null;
+
+        if (enabled) {
+            loadFromDisk();
+        }
+    }
+
+    public static TokenCache getInstance() {
+        TokenCache cache = instance;
+        if (cache == null) {
+            synchronized (TokenCache.class) {
+                cache = instance;
+                if (cache == null) {
+                    cache = new TokenCache(ConfigLoader.getConfig());
+                    instance = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    // ============================================================
+    // LOOKUP
+    // ============================================================
+
+    /**
+     * Cached login for mobile + user type, or a fresh one from the loader.
+     *
+     * @param loader Performs the real OTP login
+     */
+    public LoginSession getOrLogin(String mobile, String userType, Supplier<LoginSession> loader) {
+        if (!enabled) {
+            misses.incrementAndGet();
+            return withExpiry(loader.get());
+        }
+
+        String key = key(mobile, userType);
+        LoginSession cached = sessions.get(key);
+        if (isFresh(cached)) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        // One login per key, even when several threads ask at once
+        CompletableFuture<LoginSession> login = new CompletableFuture<>();
+        CompletableFuture<LoginSession> running = inFlight.putIfAbsent(key, login);
+        if (running != null) {
+            hits.incrementAndGet();
+            return await(running);
+        }
+        try {
+            LoginSession session = loginOrReuse(key, loader);
+            login.complete(session);
+            return session;
+        } catch (RuntimeException | Error e) {
+            login.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, login);
+        }
+    }
+
+    /**
+     * Drop every cached login holding this token (the API rejected it with 401)
+     *
+     * @param token Access token, with or without the "Bearer " prefix
+     */
+    public void invalidate(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        String raw = token.startsWith("Bearer ") ? token.substring("Bearer ".length()) : token;
+        if (sessions.values().removeIf(session -> raw.equals(session.getToken()))) {
+            LoggerUtil.warn("⚠️ Token rejected with 401 - cached login dropped, the next lookup logs in again");
+            saveToDisk();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getRefreshes() {
+        return refreshCount.get();
+    }
+
+    public String describe() {
+        return "🔑 Token cache | hits=" + hits.get() + " misses=" + misses.get()
+                + " refreshes=" + refreshCount.get() + " cached=" + sessions.size()
+                + (file != null ? " file=" + file : "");
+    }
+
+    private static String key(String mobile, String userType) {
+        return mobile + "|" + userType;
+    }
+
+    private boolean isUsable(LoginSession session) {
+        return session != null && session.getExpiresAt() - nowSeconds() > MIN_REMAINING_SECONDS;
+    }
+
+    /**
+     * Usable and not yet due for a refresh
+     */
+    private boolean isFresh(LoginSession session) {
+        return isUsable(session) && session.getExpiresAt() - nowSeconds() > refreshAheadSeconds;
+    }
+
+    private void store(String key, LoginSession session) {
+        sessions.put(key, session);
+        saveToDisk();
+    }
+
+    /**
+     * Runs on the one thread that won the login for this key
+     */
+    private LoginSession loginOrReuse(String key, Supplier<LoginSession> loader) {
+        LoginSession cached = sessions.get(key);
+        if (isFresh(cached)) {
+            hits.incrementAndGet(); // another thread logged in just before us
+            return cached;
+        }
+        LoginSession fresh;
+        try {
+            fresh = withExpiry(loader.get());
+        } catch (RuntimeException | AssertionError e) {
+            if (!isUsable(cached)) {
+                throw e;
+            }
+            // Only due for a refresh - the old token still works until it expires
+            LoggerUtil.warn("⚠️ Token refresh failed for " + key + ", keeping the current token: " + e.getMessage());
+            hits.incrementAndGet();
+            return cached;
+        }
+        if (isUsable(cached)) {
+            refreshCount.incrementAndGet();
+            LoggerUtil.info("🔄 Token refreshed ahead of expiry: " + fresh.getUserType());
+        } else {
+            misses.incrementAndGet();
+        }
+        store(key, fresh);
+        return fresh;
+    }
+
+    private static LoginSession await(CompletableFuture<LoginSession> login) {
+        try {
+            return login.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    // ============================================================
+    // JWT EXPIRY
+    // ============================================================
+
+    private LoginSession withExpiry(LoginSession session) {
+        Long exp = decodeExpiry(session.getToken());
+        session.setExpiresAt(exp != null ? exp : nowSeconds() + defaultTtlSeconds);
+        return session;
+    }
+
+    /**
+     * "exp" claim (epoch seconds) of a JWT, or null if the token is not a JWT
+     */
+    public static Long decodeExpiry(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = MAPPER.readTree(payload).path("exp");
+            return exp.canConvertToLong() ? exp.longValue() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    // ============================================================
+    // ENCRYPTED PERSISTENCE
+    // ============================================================
+
+    private void loadFromDisk() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try {
+            byte[] plain = crypt(Cipher.DECRYPT_MODE, Files.readAllBytes(file));
+            Map<String, LoginSession> stored = MAPPER.readValue(plain, new TypeReference<Map<String, LoginSession>>() {});
+            stored.forEach((key, session) -> {
+                if (isUsable(session)) {
+                    sessions.put(key, session);
+                }
+            });
+            LoggerUtil.info("🔑 Loaded " + sessions.size() + " cached login(s) from " + file);
+        } catch (Exception e) {
+            // Wrong secret or corrupted file - start empty, it is rewritten on the next login
+            LoggerUtil.warn("⚠️ Ignoring unreadable token cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    private synchronized void saveToDisk() {
+        if (file == null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, crypt(Cipher.ENCRYPT_MODE, MAPPER.writeValueAsBytes(sessions)));
+        } catch (Exception e) {
+            LoggerUtil.warn("⚠️ Could not write token cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static SecretKeySpec deriveKey(String secret) {
+        try {
+            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+            byte[] bytes = factory.generateSecret(new PBEKeySpec(secret.toCharArray(), KEY_SALT, 65536, 256)).getEncoded();
+            return new SecretKeySpec(bytes, "AES");
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to derive token cache key: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * AES-256-GCM; encrypted layout is IV || ciphertext+tag
+     */
+    private byte[] crypt(int mode, byte[] input) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+
+        if (mode == Cipher.ENCRYPT_MODE) {
+            byte[] iv = new byte[GCM_IV_BYTES];
+            new SecureRandom().nextBytes(iv);
+            cipher.init(mode, key, new GCMParameterSpec(GCM_TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(input);
+            byte[] out = new byte[iv.length + encrypted.length];
+            System.arraycopy(iv, 0, out, 0, iv.length);
+            System.arraycopy(encrypted, 0, out, iv.length, encrypted.length);
+            return out;
+        }
+        cipher.init(mode, key, new GCMParameterSpec(GCM_TAG_BITS, input, 0, GCM_IV_BYTES));
+        return cipher.doFinal(input, GCM_IV_BYTES, input.length - GCM_IV_BYTES);
+    }
+}
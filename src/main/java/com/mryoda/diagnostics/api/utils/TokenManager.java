@@ -3,6 +3,7 @@ package com.mryoda.diagnostics.api.utils;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import com.mryoda.diagnostics.api.config.ConfigLoader;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.pojo.LoginSession;
 import io.restassured.response.Response;
 import org.json.JSONObject;
 
@@ -19,9 +20,34 @@ public class TokenManager {
     public static final String EXISTING_MEMBER = "EXISTING_MEMBER";
 
     /**
-     * Generate token with user type - stores all fields in appropriate RequestContext fields
+     * User type with the deprecated EXISTING_MEMBER alias resolved to NON_MEMBER
+     */
+    public static String normalizeUserType(String userType) {
+        return EXISTING_MEMBER.equals(userType) ? NON_MEMBER : userType;
+    }
+
+    /**
+     * Generate token with user type - stores all fields in appropriate RequestContext fields.
+     * A still valid login for the same mobile + user type is reused (see {@link TokenCache}).
      */
     public static String generateToken(String mobile, String userType) {
+        LoginSession session = obtainSession(mobile, userType);
+        storeInContext(session);
+        return session.getToken();
+    }
+
+    /**
+     * Cached or fresh login WITHOUT touching RequestContext (used by SessionBootstrapper
+     * to log several user types in concurrently and publish them together)
+     */
+    public static LoginSession obtainSession(String mobile, String userType) {
+        return TokenCache.getInstance().getOrLogin(mobile, userType, () -> login(mobile, userType));
+    }
+
+    /**
+     * Full OTP login: request OTP, verify it and validate the returned profile
+     */
+    private static LoginSession login(String mobile, String userType) {
 
         System.out.println("\n==================================================");
         System.out.println("========== TOKEN GENERATION START (" + userType + ") ==========");
@@ -79,17 +105,18 @@ public class TokenManager {
                 + verifyResponse.getStatusCode());
 
         // ---------------------------------------------------
-        // Extract ALL fields from response
+        // Extract ALL fields from response (body parsed once)
         // ---------------------------------------------------
-        String token = verifyResponse.jsonPath().getString("data.access_token");
-        String firstName = verifyResponse.jsonPath().getString("data.first_name");
-        String lastName = verifyResponse.jsonPath().getString("data.last_name");
-        String actualMobile = verifyResponse.jsonPath().getString("data.mobile");
-        String userId = verifyResponse.jsonPath().getString("data.guid");
-        String email = verifyResponse.jsonPath().getString("data.email");
-        String gender = verifyResponse.jsonPath().getString("data.gender");
-        String dob = verifyResponse.jsonPath().getString("data.dob");
-        String countryCodeFromResponse = verifyResponse.jsonPath().getString("data.country_code");
+        ParsedResponse verified = ParsedResponse.of(verifyResponse);
+        String token = verified.getString("data.access_token");
+        String firstName = verified.getString("data.first_name");
+        String lastName = verified.getString("data.last_name");
+        String actualMobile = verified.getString("data.mobile");
+        String userId = verified.getString("data.guid");
+        String email = verified.getString("data.email");
+        String gender = verified.getString("data.gender");
+        String dob = verified.getString("data.dob");
+        String countryCodeFromResponse = verified.getString("data.country_code");
 
         // Debug Print EVERYTHING cleanly
         System.out.println("\n🔍 ===== DEBUG: EXTRACTED USER DETAILS =====");
@@ -113,9 +140,31 @@ public class TokenManager {
         AssertionUtil.verifyNotNull(lastName, "Last Name");
         AssertionUtil.verifyNotNull(userId, "User ID");
 
-        // ---------------------------------------------------
-        // SAVE INTO REQUEST CONTEXT BASED ON USER TYPE
-        // ---------------------------------------------------
+        System.out.println("\n==================================================");
+        System.out.println("========== TOKEN GENERATION END (" + userType + ") ===========");
+        System.out.println("==================================================\n");
+
+        return LoginSession.builder()
+                .userType(userType)
+                .mobile(mobile)
+                .token(token)
+                .firstName(firstName)
+                .lastName(lastName)
+                .userId(userId)
+                .email(email)
+                .build();
+    }
+
+    /**
+     * Save login details into RequestContext based on user type
+     */
+    public static void storeInContext(LoginSession session) {
+        String userType = session.getUserType();
+        String token = session.getToken();
+        String firstName = session.getFirstName();
+        String lastName = session.getLastName();
+        String userId = session.getUserId();
+
         switch (userType) {
             case MEMBER:
                 RequestContext.setMemberToken(token);
@@ -171,12 +220,6 @@ public class TokenManager {
                 System.out.println("✔ User ID: " + userId);
                 break;
         }
-
-        System.out.println("\n==================================================");
-        System.out.println("========== TOKEN GENERATION END (" + userType + ") ===========");
-        System.out.println("==================================================\n");
-
-        return token;
     }
 
     /**
@@ -1,8 +1,10 @@
 package com.mryoda.diagnostics.api.base;
 
 import com.mryoda.diagnostics.api.utils.RequestContext;
+import com.mryoda.diagnostics.api.utils.SessionBootstrapper;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeSuite;
 import io.restassured.RestAssured;
 import com.mryoda.diagnostics.api.config.ConfigLoader;
 import com.mryoda.diagnostics.api.utils.LoggerUtil;
@@ -10,10 +12,19 @@ import com.mryoda.diagnostics.api.utils.LoggerUtil;
 /**
  * Base Test Class - Parent class for all test classes
  * Contains setup and teardown methods
- * Note: Token generation is NOT automatic - tests must generate their own tokens
+ * Note: Token generation is NOT automatic - tests must generate their own tokens.
+ * The suite-level bootstrap only pre-warms logins (session.bootstrap.enabled).
  */
 public class BaseTest {
 
+    @BeforeSuite(alwaysRun = true)
+    public void bootstrapSessions() {
+        RestAssured.baseURI = ConfigLoader.getConfig().baseUrl();
+
+        // Logs the session.bootstrap.user.types in concurrently; any failure aborts the suite
+        SessionBootstrapper.bootstrapFromConfig();
+    }
+
     @BeforeClass(alwaysRun = true)
     public void setUp() {
         LoggerUtil.info("====== Test Setup Started ======");
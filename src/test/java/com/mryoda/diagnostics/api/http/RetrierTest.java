@@ -0,0 +1,102 @@
+package com.mryoda.diagnostics.api.http;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.mryoda.diagnostics.api.http.RetryPolicyTest.status;
+
+/**
+ * Offline checks of what Retrier does with a policy: which attempts it repeats and
+ * when it gives up. Keeps to a handful of retries in total so the global budget's
+ * per-second allowance is never the reason a retry is skipped.
+ */
+public class RetrierTest {
+
+    private static RetryPolicy policy(String method, int maxRetries) {
+        Map<String, String> values = new HashMap<>();
+        values.put("max.retries", String.valueOf(maxRetries));
+        values.put("backoff.base.ms", "1");
+        values.put("backoff.cap.ms", "5");
+        return RetryPolicy.build("TEST", method, values);
+    }
+
+    private static Response run(RetryPolicy policy, Supplier<Response> first, Supplier<Response> retry) {
+        return AsyncRequestExecutor.join(Retrier.execute(policy, "TEST", Retrier.now(first), retry, 0)
+                .orTimeout(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTransientStatusIsRetriedUntilSuccess() {
+        AtomicInteger retries = new AtomicInteger();
+        Response r = run(policy("GET", 3), () -> status(503), () -> {
+            retries.incrementAndGet();
+            return status(200);
+        });
+        Assert.assertEquals(r.getStatusCode(), 200);
+        Assert.assertEquals(retries.get(), 1);
+    }
+
+    @Test
+    public void testGivesUpAfterMaxRetries() {
+        AtomicInteger retries = new AtomicInteger();
+        Response r = run(policy("GET", 2), () -> status(503), () -> {
+            retries.incrementAndGet();
+            return status(503);
+        });
+        Assert.assertEquals(r.getStatusCode(), 503);
+        Assert.assertEquals(retries.get(), 2);
+    }
+
+    @Test
+    public void testNonIdempotentServerErrorIsNotRetried() {
+        AtomicInteger retries = new AtomicInteger();
+        Response r = run(policy("POST", 3), () -> status(503), () -> {
+            retries.incrementAndGet();
+            return status(200);
+        });
+        Assert.assertEquals(r.getStatusCode(), 503);
+        Assert.assertEquals(retries.get(), 0);
+    }
+
+    @Test
+    public void testNonIdempotentRefusedConnectionIsRetried() {
+        AtomicInteger retries = new AtomicInteger();
+        Response r = run(policy("POST", 3), () -> {
+            throw new RuntimeException(new ConnectException("Connection refused"));
+        }, () -> {
+            retries.incrementAndGet();
+            return status(200);
+        });
+        Assert.assertEquals(r.getStatusCode(), 200);
+        Assert.assertEquals(retries.get(), 1);
+    }
+
+    @Test
+    public void testRetryAfterBeyondCapGivesUp() {
+        AtomicInteger retries = new AtomicInteger();
+        Response tooManyRequests = new ResponseBuilder().setStatusCode(429).setHeader("Retry-After", "60")
+                .setBody("").build();
+        Response r = run(policy("GET", 3), () -> tooManyRequests, () -> {
+            retries.incrementAndGet();
+            return status(200);
+        });
+        Assert.assertEquals(r.getStatusCode(), 429);
+        Assert.assertEquals(retries.get(), 0);
+    }
+
+    @Test
+    public void testNoRetriesReturnsTheFirstAttempt() {
+        CompletableFuture<Response> first = CompletableFuture.completedFuture(status(503));
+        Assert.assertSame(Retrier.execute(RetryPolicy.NONE, "TEST", first, () -> status(200), 0), first);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mryoda.diagnostics.api.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline checks of the retry budget arithmetic
+ */
+public class RetryBudgetTest {
+
+    @Test
+    public void testDepositsBuyRetries() {
+        RetryBudget budget = new RetryBudget(50, 0);
+        Assert.assertFalse(budget.tryWithdraw(), "nothing deposited yet");
+        budget.deposit();
+        Assert.assertFalse(budget.tryWithdraw(), "half a retry is not enough");
+        budget.deposit();
+        Assert.assertTrue(budget.tryWithdraw());
+        Assert.assertFalse(budget.tryWithdraw());
+        Assert.assertEquals(budget.getRetries(), 1);
+        Assert.assertEquals(budget.getExhausted(), 3);
+    }
+
+    @Test
+    public void testMinimumPerSecondWithoutDeposits() {
+        RetryBudget budget = new RetryBudget(0, 2);
+        Assert.assertTrue(budget.tryWithdraw());
+        Assert.assertTrue(budget.tryWithdraw());
+        Assert.assertFalse(budget.tryWithdraw());
+        Assert.assertEquals(budget.getExhausted(), 1);
+    }
+
+    @Test
+    public void testBalanceIsBounded() {
+        RetryBudget budget = new RetryBudget(100, 0);
+        for (int i = 0; i < 50; i++) {
+            budget.deposit();
+        }
+        int granted = 0;
+        while (budget.tryWithdraw()) {
+            granted++;
+        }
+        Assert.assertEquals(granted, 10, "a quiet stretch banks at most 10 retries");
+    }
+}
@@ -0,0 +1,147 @@
+package com.mryoda.diagnostics.api.http;
+
+import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
+import com.mryoda.diagnostics.api.utils.RetryUtil;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Offline checks of retry.properties parsing and of which failures a policy retries
+ */
+public class RetryPolicyTest {
+
+    static Response status(int code) {
+        return new ResponseBuilder().setStatusCode(code).setHeader("Content-Type", "application/json").setBody("").build();
+    }
+
+    private static RetryPolicy policy(String method, String... settings) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < settings.length; i += 2) {
+            values.put(settings[i], settings[i + 1]);
+        }
+        return RetryPolicy.build("TEST", method, values);
+    }
+
+    // ============================================================
+    // PARSING
+    // ============================================================
+
+    @Test
+    public void testIdempotentDefaultsFollowTheMethod() {
+        Assert.assertTrue(policy("GET").isIdempotent());
+        Assert.assertTrue(policy("put").isIdempotent());
+        Assert.assertTrue(policy("DELETE").isIdempotent());
+        Assert.assertFalse(policy("POST").isIdempotent());
+        Assert.assertTrue(policy("POST", "idempotent", "true").isIdempotent());
+        Assert.assertFalse(policy("GET", "idempotent", "false").isIdempotent());
+    }
+
+    @Test
+    public void testSettingsAreParsed() {
+        RetryPolicy p = policy("GET", "max.retries", "4", "retry.on", " 503 , 5XX ",
+                "backoff.base.ms", "20", "backoff.cap.ms", "300");
+        Assert.assertEquals(p.getMaxRetries(), 4);
+        Assert.assertEquals(p.getCapMs(), 300);
+        Assert.assertTrue(p.retries(status(599)));
+    }
+
+    @Test
+    public void testCapIsNeverBelowBase() {
+        Assert.assertEquals(policy("GET", "backoff.base.ms", "500", "backoff.cap.ms", "100").getCapMs(), 500);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = ".*TEST\\.retry\\.on.*")
+    public void testInvalidStatusIsRejected() {
+        policy("GET", "retry.on", "503,60x");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = ".*max\\.retries is not a number.*")
+    public void testInvalidNumberIsRejected() {
+        policy("GET", "max.retries", "three");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = ".*Unknown retry setting.*maxretries.*")
+    public void testUnknownSettingIsRejected() {
+        policy("GET", "maxretries", "3");
+    }
+
+    // ============================================================
+    // DECISIONS
+    // ============================================================
+
+    @Test
+    public void testIdempotentRetriesConfiguredStatusesOnly() {
+        RetryPolicy p = policy("GET");
+        Assert.assertTrue(p.retries(status(429)));
+        Assert.assertTrue(p.retries(status(502)));
+        Assert.assertTrue(p.retries(status(503)));
+        Assert.assertTrue(p.retries(status(504)));
+        Assert.assertFalse(p.retries(status(500)));
+        Assert.assertFalse(p.retries(status(400)));
+        Assert.assertFalse(p.retries(status(404)));
+        Assert.assertFalse(p.retries(status(200)));
+    }
+
+    @Test
+    public void testNonIdempotentRetriesOnlyWhatWasNotProcessed() {
+        RetryPolicy p = policy("POST");
+        Assert.assertTrue(p.retries(status(429)), "429 is rejected before processing");
+        Assert.assertFalse(p.retries(status(503)));
+        Assert.assertTrue(p.retries(new ConnectException("Connection refused")));
+        Assert.assertFalse(p.retries(new SocketTimeoutException("Read timed out")));
+        Assert.assertFalse(p.retries(new IOException("Connection reset")));
+    }
+
+    @Test
+    public void testFailuresWithoutResponse() {
+        RetryPolicy p = policy("GET");
+        Assert.assertTrue(p.retries(new ConnectException("Connection refused")));
+        Assert.assertTrue(p.retries(new RuntimeException(new SocketTimeoutException("Read timed out"))));
+        Assert.assertFalse(p.retries(new UnknownHostException("staging.example")), "a bad host is not transient");
+        Assert.assertFalse(p.retries(new IllegalArgumentException("bug")));
+    }
+
+    @Test
+    public void testNoneNeverRetries() {
+        Assert.assertEquals(RetryPolicy.NONE.getMaxRetries(), 0);
+        Assert.assertFalse(RetryPolicy.NONE.retries(status(429)));
+        Assert.assertFalse(RetryPolicy.NONE.retries(status(503)));
+    }
+
+    @Test
+    public void testDelaysStayWithinBaseAndCap() {
+        RetryPolicy p = policy("GET", "backoff.base.ms", "100", "backoff.cap.ms", "1000");
+        long previous = 0; // first delay: between base and 3x base
+        for (int i = 0; i < 200; i++) {
+            long delay = p.nextDelayMs(previous);
+            Assert.assertTrue(delay >= 100 && delay <= Math.min(1000, Math.max(100, previous) * 3),
+                    "delay " + delay + " after " + previous);
+            previous = delay;
+        }
+    }
+
+    // ============================================================
+    // NESTING
+    // ============================================================
+
+    @Test
+    public void testRequestsInsideRetryUtilAreNotRetriedAgain() {
+        AtomicReference<RetryPolicy> inner = new AtomicReference<>();
+        RetryUtil.retryOnFailure(() -> {
+            inner.set(RetryPolicy.forRequest("GET", APIEndpoints.GLOBAL_SEARCH));
+            return status(200);
+        }, 3, 10);
+        Assert.assertSame(inner.get(), RetryPolicy.NONE);
+        Assert.assertNotSame(RetryPolicy.forRequest("GET", APIEndpoints.GLOBAL_SEARCH), RetryPolicy.NONE);
+    }
+}
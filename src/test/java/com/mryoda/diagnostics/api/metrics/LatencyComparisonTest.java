@@ -0,0 +1,106 @@
+package com.mryoda.diagnostics.api.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline checks of the statistics behind the latency regression report.
+ * Expected values are worked out by hand (rank sums, pooled proportions).
+ */
+public class LatencyComparisonTest {
+
+    private static final double EPSILON = 1e-6;
+
+    private static Histogram histogram(long... values) {
+        Histogram h = new Histogram(3);
+        for (long value : values) {
+            h.recordValue(value);
+        }
+        return h;
+    }
+
+    // ============================================================
+    // MANN-WHITNEY
+    // ============================================================
+
+    @Test
+    public void testMannWhitneyIdenticalRunsIsZero() {
+        double z = LatencyComparison.mannWhitneyZ(histogram(1, 2, 3, 4, 5), histogram(1, 2, 3, 4, 5));
+        Assert.assertEquals(z, 0.0, EPSILON);
+    }
+
+    @Test
+    public void testMannWhitneyFullySlowerCurrent() {
+        // U = 10 * 10 = 100, mean 50, variance 10 * 10 / 12 * 21 = 175
+        double z = LatencyComparison.mannWhitneyZ(
+                histogram(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                histogram(11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+        Assert.assertEquals(z, 50 / Math.sqrt(175), EPSILON);
+    }
+
+    @Test
+    public void testMannWhitneyFasterCurrentIsNegative() {
+        double z = LatencyComparison.mannWhitneyZ(
+                histogram(11, 12, 13, 14, 15, 16, 17, 18, 19, 20),
+                histogram(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Assert.assertEquals(z, -50 / Math.sqrt(175), EPSILON);
+    }
+
+    @Test
+    public void testMannWhitneyTieCorrection() {
+        // ranks: 1,1 -> 1.5; 2 x4 -> 4.5; 3,3 -> 7.5; U = 24 - 10 = 14, mean 8
+        // variance 16 / 12 * (9 - 72 / 56) = 10.2857..., z = 6 / sqrt(variance)
+        double z = LatencyComparison.mannWhitneyZ(histogram(1, 1, 2, 2), histogram(2, 2, 3, 3));
+        Assert.assertEquals(z, 1.8708286933869709, EPSILON);
+    }
+
+    @Test
+    public void testMannWhitneyAllTiedIsZero() {
+        double z = LatencyComparison.mannWhitneyZ(histogram(7, 7, 7), histogram(7, 7));
+        Assert.assertEquals(z, 0.0, EPSILON);
+    }
+
+    // ============================================================
+    // ERROR RATE
+    // ============================================================
+
+    @Test
+    public void testErrorRegressionPValueForHigherErrorRate() {
+        // 1% -> 3% on 1000 requests each: pooled 2%, z = 3.1944, p = 0.0007
+        double p = LatencyComparison.errorRegressionPValue(1000, 10, 1000, 30);
+        Assert.assertEquals(p, 0.0007006507904801084, EPSILON);
+    }
+
+    @Test
+    public void testErrorRegressionPValueForEqualRates() {
+        Assert.assertEquals(LatencyComparison.errorRegressionPValue(1000, 10, 1000, 10), 0.5, EPSILON);
+    }
+
+    @Test
+    public void testErrorRegressionPValueForLowerErrorRate() {
+        double p = LatencyComparison.errorRegressionPValue(1000, 30, 1000, 10);
+        Assert.assertEquals(p, 0.9992993492095199, EPSILON);
+    }
+
+    @Test
+    public void testErrorRegressionPValueSmallDifferenceIsNotSignificant() {
+        double p = LatencyComparison.errorRegressionPValue(200, 2, 200, 3);
+        Assert.assertEquals(p, 0.3263425441266623, EPSILON);
+    }
+
+    @Test
+    public void testErrorRegressionPValueNothingToTest() {
+        Assert.assertTrue(Double.isNaN(LatencyComparison.errorRegressionPValue(0, 0, 100, 5)));
+        Assert.assertTrue(Double.isNaN(LatencyComparison.errorRegressionPValue(100, 5, 0, 0)));
+        Assert.assertTrue(Double.isNaN(LatencyComparison.errorRegressionPValue(100, 0, 100, 0)));
+        Assert.assertTrue(Double.isNaN(LatencyComparison.errorRegressionPValue(100, 100, 100, 100)));
+    }
+
+    @Test
+    public void testNormalCdf() {
+        Assert.assertEquals(LatencyComparison.normalCdf(0), 0.5, EPSILON);
+        Assert.assertEquals(LatencyComparison.normalCdf(1.959963984540054), 0.975, EPSILON);
+        Assert.assertEquals(LatencyComparison.normalCdf(-1.959963984540054), 0.025, EPSILON);
+    }
+}
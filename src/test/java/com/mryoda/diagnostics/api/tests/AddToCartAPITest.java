@@ -3,6 +3,7 @@ package com.mryoda.diagnostics.api.tests;
 import com.mryoda.diagnostics.api.base.BaseTest;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import io.restassured.response.Response;
@@ -219,11 +220,12 @@ public class AddToCartAPITest extends BaseTest {
         System.out.println("\n🔍 ======= API RESPONSE FROM BACKEND =======");
         System.out.println("Status Code: " + response.getStatusCode());
         
+        ParsedResponse body = ParsedResponse.of(response);
         // Check if response has cart_items with price
         try {
-            List<Map<String, Object>> responseItems = response.jsonPath().getList("data.cart_items");
+            List<Map<String, Object>> responseItems = body.getList("data.cart_items");
             if (responseItems == null) {
-                responseItems = response.jsonPath().getList("data.product_details");
+                responseItems = body.getList("data.product_details");
             }
             
             if (responseItems != null && !responseItems.isEmpty()) {
@@ -277,32 +279,34 @@ public class AddToCartAPITest extends BaseTest {
         System.out.println("║     COMPREHENSIVE CART VALIDATION - " + userType);
         System.out.println("╚════════════════════════════════════════════════════════════╝");
         
+        ParsedResponse body = ParsedResponse.of(response);
+        
         // ========== STEP 1: VALIDATE API RESPONSE ========== //
         System.out.println("\n🔍 STEP 1: Validating API Response");
         
         // Validate success flag
-        Boolean successFlag = response.jsonPath().getBoolean("success");
+        Boolean successFlag = body.getBoolean("success");
         AssertionUtil.verifyTrue(successFlag, "API success flag should be true");
         System.out.println("   ✅ Success flag: " + successFlag);
         
         // Validate message
-        String message = response.jsonPath().getString("msg");
+        String message = body.getString("msg");
         System.out.println("   ✅ Response message: " + message);
         
         // ========== STEP 2: VALIDATE CART BASIC FIELDS ========== //
         System.out.println("\n🔍 STEP 2: Validating Cart Basic Fields");
         
         // Get cart fields
-        String cartGuid = response.jsonPath().getString("data.guid");
+        String cartGuid = body.getString("data.guid");
         System.out.println("   ✅ Cart GUID: " + cartGuid);
         
-        Integer cartId = response.jsonPath().getInt("data.id");
+        Integer cartId = body.getInt("data.id");
         System.out.println("   ✅ Cart ID: " + cartId);
         
-        String cartUserId = response.jsonPath().getString("data.user_id");
+        String cartUserId = body.getString("data.user_id");
         System.out.println("   ✅ User ID: " + cartUserId);
         
-        Integer totalAmount = response.jsonPath().getInt("total_amount");
+        Integer totalAmount = body.getInt("total_amount");
         if (totalAmount != null) {
             System.out.println("   ✅ Total Amount: ₹" + totalAmount);
         }
@@ -311,9 +315,9 @@ public class AddToCartAPITest extends BaseTest {
         System.out.println("\n🔍 STEP 3: Validating Cart Items Count");
         
         // Try cart_items first, fallback to product_details
-        List<Map<String, Object>> cartItems = response.jsonPath().getList("data.cart_items");
+        List<Map<String, Object>> cartItems = body.getList("data.cart_items");
         if (cartItems == null) {
-            cartItems = response.jsonPath().getList("data.product_details");
+            cartItems = body.getList("data.product_details");
         }
         
         final int EXPECTED_TESTS_ADDED = 2; // We added 2 tests
@@ -336,20 +340,21 @@ public class AddToCartAPITest extends BaseTest {
         Map<String, Map<String, Object>> storedTests = RequestContext.getAllTests();
         
         // Determine which field to use (cart_items or product_details)
-        String itemsPath = response.jsonPath().get("data.cart_items") != null ? "cart_items" : "product_details";
+        String itemsPath = body.get("data.cart_items") != null ? "cart_items" : "product_details";
+        List<ParsedResponse> itemViews = body.elements("data." + itemsPath);
         System.out.println("   Using response field: data." + itemsPath);
         
         for (int i = 0; i < cartItems.size(); i++) {
             System.out.println("\n   ━━━━━ Item " + (i+1) + " Validation ━━━━━");
             
             // Extract cart item fields (cart_items has test_name, product_details doesn't)
-            String itemName = response.jsonPath().getString("data." + itemsPath + "[" + i + "].test_name");
-            String itemProductId = response.jsonPath().getString("data." + itemsPath + "[" + i + "].product_id");
-            Object priceObj = response.jsonPath().get("data." + itemsPath + "[" + i + "].price");
+            String itemName = itemViews.get(i).getString("test_name");
+            String itemProductId = itemViews.get(i).getString("product_id");
+            Object priceObj = itemViews.get(i).get("price");
             Integer itemPrice = (priceObj != null) ? ((Number) priceObj).intValue() : null;
-            Integer itemQuantity = response.jsonPath().getInt("data." + itemsPath + "[" + i + "].quantity");
-            String itemBrandId = response.jsonPath().getString("data." + itemsPath + "[" + i + "].brand_id");
-            String itemLocationId = response.jsonPath().getString("data." + itemsPath + "[" + i + "].location_id");
+            Integer itemQuantity = itemViews.get(i).getInt("quantity");
+            String itemBrandId = itemViews.get(i).getString("brand_id");
+            String itemLocationId = itemViews.get(i).getString("location_id");
             
             // ========== CROSS-VALIDATE WITH STORED TEST DATA (GlobalSearchAPI) ========== //
             System.out.println("\n   🔄 Cross-validating cart item " + (i+1) + " with GlobalSearchAPI response...");
@@ -439,8 +444,8 @@ public class AddToCartAPITest extends BaseTest {
         
         // Check home collection for each cart item (reuse storedTests from earlier)
         for (int i = 0; i < Math.min(cartItems.size(), EXPECTED_TESTS_ADDED); i++) {
-            String itemProductId = response.jsonPath().getString("data." + itemsPath + "[" + i + "].product_id");
-            String itemName = response.jsonPath().getString("data." + itemsPath + "[" + i + "].test_name");
+            String itemProductId = itemViews.get(i).getString("product_id");
+            String itemName = itemViews.get(i).getString("test_name");
             
             // Find test in stored tests
             Map<String, Object> testData = null;
@@ -502,10 +507,10 @@ public class AddToCartAPITest extends BaseTest {
         System.out.println("\n🔍 STEP 5: Storing Cart Data for " + userType);
         
         // Extract complete cart data from response
-        Map<String, Object> cartData = response.jsonPath().getMap("data");
+        Map<String, Object> cartData = body.getMap("data");
         
         // Extract cart items list
-        List<Map<String, Object>> cartItemsList = response.jsonPath().getList("data." + itemsPath);
+        List<Map<String, Object>> cartItemsList = body.getList("data." + itemsPath);
         
         switch(userType) {
             case "MEMBER":
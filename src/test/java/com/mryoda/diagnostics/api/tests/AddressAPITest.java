@@ -5,6 +5,7 @@ import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
@@ -118,44 +119,45 @@ public class AddressAPITest extends BaseTest {
         
         // Step 1: Validate API Response
         System.out.println("✅ STEP 1: Validating API Response");
-        AssertionUtil.verifyTrue(response.jsonPath().getBoolean("success"), "API success flag should be true");
-        System.out.println("   ✔ Success flag: " + response.jsonPath().getBoolean("success"));
-        String message = response.jsonPath().getString("message");
+        ParsedResponse body = ParsedResponse.of(response);
+        AssertionUtil.verifyTrue(body.getBoolean("success"), "API success flag should be true");
+        System.out.println("   ✔ Success flag: " + body.getBoolean("success"));
+        String message = body.getString("message");
         System.out.println("   ✔ Response message: " + message);
         
         // Step 2: Validate Address Details
         System.out.println("\n✅ STEP 2: Validating Address Details");
         
-        String addressId = response.jsonPath().getString("data._id");
+        String addressId = body.getString("data._id");
         if (addressId != null && !addressId.isEmpty()) {
             System.out.println("   ✔ Address ID: " + addressId);
         }
         
-        String userId = response.jsonPath().getString("data.user_id");
+        String userId = body.getString("data.user_id");
         AssertionUtil.verifyEquals(userId, sentPayload.get("user_id"), "User ID should match sent payload");
         System.out.println("   ✔ User ID matches: " + userId);
         
-        String receiverName = response.jsonPath().getString("data.receiver_name");
+        String receiverName = body.getString("data.receiver_name");
         AssertionUtil.verifyEquals(receiverName, sentPayload.get("receiver_name"), "Receiver name should match sent payload");
         System.out.println("   ✔ Receiver Name matches: " + receiverName);
         
-        String recipientMobile = response.jsonPath().getString("data.recipient_mobile_number");
+        String recipientMobile = body.getString("data.recipient_mobile_number");
         AssertionUtil.verifyEquals(recipientMobile, sentPayload.get("recipient_mobile_number"), "Mobile number should match sent payload");
         System.out.println("   ✔ Mobile Number matches: " + recipientMobile);
         
-        String city = response.jsonPath().getString("data.city");
+        String city = body.getString("data.city");
         AssertionUtil.verifyEquals(city, sentPayload.get("city"), "City should match sent payload");
         System.out.println("   ✔ City matches: " + city);
         
-        String state = response.jsonPath().getString("data.state");
+        String state = body.getString("data.state");
         AssertionUtil.verifyEquals(state, sentPayload.get("state"), "State should match sent payload");
         System.out.println("   ✔ State matches: " + state);
         
-        String latitude = response.jsonPath().getString("data.latitude");
+        String latitude = body.getString("data.latitude");
         AssertionUtil.verifyEquals(latitude, sentPayload.get("latitude"), "Latitude should match sent payload");
         System.out.println("   ✔ Latitude matches: " + latitude);
         
-        String longitude = response.jsonPath().getString("data.longitude");
+        String longitude = body.getString("data.longitude");
         AssertionUtil.verifyEquals(longitude, sentPayload.get("longitude"), "Longitude should match sent payload");
         System.out.println("   ✔ Longitude matches: " + longitude);
         
@@ -3,36 +3,37 @@ package com.mryoda.diagnostics.api.tests;
 import com.mryoda.diagnostics.api.base.BaseTest;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import com.mryoda.diagnostics.api.utils.ReferenceDataCache;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import java.util.List;
-import java.util.Map;
 
 public class BrandAPITest extends BaseTest {
 
-    private void validateAndStoreBrands(Response response) {
-        AssertionUtil.verifyTrue(response.jsonPath().getBoolean("success"), "API success flag");
+    private void validateAndStoreBrands(ParsedResponse body) {
+        AssertionUtil.verifyTrue(body.getBoolean("success"), "API success flag");
 
-        List<Map<String, Object>> brands = response.jsonPath().getList("data");
-        AssertionUtil.verifyTrue(brands != null && brands.size() > 0, "Brand count > 0");
+        List<ParsedResponse> brands = body.elements("data");
+        AssertionUtil.verifyTrue(brands.size() > 0, "Brand count > 0");
         
         System.out.println("\n🏷️ Total Brands Found: " + brands.size());
 
-        for (int i = 0; i < brands.size(); i++) {
-            String brandName = response.jsonPath().getString("data[" + i + "].title");
-            String brandId = response.jsonPath().getString("data[" + i + "].Guid");
-            String brandStatus = response.jsonPath().getString("data[" + i + "].is_active");
+        for (ParsedResponse brand : brands) {
+            String brandName = brand.getString("title");
+            String brandId = brand.getString("Guid");
+            String brandStatus = brand.getString("is_active");
             
             // Validate brand is ACTIVE before storing
             if (brandStatus != null) {
                 System.out.println("   Brand: " + brandName + " | Status: " + brandStatus + " | ID: " + brandId);
             }
             
-            RequestContext.storeBrand(brandName, brandId);
             System.out.println("✔ Stored: " + brandName + " → brand_id: " + brandId);
         }
+        RequestContext.storeBrands(body);
         
         // Verify critical brand exists (Diagnostics brand is used in tests)
         String diagnosticsBrandId = RequestContext.getBrandId("Diagnostics");
@@ -49,14 +50,10 @@ public class BrandAPITest extends BaseTest {
         System.out.println("\n🟢 Brands stored for reuse in next APIs\n");
     }
 
-    private Response callGetAllBrandsAPI(String token, int page) {
+    private ParsedResponse callGetAllBrandsAPI(String token, int page) {
         System.out.println("📄 Requesting page: " + page);
-        return new RequestBuilder()
-                .setEndpoint(APIEndpoints.GET_ALL_BRANDS)
-                .addHeader("Authorization", token)
-                .addBodyParam("page", page)
-                .expectStatus(200)
-                .post();
+        // Same list for every user - fetched once per run
+        return ReferenceDataCache.getInstance().brands(token, page);
     }
 
     @Test(priority = 6, dependsOnMethods = "com.mryoda.diagnostics.api.tests.LocationAPITest.testGetLocations_ForMember")
@@ -65,7 +62,7 @@ public class BrandAPITest extends BaseTest {
         System.out.println("║          GET ALL BRANDS API — MEMBER                     ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         String token = RequestContext.getMemberToken();
-        Response response = callGetAllBrandsAPI(token, 1);
+        ParsedResponse response = callGetAllBrandsAPI(token, 1);
         validateAndStoreBrands(response);
     }
 
@@ -75,7 +72,7 @@ public class BrandAPITest extends BaseTest {
         System.out.println("║       GET ALL BRANDS API — EXISTING MEMBER               ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         String token = RequestContext.getNonMemberToken();
-        Response response = callGetAllBrandsAPI(token, 1);
+        ParsedResponse response = callGetAllBrandsAPI(token, 1);
         validateAndStoreBrands(response);
     }
 
@@ -85,7 +82,7 @@ public class BrandAPITest extends BaseTest {
         System.out.println("║         GET ALL BRANDS API — NEW USER                    ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         String token = RequestContext.getNewUserToken();
-        Response response = callGetAllBrandsAPI(token, 1);
+        ParsedResponse response = callGetAllBrandsAPI(token, 1);
         validateAndStoreBrands(response);
     }
 
@@ -0,0 +1,207 @@
+package com.mryoda.diagnostics.api.tests;
+
+import com.mryoda.diagnostics.api.base.BaseTest;
+import com.mryoda.diagnostics.api.flow.FlowEngine;
+import com.mryoda.diagnostics.api.flow.FlowGraph;
+import com.mryoda.diagnostics.api.flow.FlowReport;
+import com.mryoda.diagnostics.api.flow.FlowStep;
+import com.mryoda.diagnostics.api.utils.AssertionUtil;
+import com.mryoda.diagnostics.api.utils.RequestContext;
+import com.mryoda.diagnostics.api.utils.SessionContext;
+import com.mryoda.diagnostics.api.utils.SlotFinder;
+import com.mryoda.diagnostics.api.utils.TokenManager;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * End-to-end booking flow (login → ... → payment) run as a dependency graph.
+ *
+ * Each step declares the data it needs and provides (e.g. "MEMBER.addressId"), so
+ * address creation runs alongside the cart steps, and the MEMBER / NON_MEMBER /
+ * NEW_USER pipelines only meet at the shared global search. The report shows the
+ * critical path - the chain that bounds the flow's wall clock.
+ *
+ * Steps reuse the existing API test methods; only the slot selection is per user
+ * here (SlotFinder on the user's own address instead of one shared slot).
+ */
+public class CompleteFlowTest extends BaseTest {
+
+    private final UserCreateAPITest userCreate = new UserCreateAPITest();
+    private final LoginAPITest login = new LoginAPITest();
+    private final LocationAPITest locations = new LocationAPITest();
+    private final BrandAPITest brands = new BrandAPITest();
+    private final GlobalSearchAPITest search = new GlobalSearchAPITest();
+    private final AddToCartAPITest addToCart = new AddToCartAPITest();
+    private final GetCartByIdAPITest getCart = new GetCartByIdAPITest();
+    private final AddressAPITest address = new AddressAPITest();
+    private final GetAddressByUserIdAPITest getAddress = new GetAddressByUserIdAPITest();
+    private final GetCentersByAddAPITest centers = new GetCentersByAddAPITest();
+    private final SlotAndCartUpdateAPITest slotUpdate = new SlotAndCartUpdateAPITest();
+    private final CreateOrderAPITest order = new CreateOrderAPITest();
+    private final PaymentValidationAPITest payment = new PaymentValidationAPITest();
+
+    @Test(priority = 1)
+    public void testCompleteMemberFlow() {
+        runFlow(TokenManager.MEMBER);
+    }
+
+    @Test(priority = 2)
+    public void testCompleteExistingMemberFlow() {
+        runFlow(TokenManager.NON_MEMBER);
+    }
+
+    @Test(priority = 3)
+    public void testCompleteNewUserFlow() {
+        runFlow(TokenManager.NEW_USER);
+    }
+
+    /**
+     * All three pipelines in one graph - they overlap wherever their data allows
+     */
+    @Test(priority = 4)
+    public void testAllUserFlowsConcurrently() {
+        runFlow(TokenManager.MEMBER, TokenManager.NON_MEMBER, TokenManager.NEW_USER);
+    }
+
+    private void runFlow(String... userTypes) {
+        System.out.println("\n╔══════════════════════════════════════════════════════════╗");
+        System.out.println("║        COMPLETE FLOW — " + String.format("%-34s", String.join(", ", userTypes)) + "║");
+        System.out.println("╚══════════════════════════════════════════════════════════╝");
+
+        // The engine logs the step table and the critical path
+        FlowReport report = FlowEngine.run(buildGraph(Arrays.asList(userTypes)));
+        report.assertSuccessful();
+    }
+
+    // ============================================================
+    // GRAPH
+    // ============================================================
+
+    private FlowGraph buildGraph(List<String> userTypes) {
+        FlowGraph.Builder graph = FlowGraph.builder();
+
+        // Global search stores the selected tests and selects the location once for every user (Madhapur catalog)
+        List<String> searchInputs = new ArrayList<>();
+        for (String type : userTypes) {
+            searchInputs.add(type + ".locations");
+        }
+        graph.add(FlowStep.builder("search")
+                .requires(searchInputs.toArray(new String[0]))
+                .produces("tests", "selectedLocation")
+                .action(search::testGlobalSearchAndStore)
+                .build());
+
+        for (String type : userTypes) {
+            graph.addAll(pipeline(type));
+        }
+        return graph.build();
+    }
+
+    /**
+     * Steps of one user type; keys are prefixed with the type so pipelines stay independent
+     */
+    private List<FlowStep> pipeline(String type) {
+        List<FlowStep> steps = new ArrayList<>();
+
+        if (TokenManager.NEW_USER.equals(type)) {
+            steps.add(step("createUser", type).produces(key(type, "registered"))
+                    .action(userCreate::testUserRegistration_CreateNewUser).build());
+            steps.add(step("login", type).requires(key(type, "registered")).produces(key(type, "token"))
+                    .action(login::testLoginWithOTP_NewlyRegisteredUser).build());
+        } else {
+            steps.add(step("login", type).produces(key(type, "token"))
+                    .action(TokenManager.MEMBER.equals(type) ? login::testLoginWithOTP : login::testLoginWithOTP_NonMember)
+                    .build());
+        }
+
+        steps.add(step("locations", type).requires(key(type, "token")).produces(key(type, "locations"))
+                .action(forType(type, locations::testGetLocations_ForMember,
+                        locations::testGetLocations_ForNonMember, locations::testGetLocations_ForNewUser))
+                .build());
+        steps.add(step("brands", type).requires(key(type, "locations")).produces(key(type, "brands"))
+                .action(forType(type, brands::testGetAllBrands_ForMember,
+                        brands::testGetAllBrands_ForNonMember, brands::testGetAllBrands_ForNewUser))
+                .build());
+
+        // Cart branch
+        steps.add(step("addToCart", type).requires("tests", key(type, "brands")).produces(key(type, "cart"))
+                .action(forType(type, addToCart::testAddToCart_ForMember,
+                        addToCart::testAddToCart_ForNonMember, addToCart::testAddToCart_ForNewUser))
+                .build());
+        steps.add(step("getCart", type).requires(key(type, "cart")).produces(key(type, "cartDetails"))
+                .action(forType(type, getCart::testGetCartById_ForMember,
+                        getCart::testGetCartById_ForNonMember, getCart::testGetCartById_ForNewUser))
+                .build());
+
+        // Address branch - only needs the login and the location list, runs alongside the cart
+        steps.add(step("address", type).requires(key(type, "locations")).produces(key(type, "address"))
+                .action(forType(type, address::testAddAddress_ForMember,
+                        address::testAddAddress_ForNonMember, address::testAddAddress_ForNewUser))
+                .build());
+        steps.add(step("getAddress", type).requires(key(type, "address")).produces(key(type, "addressId"))
+                .action(forType(type, getAddress::testGetAddressByUserId_ForMember,
+                        getAddress::testGetAddressByUserId_ForNonMember, getAddress::testGetAddressByUserId_ForNewUser))
+                .build());
+        steps.add(step("centers", type).requires(key(type, "addressId"), "selectedLocation")
+                .produces(key(type, "centers"))
+                .action(forType(type, centers::testGetCentersByAdd_ForMember,
+                        centers::testGetCentersByAdd_ForNonMember, centers::testGetCentersByAdd_ForNewUser))
+                .build());
+        steps.add(step("slot", type).requires(key(type, "addressId")).produces(key(type, "slot"))
+                .action(() -> selectSlot(type))
+                .build());
+
+        // Branches join at the cart slot update
+        steps.add(step("slotUpdate", type).requires(key(type, "slot"), key(type, "cartDetails"))
+                .produces(key(type, "cartSlot"))
+                .action(forType(type, slotUpdate::testCompleteSlotFlow_Member,
+                        slotUpdate::testCompleteSlotFlow_ExistingMember, slotUpdate::testCompleteSlotFlow_NewUser))
+                .build());
+        steps.add(step("order", type).requires(key(type, "cartSlot")).produces(key(type, "order"))
+                .action(forType(type, order::testCreateOrder_ForMember,
+                        order::testCreateOrder_ForNonMember, order::testCreateOrder_ForNewUser))
+                .build());
+        steps.add(step("payment", type).requires(key(type, "order")).produces(key(type, "payment"))
+                .action(forType(type, payment::testPaymentValidation_ForMember,
+                        payment::testPaymentValidation_ForNonMember, payment::testPaymentValidation_ForNewUser))
+                .build());
+        return steps;
+    }
+
+    /**
+     * Earliest available home slot for the user's own address
+     */
+    private void selectSlot(String type) {
+        SessionContext.UserState user = SessionContext.current().user(type);
+        SlotFinder.Result result = SlotFinder.findEarliest(user.getToken(), user.getAddressId());
+        System.out.println("\n[" + type + "] " + result);
+        AssertionUtil.verifyTrue(result.isFound(), "Should find at least one available slot for " + type);
+
+        user.setSlotGuid(result.getSlot().getGuid());
+        RequestContext.setSlotStartDate(result.getSlot().getDate().toString());
+    }
+
+    private static FlowStep.Builder step(String name, String type) {
+        return FlowStep.builder(name + "." + type).pipeline(type);
+    }
+
+    private static String key(String type, String name) {
+        return type + "." + name;
+    }
+
+    private static Runnable forType(String type, Runnable member, Runnable nonMember, Runnable newUser) {
+        switch (type) {
+            case TokenManager.MEMBER:
+                return member;
+            case TokenManager.NON_MEMBER:
+                return nonMember;
+            case TokenManager.NEW_USER:
+                return newUser;
+            default:
+                throw new IllegalArgumentException("❌ No booking flow for user type: " + type);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.mryoda.diagnostics.api.tests;
 
 import com.mryoda.diagnostics.api.base.BaseTest;
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.LoggerUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
-import io.restassured.RestAssured;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -46,15 +47,11 @@ public class CreateOrderAPITest extends BaseTest {
         System.out.println("   User ID: " + userId);
         
         // Send POST request
-        Response response = RestAssured.given()
-                .header("Authorization", "Bearer " + RequestContext.getNonMemberToken())
-                .header("Content-Type", "application/json")
-                .body(requestPayload)
-                .when()
-                .post(APIEndpoints.CREATE_ORDER)
-                .then()
-                .extract()
-                .response();
+        Response response = new RequestBuilder()
+                .setEndpoint(APIEndpoints.CREATE_ORDER)
+                .addHeader("Authorization", "Bearer " + RequestContext.getNonMemberToken())
+                .setRequestBody(requestPayload)
+                .postWithoutStatusCheck();
         
         // Log response
         System.out.println("\n📥 CREATE ORDER RESPONSE:");
@@ -93,15 +90,11 @@ public class CreateOrderAPITest extends BaseTest {
         System.out.println("   User ID: " + userId);
         
         // Send POST request
-        Response response = RestAssured.given()
-                .header("Authorization", "Bearer " + RequestContext.getMemberToken())
-                .header("Content-Type", "application/json")
-                .body(requestPayload)
-                .when()
-                .post(APIEndpoints.CREATE_ORDER)
-                .then()
-                .extract()
-                .response();
+        Response response = new RequestBuilder()
+                .setEndpoint(APIEndpoints.CREATE_ORDER)
+                .addHeader("Authorization", "Bearer " + RequestContext.getMemberToken())
+                .setRequestBody(requestPayload)
+                .postWithoutStatusCheck();
         
         // Log response
         System.out.println("\n📥 CREATE ORDER RESPONSE:");
@@ -140,15 +133,11 @@ public class CreateOrderAPITest extends BaseTest {
         System.out.println("   User ID: " + userId);
         
         // Send POST request
-        Response response = RestAssured.given()
-                .header("Authorization", "Bearer " + RequestContext.getNewUserToken())
-                .header("Content-Type", "application/json")
-                .body(requestPayload)
-                .when()
-                .post(APIEndpoints.CREATE_ORDER)
-                .then()
-                .extract()
-                .response();
+        Response response = new RequestBuilder()
+                .setEndpoint(APIEndpoints.CREATE_ORDER)
+                .addHeader("Authorization", "Bearer " + RequestContext.getNewUserToken())
+                .setRequestBody(requestPayload)
+                .postWithoutStatusCheck();
         
         // Log response
         System.out.println("\n📥 CREATE ORDER RESPONSE:");
@@ -177,18 +166,19 @@ public class CreateOrderAPITest extends BaseTest {
         System.out.println("   ✅ HTTP Status: " + statusCode);
         
         // Extract response data
-        Boolean success = response.jsonPath().getBoolean("success");
+        ParsedResponse body = ParsedResponse.of(response);
+        Boolean success = body.getBoolean("success");
         Assert.assertTrue(success, "❌ API success flag should be true");
         System.out.println("   ✅ Success flag: " + success);
         
-        String message = response.jsonPath().getString("msg");
+        String message = body.getString("msg");
         Assert.assertEquals(message, "Order Created Successfully", "❌ Message should be 'Order Created Successfully'");
         System.out.println("   ✅ Response message: " + message);
         
         // STEP 2: Validate ALL Order Fields
         System.out.println("\n🔹 STEP 2: Validating ALL Order Fields");
         
-        Map<String, Object> data = response.jsonPath().getMap("data");
+        Map<String, Object> data = body.getMap("data");
         Assert.assertNotNull(data, "❌ Response data should not be null");
         
         // ===== RAZORPAY ORDER ID VALIDATION =====
@@ -5,6 +5,7 @@ import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
@@ -21,10 +22,9 @@ public class GetAddressByUserIdAPITest extends BaseTest {
         System.out.println("\n📦 GET ADDRESS BY USER ID REQUEST:");
         System.out.println("   User ID: " + userId);
         
-        String endpoint = APIEndpoints.GET_ADDRESS_BY_USER_ID.replace("{user_id}", userId);
-        
         Response response = new RequestBuilder()
-                .setEndpoint(endpoint)
+                .setEndpoint(APIEndpoints.GET_ADDRESS_BY_USER_ID)
+                .addPathParam("user_id", userId)
                 .addHeader("Authorization", token)
                 .get();
         
@@ -45,15 +45,16 @@ public class GetAddressByUserIdAPITest extends BaseTest {
         
         // Step 1: Validate API Response
         System.out.println("✅ STEP 1: Validating API Response");
-        AssertionUtil.verifyTrue(response.jsonPath().getBoolean("success"), "API success flag should be true");
-        System.out.println("   ✔ Success flag: " + response.jsonPath().getBoolean("success"));
+        ParsedResponse body = ParsedResponse.of(response);
+        AssertionUtil.verifyTrue(body.getBoolean("success"), "API success flag should be true");
+        System.out.println("   ✔ Success flag: " + body.getBoolean("success"));
         
-        String message = response.jsonPath().getString("message");
+        String message = body.getString("message");
         System.out.println("   ✔ Response message: " + message);
         
         // Step 2: Extract Addresses List
         System.out.println("\n✅ STEP 2: Extracting Addresses");
-        List<Map<String, Object>> addresses = response.jsonPath().getList("data");
+        List<Map<String, Object>> addresses = body.getList("data");
         
         if (addresses == null || addresses.isEmpty()) {
             System.out.println("   ⚠️  No addresses found for this user");
@@ -3,6 +3,7 @@ package com.mryoda.diagnostics.api.tests;
 import com.mryoda.diagnostics.api.base.BaseTest;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import io.restassured.response.Response;
@@ -65,8 +66,6 @@ public class GetCartByIdAPITest extends BaseTest {
     }
 
     private Response callGetCartByIdAPI(String token, String userId, String locationName) {
-        String endpoint = APIEndpoints.GET_CART_BY_ID.replace("{user_id}", userId);
-        
         // Get location ID from RequestContext
         String locationId = RequestContext.getLocationId(locationName);
         
@@ -76,7 +75,8 @@ public class GetCartByIdAPITest extends BaseTest {
         System.out.println("   Location: " + locationName + " (" + locationId + ")");
         
         Response response = new RequestBuilder()
-                .setEndpoint(endpoint)
+                .setEndpoint(APIEndpoints.GET_CART_BY_ID)
+                .addPathParam("user_id", userId)
                 .addHeader("Authorization", token)
                 .addQueryParam("order_type", "home")
                 .addQueryParam("location", locationId)
@@ -97,54 +97,56 @@ public class GetCartByIdAPITest extends BaseTest {
         System.out.println(response.prettyPrint());
         System.out.println("=====================================================\n");
         
+        ParsedResponse body = ParsedResponse.of(response);
+        
         // ========== STEP 1: VALIDATE API RESPONSE ========== //
         System.out.println("\n🔍 STEP 1: Validating API Response");
         
         // Validate success flag
-        Boolean successFlag = response.jsonPath().getBoolean("success");
+        Boolean successFlag = body.getBoolean("success");
         AssertionUtil.verifyTrue(successFlag, "API success flag should be true");
         System.out.println("   ✅ Success flag: " + successFlag);
         
         // Validate message
-        String message = response.jsonPath().getString("msg");
+        String message = body.getString("msg");
         System.out.println("   ✅ Response message: " + message);
         
         // ========== STEP 2: VALIDATE CART BASIC FIELDS ========== //
         System.out.println("\n🔍 STEP 2: Validating Cart Basic Fields");
         
         // Detect response format: Simple GET returns data as ARRAY, v2 POST returns data as OBJECT
-        boolean isArrayFormat = response.jsonPath().get("data") instanceof List;
+        boolean isArrayFormat = body.get("data") instanceof List;
         String dataPath = isArrayFormat ? "data[0]" : "data";
         
-        String cartGuid = response.jsonPath().getString(dataPath + ".guid");
+        String cartGuid = body.getString(dataPath + ".guid");
         System.out.println("   ✅ Cart GUID: " + (isArrayFormat ? "[" + cartGuid + "]" : cartGuid));
         
-        Integer cartId = response.jsonPath().getInt(dataPath + ".id");
+        Integer cartId = body.getInt(dataPath + ".id");
         System.out.println("   ✅ Cart ID: " + cartId);
         
-        String cartUserId = response.jsonPath().getString(dataPath + ".user_id");
+        String cartUserId = body.getString(dataPath + ".user_id");
         AssertionUtil.verifyEquals(cartUserId, userId, "User ID should match requested user");
         System.out.println("   ✅ User ID: " + cartUserId);
         
-        String labLocationId = response.jsonPath().getString(dataPath + ".lab_location_id");
+        String labLocationId = body.getString(dataPath + ".lab_location_id");
         System.out.println("   ✅ Lab Location ID: " + labLocationId);
         
         // Validate total price - totalPrice is at data.totalPrice in the response
         Integer totalAmount = null;
         
         // Primary: data.totalPrice (this is where it actually is)
-        Object totalPriceObj = response.jsonPath().get(dataPath + ".totalPrice");
+        Object totalPriceObj = body.get(dataPath + ".totalPrice");
         if (totalPriceObj != null) {
             totalAmount = ((Number) totalPriceObj).intValue();
             System.out.println("   ✅ Total Price (from data.totalPrice): ₹" + totalAmount);
         } else {
             // Fallback attempts
-            totalPriceObj = response.jsonPath().get("totalPrice");
+            totalPriceObj = body.get("totalPrice");
             if (totalPriceObj != null) {
                 totalAmount = ((Number) totalPriceObj).intValue();
                 System.out.println("   ✅ Total Price (from root): ₹" + totalAmount);
             } else {
-                totalPriceObj = response.jsonPath().get("total_amount");
+                totalPriceObj = body.get("total_amount");
                 if (totalPriceObj != null) {
                     totalAmount = ((Number) totalPriceObj).intValue();
                     System.out.println("   ℹ️  Total Price (from total_amount): ₹" + totalAmount);
@@ -163,13 +165,13 @@ public class GetCartByIdAPITest extends BaseTest {
         }
         
         // Validate cart status
-        String cartStatus = response.jsonPath().getString(dataPath + ".final_cart_status");
+        String cartStatus = body.getString(dataPath + ".final_cart_status");
         if (cartStatus != null) {
             System.out.println("   ✅ Cart Status: " + cartStatus);
         }
         
         // Validate order type
-        String orderType = response.jsonPath().getString(dataPath + ".order_type");
+        String orderType = body.getString(dataPath + ".order_type");
         if (orderType != null) {
             System.out.println("   ✅ Order Type: " + orderType);
         }
@@ -285,9 +287,9 @@ public class GetCartByIdAPITest extends BaseTest {
         System.out.println("\n🔍 STEP 4: Validating Cart Items");
         
         // Try cart_items first, fallback to product_details
-        List<Map<String, Object>> cartItems = response.jsonPath().getList(dataPath + ".cart_items");
+        List<Map<String, Object>> cartItems = body.getList(dataPath + ".cart_items");
         if (cartItems == null) {
-            cartItems = response.jsonPath().getList(dataPath + ".product_details");
+            cartItems = body.getList(dataPath + ".product_details");
         }
         
         int actualCount = cartItems.size();
@@ -306,21 +308,22 @@ public class GetCartByIdAPITest extends BaseTest {
         Map<String, Map<String, Object>> storedTests = RequestContext.getAllTests();
         
         // Determine which field to use (cart_items or product_details)
-        String itemsPath = response.jsonPath().get(dataPath + ".cart_items") != null ? "cart_items" : "product_details";
+        String itemsPath = body.get(dataPath + ".cart_items") != null ? "cart_items" : "product_details";
+        List<ParsedResponse> itemViews = body.elements(dataPath + "." + itemsPath);
         System.out.println("   Using response field: " + dataPath + "." + itemsPath);
         
         for (int i = 0; i < cartItems.size(); i++) {
             System.out.println("\n   ━━━━━ Item " + (i+1) + " Validation ━━━━━");
             
             // Extract cart item fields
-            String itemName = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].test_name");
-            String itemProductId = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].product_id");
-            Object priceObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].price");
+            String itemName = itemViews.get(i).getString("test_name");
+            String itemProductId = itemViews.get(i).getString("product_id");
+            Object priceObj = itemViews.get(i).get("price");
             Integer itemPrice = (priceObj != null) ? ((Number) priceObj).intValue() : null;
-            Object quantityObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].quantity");
+            Object quantityObj = itemViews.get(i).get("quantity");
             Integer itemQuantity = (quantityObj != null) ? ((Number) quantityObj).intValue() : null;
-            String itemBrandId = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].brand_id");
-            String itemLocationId = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].location_id");
+            String itemBrandId = itemViews.get(i).getString("brand_id");
+            String itemLocationId = itemViews.get(i).getString("location_id");
             
             System.out.println("   🆔 Product ID: " + itemProductId);
             
@@ -439,7 +442,7 @@ public class GetCartByIdAPITest extends BaseTest {
                     System.out.println("   ℹ️  Checking cart response for home_collection field...");
                     
                     // Try to get home_collection from cart response itself
-                    Object cartHomeCollection = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].home_collection");
+                    Object cartHomeCollection = itemViews.get(i).get("home_collection");
                     if (cartHomeCollection != null) {
                         String homeCollectionStr = cartHomeCollection.toString().trim();
                         boolean isHomeCollection = false;
@@ -498,7 +501,7 @@ public class GetCartByIdAPITest extends BaseTest {
         System.out.println("   Applying business logic: Home Collection Charges, Membership Discount, Unavailable Tests");
         
         // Get unavailable tests list - these should NOT be included in total
-        List<Map<String, Object>> unavailableTests = response.jsonPath().getList(dataPath + ".unavailable_test");
+        List<Map<String, Object>> unavailableTests = body.getList(dataPath + ".unavailable_test");
         java.util.Set<String> unavailableProductIds = new java.util.HashSet<>();
         if (unavailableTests != null && !unavailableTests.isEmpty()) {
             System.out.println("\n   📋 UNAVAILABLE TESTS (excluded from calculation):");
@@ -513,11 +516,11 @@ public class GetCartByIdAPITest extends BaseTest {
         }
         
         // Get payment mode and membership info from response FIRST (needed for price calculation)
-        String paymentMode = response.jsonPath().getString(dataPath + ".payment_mode");
+        String paymentMode = body.getString(dataPath + ".payment_mode");
         if (paymentMode == null) paymentMode = "cash"; // Default to cash if not specified
         
         // Check membership status from API response AND user type
-        Object membershipIdObj = response.jsonPath().get(dataPath + ".membership_id");
+        Object membershipIdObj = body.get(dataPath + ".membership_id");
         boolean isMemberFromAPI = (membershipIdObj != null && !"null".equals(membershipIdObj.toString()));
         
         // Only MEMBER user type should be treated as a paid member
@@ -537,14 +540,14 @@ public class GetCartByIdAPITest extends BaseTest {
         System.out.println("      " + (isMember ? "Using membershipPrice (after 10% discount)" : "Using regular price"));
         
         for (int i = 0; i < cartItems.size(); i++) {
-            String productId = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].product_id");
-            String itemName = response.jsonPath().getString(dataPath + "." + itemsPath + "[" + i + "].test_name");
-            Object testNameObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].testName");
-            Object priceObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].price");
-            Object originalPriceObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].original_price");
-            Object membershipPriceObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].membershipPrice");
-            Object discountRateObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].discount_rate");
-            Integer itemQuantity = response.jsonPath().getInt(dataPath + "." + itemsPath + "[" + i + "].quantity");
+            String productId = itemViews.get(i).getString("product_id");
+            String itemName = itemViews.get(i).getString("test_name");
+            Object testNameObj = itemViews.get(i).get("testName");
+            Object priceObj = itemViews.get(i).get("price");
+            Object originalPriceObj = itemViews.get(i).get("original_price");
+            Object membershipPriceObj = itemViews.get(i).get("membershipPrice");
+            Object discountRateObj = itemViews.get(i).get("discount_rate");
+            Integer itemQuantity = itemViews.get(i).getInt("quantity");
             
             // 🔍 CONSOLE LOGGING: Show where membershipPrice is coming from
             System.out.println("\n🔍 ====== ITEM " + i + " - RAW API RESPONSE VALUES ======");
@@ -556,7 +559,7 @@ public class GetCartByIdAPITest extends BaseTest {
             System.out.println("   📦 testNameObj: " + testNameObj);
             System.out.println("   📦 itemName: " + itemName);
             System.out.println("======================================\n");
-            Object homeCollectionObj = response.jsonPath().get(dataPath + "." + itemsPath + "[" + i + "].home_collection");
+            Object homeCollectionObj = itemViews.get(i).get("home_collection");
             
             // Use testName if test_name is null
             if (itemName == null && testNameObj != null) {
@@ -958,7 +961,7 @@ public class GetCartByIdAPITest extends BaseTest {
         }
         
         // Get membership discount from response
-        Object membershipDiscountObj = response.jsonPath().get(dataPath + ".membershipDiscount");
+        Object membershipDiscountObj = body.get(dataPath + ".membershipDiscount");
         int membershipDiscount = 0;
         if (membershipDiscountObj != null) {
             membershipDiscount = ((Number) membershipDiscountObj).intValue();
@@ -985,9 +988,9 @@ public class GetCartByIdAPITest extends BaseTest {
         // If total < ₹999 AND payment mode is "online", NO charge
         // If total >= ₹999, NO charge regardless of payment mode
         int homeCollectionCharge = 0;
-        Object deliveryFeeObj = response.jsonPath().get("data.delivery_fee");
+        Object deliveryFeeObj = body.get("data.delivery_fee");
         if (deliveryFeeObj == null) {
-            deliveryFeeObj = response.jsonPath().get("data.actual_delivery_fee");
+            deliveryFeeObj = body.get("data.actual_delivery_fee");
         }
         
         if (deliveryFeeObj != null) {
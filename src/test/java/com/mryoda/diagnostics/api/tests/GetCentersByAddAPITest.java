@@ -5,6 +5,7 @@ import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
@@ -57,11 +58,12 @@ public class GetCentersByAddAPITest extends BaseTest {
         // Step 1: Validate API Response
         System.out.println("✅ STEP 1: Validating API Response");
         
-        Boolean success = response.jsonPath().getBoolean("success");
+        ParsedResponse body = ParsedResponse.of(response);
+        Boolean success = body.getBoolean("success");
         AssertionUtil.verifyTrue(success, "API success flag should be true");
         System.out.println("   ✔ Success flag: " + success);
         
-        String message = response.jsonPath().getString("msg");
+        String message = body.getString("msg");
         AssertionUtil.verifyEquals(message, "Valid Location", "Message should be 'Valid Location'");
         System.out.println("   ✔ Message: " + message);
         System.out.println("   ✅ Location validated successfully!");
@@ -69,11 +71,11 @@ public class GetCentersByAddAPITest extends BaseTest {
         // Step 2: Validate Center Details (if available)
         System.out.println("\n✅ STEP 2: Validating Center Details");
         
-        Object dataObject = response.jsonPath().get("data");
+        Object dataObject = body.get("data");
         
         if (dataObject != null) {
             if (dataObject instanceof List) {
-                List<Map<String, Object>> centers = response.jsonPath().getList("data");
+                List<Map<String, Object>> centers = body.getList("data");
                 System.out.println("   ✔ Total centers found: " + centers.size());
                 
                 if (centers != null && !centers.isEmpty()) {
@@ -115,7 +117,7 @@ public class GetCentersByAddAPITest extends BaseTest {
                     }
                 }
             } else if (dataObject instanceof Map) {
-                Map<String, Object> data = response.jsonPath().getMap("data");
+                Map<String, Object> data = body.getMap("data");
                 System.out.println("   ✔ Center data received as map");
                 
                 Object centerId = data.get("_id");
@@ -4,7 +4,8 @@ import com.mryoda.diagnostics.api.base.BaseTest;
 import com.mryoda.diagnostics.api.utils.GlobalSearchHelper;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
-import io.restassured.response.Response;
+import com.mryoda.diagnostics.api.utils.SearchResult;
+import com.mryoda.diagnostics.api.utils.TestNameNormalizer;
 import org.testng.annotations.Test;
 
 import java.util.List;
@@ -64,7 +65,7 @@ public class GlobalSearchAPITest extends BaseTest {
 	    System.out.println("📊 Total Tests: " + testsToSearch.length);
 	    
 	    // AUTO-SEARCH full test names → helper will handle keyword splitting internally
-	    Response res = GlobalSearchHelper.searchTestsByFullNames(testsToSearch, location);
+	    SearchResult res = GlobalSearchHelper.searchTestsByFullNames(testsToSearch, location);
 
 	    // Extract each test and store it with ALL fields from JSON response
 	    GlobalSearchHelper.extractAndStoreTests(res, testsToSearch);
@@ -73,26 +74,16 @@ public class GlobalSearchAPITest extends BaseTest {
 	    System.out.println("\n🔍 VALIDATING: Checking we only got the tests we searched for...");
 	    Map<String, Map<String, Object>> allStoredTests = RequestContext.getAllTests();
 	    
-	    // Create list of expected test names (including normalized versions)
+	    // Create set of expected test names (canonical keys: case, spaces and dashes ignored)
 	    java.util.Set<String> expectedNames = new java.util.HashSet<>();
 	    for (String testName : testsToSearch) {
-	        expectedNames.add(testName.toLowerCase().replaceAll("\\s+", " "));
-	        expectedNames.add(testName.toLowerCase().replaceAll("\\s*-\\s*", " ")); // Without dash
+	        expectedNames.add(TestNameNormalizer.canonicalKey(testName));
 	    }
 	    
 	    // Check each stored test
 	    boolean foundUnexpectedTest = false;
 	    for (String storedTestName : allStoredTests.keySet()) {
-	        String normalizedStored = storedTestName.toLowerCase().replaceAll("\\s+", " ");
-	        String normalizedStoredNoDash = storedTestName.toLowerCase().replaceAll("\\s*-\\s*", " ");
-	        
-	        boolean isExpected = false;
-	        for (String expected : expectedNames) {
-	            if (normalizedStored.equals(expected) || normalizedStoredNoDash.equals(expected)) {
-	                isExpected = true;
-	                break;
-	            }
-	        }
+	        boolean isExpected = expectedNames.contains(TestNameNormalizer.canonicalKey(storedTestName));
 	        
 	        if (!isExpected) {
 	            System.out.println("   ❌ UNEXPECTED TEST FOUND: " + storedTestName);
@@ -1,40 +1,38 @@
 package com.mryoda.diagnostics.api.tests;
 
 import com.mryoda.diagnostics.api.base.BaseTest;
-import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import com.mryoda.diagnostics.api.utils.ReferenceDataCache;
 import com.mryoda.diagnostics.api.utils.RequestContext;
-import com.mryoda.diagnostics.api.builders.RequestBuilder;
-import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
 import java.util.List;
-import java.util.Map;
 
 public class LocationAPITest extends BaseTest {
 
     // -------------------------------
     // COMMON REUSABLE VALIDATION LOGIC
     // -------------------------------
-    private void validateAndStoreLocations(Response response) {
+    private void validateAndStoreLocations(ParsedResponse body) {
 
-        AssertionUtil.verifyTrue(response.jsonPath().getBoolean("success"), "API success flag");
+        AssertionUtil.verifyTrue(body.getBoolean("success"), "API success flag");
 
-        List<Map<String, Object>> locations = response.jsonPath().getList("data");
+        List<ParsedResponse> locations = body.elements("data");
         AssertionUtil.verifyTrue(locations.size() > 0, "Location count > 0");
 
         System.out.println("\n📍 Total Locations Found: " + locations.size());
 
-        for (int i = 0; i < locations.size(); i++) {
-            String id = response.jsonPath().getString("data[" + i + "]._id");
-            String title = response.jsonPath().getString("data[" + i + "].title");
-            String status = response.jsonPath().getString("data[" + i + "].status");
-            String city = response.jsonPath().getString("data[" + i + "].city");
-            String state = response.jsonPath().getString("data[" + i + "].state");
+        for (ParsedResponse location : locations) {
+            String id = location.getString("_id");
+            String title = location.getString("title");
+            String status = location.getString("status");
+            String city = location.getString("city");
+            String state = location.getString("state");
             
             // Extract google map coordinates
-            String latitude = response.jsonPath().getString("data[" + i + "].google_map_latitude");
-            String longitude = response.jsonPath().getString("data[" + i + "].google_map_langitude");
+            String latitude = location.getString("google_map_latitude");
+            String longitude = location.getString("google_map_langitude");
 
             // Validate location is ACTIVE before storing
             if (status != null) {
@@ -44,23 +42,16 @@ public class LocationAPITest extends BaseTest {
                 }
             }
 
-            // Store location ID
-            RequestContext.storeLocation(title, id);
-            
-            // Store city and state
-            if (city != null && state != null) {
-                RequestContext.storeLocationCityState(title, city, state);
-            }
-            
-            // Store coordinates if available
             if (latitude != null && longitude != null) {
-                RequestContext.storeLocationCoordinates(title, latitude, longitude);
                 System.out.println("✔ Stored: " + title + " → ID: " + id + " | City: " + city + " | State: " + state + " | Coordinates: (" + latitude + ", " + longitude + ")");
             } else {
                 System.out.println("✔ Stored: " + title + " → ID: " + id + " | City: " + city + " | State: " + state + " | Coordinates: Not available");
             }
         }
 
+        // Store ID, city/state and coordinates of all locations in one go
+        RequestContext.storeLocations(body);
+
         // Verify critical location exists (Madhapur is used in tests)
         String madhapurLocationId = RequestContext.getLocationId("Madhapur");
         if (madhapurLocationId != null) {
@@ -80,13 +71,10 @@ public class LocationAPITest extends BaseTest {
         System.out.println("\n🟢 Locations stored for reuse in next APIs\n");
     }
 
-    private Response callLocationAPI(String token) {
+    private ParsedResponse callLocationAPI(String token) {
 
-        return new RequestBuilder()
-                .setEndpoint(APIEndpoints.GET_LOCATION)
-                .addHeader("Authorization",  token)
-                .expectStatus(200)
-                .post();   // yes, endpoint is POST
+        // Same list for every user - fetched once per run (POST GET_LOCATION)
+        return ReferenceDataCache.getInstance().locations(token);
     }
 
     // ---------------------------------------------------------
@@ -98,7 +86,7 @@ public class LocationAPITest extends BaseTest {
         System.out.println("\n===== LOCATION API — MEMBER =====");
 
         String token = RequestContext.getMemberToken();
-        Response response = callLocationAPI(token);
+        ParsedResponse response = callLocationAPI(token);
 
         validateAndStoreLocations(response);
     }
@@ -112,7 +100,7 @@ public class LocationAPITest extends BaseTest {
         System.out.println("\n===== LOCATION API — NON-MEMBER (8220220227 - NOT a paid member) =====");
 
         String token = RequestContext.getNonMemberToken();
-        Response response = callLocationAPI(token);
+        ParsedResponse response = callLocationAPI(token);
 
         validateAndStoreLocations(response);
     }
@@ -126,7 +114,7 @@ public class LocationAPITest extends BaseTest {
         System.out.println("\n===== LOCATION API — NEW USER =====");
 
         String token = RequestContext.getNewUserToken();
-        Response response = callLocationAPI(token);
+        ParsedResponse response = callLocationAPI(token);
 
         validateAndStoreLocations(response);
     }
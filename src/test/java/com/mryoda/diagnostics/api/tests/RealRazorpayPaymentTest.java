@@ -1,18 +1,18 @@
 package com.mryoda.diagnostics.api.tests;
 
 import com.mryoda.diagnostics.api.base.BaseTest;
+import com.mryoda.diagnostics.api.builders.RequestBuilder;
 import com.mryoda.diagnostics.api.config.ConfigLoader;
 import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.payloads.VerifyPaymentPayload;
 import com.mryoda.diagnostics.api.utils.LoggerUtil;
 import com.mryoda.diagnostics.api.utils.RazorpayPaymentVerifier;
 import com.mryoda.diagnostics.api.utils.RequestContext;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import static io.restassured.RestAssured.given;
-
 /**
  * Real Razorpay Payment Verification Test
  * Tests with actual payment data from real Razorpay transactions
@@ -179,18 +179,11 @@ public class RealRazorpayPaymentTest extends BaseTest {
         System.out.println("   ⏳ Sending request to server...");
         System.out.println();
         
-        Response response = given()
-            .baseUri(ConfigLoader.getConfig().baseUrl())
-            .contentType("application/json")
-            .header("Authorization", token)
-            .body(payload)
-            .log().all()
-            .when()
-            .post(APIEndpoints.VERIFY_PAYMENT)
-            .then()
-            .log().all()
-            .extract()
-            .response();
+        Response response = new RequestBuilder()
+            .setEndpoint(APIEndpoints.VERIFY_PAYMENT)
+            .addHeader("Authorization", token)
+            .setRequestBody(payload)
+            .postWithoutStatusCheck();
         
         System.out.println("\n📥 API RESPONSE:");
         System.out.println("   Status Code: " + response.getStatusCode());
@@ -207,12 +200,13 @@ public class RealRazorpayPaymentTest extends BaseTest {
         int statusCode = response.getStatusCode();
         System.out.println("   📊 HTTP Status Code: " + statusCode);
         
+        ParsedResponse body = ParsedResponse.of(response);
         if (statusCode == 200) {
             System.out.println("   ✅ HTTP Status: 200 OK");
             System.out.println();
             
-            Boolean success = response.jsonPath().getBoolean("success");
-            String message = response.jsonPath().getString("msg");
+            Boolean success = body.getBoolean("success");
+            String message = body.getString("msg");
             
             System.out.println("   🎯 Success Flag: " + success);
             System.out.println("   📝 Message: " + message);
@@ -236,7 +230,7 @@ public class RealRazorpayPaymentTest extends BaseTest {
                 
                 // Try to extract order details
                 try {
-                    String orderId = response.jsonPath().getString("data[0].OrderItems[0].order_id");
+                    String orderId = body.getString("data[0].OrderItems[0].order_id");
                     if (orderId != null && !orderId.isEmpty()) {
                         System.out.println("   📦 Backend Order GUID: " + orderId);
                         System.out.println("   ✅ Order created successfully in backend!");
@@ -249,9 +243,9 @@ public class RealRazorpayPaymentTest extends BaseTest {
                 
                 // Check membership
                 try {
-                    Boolean isMembershipOrder = response.jsonPath().getBoolean("data[0].membershipDetails.isMembershipOrder");
+                    Boolean isMembershipOrder = body.getBoolean("data[0].membershipDetails.isMembershipOrder");
                     if (isMembershipOrder != null && isMembershipOrder) {
-                        Integer membershipPrice = response.jsonPath().getInt("data[0].membershipDetails.membershipPrice");
+                        Integer membershipPrice = body.getInt("data[0].membershipDetails.membershipPrice");
                         System.out.println("   🎖️  Membership Order: YES");
                         System.out.println("   💰 Membership Price: ₹" + membershipPrice);
                     } else {
@@ -282,7 +276,7 @@ public class RealRazorpayPaymentTest extends BaseTest {
                 Assert.assertTrue(true, "Payment verification successful with REAL order data!");
                 
             } else {
-                String errorMsg = response.jsonPath().getString("msg");
+                String errorMsg = body.getString("msg");
                 System.out.println("   ❌ Payment verification failed!");
                 System.out.println("   📝 Error Message: " + errorMsg);
                 Assert.fail("Payment verification returned success=false: " + errorMsg);
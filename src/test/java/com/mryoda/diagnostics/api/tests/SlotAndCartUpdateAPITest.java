@@ -5,6 +5,10 @@ import com.mryoda.diagnostics.api.endpoints.APIEndpoints;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
 import com.mryoda.diagnostics.api.builders.RequestBuilder;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
+import com.mryoda.diagnostics.api.utils.SlotCache;
+import com.mryoda.diagnostics.api.utils.SlotFinder;
+import com.mryoda.diagnostics.api.pojo.Slot;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
@@ -29,120 +33,30 @@ public class SlotAndCartUpdateAPITest extends BaseTest {
         System.out.println("   Address GUID: " + addressGuid);
         System.out.println("   Order Type: home");
         
-        // Get today's date in format: yyyy-MM-dd
-        java.time.LocalDate today = java.time.LocalDate.now();
-        
-        String selectedSlotGuid = null;
-        String selectedSlotDate = null;
-        int daysChecked = 0;
-        int maxDaysToCheck = 7; // Check up to 7 days ahead
-        
-        // Try to find an available slot starting from today
-        while (selectedSlotGuid == null && daysChecked < maxDaysToCheck) {
-            String checkDate = today.plusDays(daysChecked).toString();
-            System.out.println("\n🔍 Checking date: " + checkDate + " (Day " + (daysChecked + 1) + ")");
-            
-            // Build payload
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("slot_start_time", checkDate);
-            payload.put("page", 1);
-            payload.put("limit", 100);
-            payload.put("type", "home");
-            payload.put("addressguid", addressGuid);
-            
-            Response response = new RequestBuilder()
-                    .setEndpoint(APIEndpoints.GET_SLOT_COUNT_BY_TIME)
-                    .addHeader("Authorization", token)
-                    .setRequestBody(payload)
-                    .post();
+        // Probe the whole date window concurrently; earliest date with count > 0 wins
+        SlotFinder.Result result = SlotFinder.findEarliest(token, addressGuid);
+        System.out.println("\n" + result);
+        
+        Slot slot = result.getSlot();
+        String selectedSlotGuid = slot != null ? slot.getGuid() : null;
+        String selectedSlotDate = slot != null ? slot.getDate().toString() : null;
+        int daysChecked = result.getDaysChecked();
+        
+        if (slot != null) {
+            System.out.println("\n   ✅ FOUND AVAILABLE SLOT!");
+            System.out.println("   ━━━━━━━━━━━━━━━━━━━━━━");
+            System.out.println("   ✔ Date: " + selectedSlotDate);
+            System.out.println("   ✔ Slot GUID: " + selectedSlotGuid);
+            System.out.println("   ✔ Time: " + slot.getStartTime() + " - " + slot.getEndTime());
+            System.out.println("   ✔ Available Count: " + slot.getCount());
             
-            AssertionUtil.verifyEquals(response.getStatusCode(), 200, "HTTP status should be 200");
+            // Store slot GUID for all user types
+            RequestContext.setNonMemberSlotGuid(selectedSlotGuid);
+            RequestContext.setMemberSlotGuid(selectedSlotGuid);
+            RequestContext.setNewUserSlotGuid(selectedSlotGuid);
+            RequestContext.setSlotStartDate(selectedSlotDate);
             
-            // Validate response
-            Boolean success = response.jsonPath().getBoolean("success");
-            AssertionUtil.verifyTrue(success, "API success flag should be true");
-            
-            // Extract slots
-            List<Map<String, Object>> slots = response.jsonPath().getList("data");
-            
-            if (slots != null && !slots.isEmpty()) {
-                System.out.println("   ✔ Found " + slots.size() + " slots for " + checkDate);
-                
-                // Print first slot for debugging
-                if (slots.size() > 0) {
-                    Map<String, Object> firstSlot = slots.get(0);
-                    System.out.println("   🔍 DEBUG - First slot data: " + firstSlot);
-                }
-                
-                // Find first slot with available count
-                for (int i = 0; i < slots.size(); i++) {
-                    Map<String, Object> slot = slots.get(i);
-                    
-                    String slotGuid = (String) slot.get("guid");
-                    String slotStartTime = (String) slot.get("starttime");
-                    String slotEndTime = (String) slot.get("endtime");
-                    Object slotCountObj = slot.get("count");  // Fixed: field name is "count" not "slot_count"
-                    
-                    // Print debug info for first 3 slots
-                    if (i < 3) {
-                        System.out.println("   🔍 Slot " + (i+1) + " - GUID: " + slotGuid + 
-                                         ", count: " + slotCountObj + 
-                                         " (type: " + (slotCountObj != null ? slotCountObj.getClass().getSimpleName() : "null") + ")");
-                    }
-                    
-                    // Check if slot is available - handle all possible data types
-                    boolean isAvailable = false;
-                    Integer slotCount = null;
-                    
-                    if (slotCountObj != null) {
-                        try {
-                            if (slotCountObj instanceof Integer) {
-                                slotCount = (Integer) slotCountObj;
-                            } else if (slotCountObj instanceof String) {
-                                slotCount = Integer.parseInt((String) slotCountObj);
-                            } else if (slotCountObj instanceof Double) {
-                                slotCount = ((Double) slotCountObj).intValue();
-                            } else {
-                                slotCount = Integer.parseInt(slotCountObj.toString());
-                            }
-                            
-                            isAvailable = slotCount > 0;
-                        } catch (Exception e) {
-                            System.out.println("   ⚠️  Could not parse count: " + slotCountObj);
-                        }
-                    }
-                    
-                    // Select slot ONLY if it has available count > 0
-                    if (slotGuid != null && slotStartTime != null && isAvailable) {
-                        selectedSlotGuid = slotGuid;
-                        selectedSlotDate = checkDate;
-                        
-                        System.out.println("\n   ✅ FOUND AVAILABLE SLOT!");
-                        System.out.println("   ━━━━━━━━━━━━━━━━━━━━━━");
-                        System.out.println("   ✔ Date: " + checkDate);
-                        System.out.println("   ✔ Slot GUID: " + slotGuid);
-                        System.out.println("   ✔ Time: " + slotStartTime + " - " + slotEndTime);
-                        System.out.println("   ✔ Available Count: " + slotCount);
-                        
-                        // Store slot GUID for all user types
-                        RequestContext.setNonMemberSlotGuid(selectedSlotGuid);
-                        RequestContext.setMemberSlotGuid(selectedSlotGuid);
-                        RequestContext.setNewUserSlotGuid(selectedSlotGuid);
-                        RequestContext.setSlotStartDate(selectedSlotDate);
-                        
-                        System.out.println("   ✔ Stored in RequestContext for all user types");
-                        break;
-                    }
-                }
-                
-                if (selectedSlotGuid == null) {
-                    System.out.println("   ⚠️  All slots full for " + checkDate + ", checking next day...");
-                }
-            } else {
-                System.out.println("   ⚠️  No slots found for " + checkDate);
-            }
-            
-            daysChecked++;
+            System.out.println("   ✔ Stored in RequestContext for all user types");
         }
         
         AssertionUtil.verifyTrue(selectedSlotGuid != null, "Should find at least one available slot");
@@ -224,15 +138,16 @@ public class SlotAndCartUpdateAPITest extends BaseTest {
         // Validate response
         System.out.println("\n✅ STEP 1: Validating Cart Update Response");
         
-        Boolean success = response.jsonPath().getBoolean("success");
+        ParsedResponse body = ParsedResponse.of(response);
+        Boolean success = body.getBoolean("success");
         AssertionUtil.verifyTrue(success, "API success flag should be true");
         System.out.println("   ✔ Success flag: " + success);
         
-        String message = response.jsonPath().getString("msg");
+        String message = body.getString("msg");
         System.out.println("   ✔ Message: " + message);
         
         // Extract and validate cart data
-        Map<String, Object> data = response.jsonPath().getMap("data");
+        Map<String, Object> data = body.getMap("data");
         
         String cartGuid = (String) data.get("guid");
         System.out.println("   ✔ Cart GUID: " + cartGuid);
@@ -246,6 +161,9 @@ public class SlotAndCartUpdateAPITest extends BaseTest {
             System.out.println("   ℹ️  Slot GUID not in response (expected behavior)");
         }
         
+        // The slot was consumed - later lookups must see the new count
+        SlotCache.getInstance().invalidateSlot(slotGuid);
+        
         System.out.println("\n✅ STEP 2: Cart Update Summary");
         System.out.println("   ✔ Cart updated successfully");
         System.out.println("   ✔ Cart GUID: " + cartGuid);
@@ -7,6 +7,7 @@ import com.mryoda.diagnostics.api.payloads.UserPayloadBuilder;
 import com.mryoda.diagnostics.api.utils.AssertionUtil;
 import com.mryoda.diagnostics.api.utils.RandomDataUtil;
 import com.mryoda.diagnostics.api.utils.RequestContext;
+import com.mryoda.diagnostics.api.utils.ParsedResponse;
 import io.restassured.response.Response;
 import org.json.JSONObject;
 import org.testng.annotations.Test;
@@ -48,17 +49,18 @@ public class UserCreateAPITest extends BaseTest {
         // ---------------------------------------------------
         // EXTRACT ALL PARAMETERS from response
         // ---------------------------------------------------
-        String userId = response.jsonPath().getString("data.guid");
-        String firstName = response.jsonPath().getString("data.first_name");
-        String lastName = response.jsonPath().getString("data.last_name");
-        String email = response.jsonPath().getString("data.email");
-        String gender = response.jsonPath().getString("data.gender");
-        String dob = response.jsonPath().getString("data.dob");
-        String responseMobile = response.jsonPath().getString("data.mobile");
-        String countryCode = response.jsonPath().getString("data.country_code");
-        String status = response.jsonPath().getString("data.status");
-        String createdAt = response.jsonPath().getString("data.createdAt");
-        String updatedAt = response.jsonPath().getString("data.updatedAt");
+        ParsedResponse body = ParsedResponse.of(response);
+        String userId = body.getString("data.guid");
+        String firstName = body.getString("data.first_name");
+        String lastName = body.getString("data.last_name");
+        String email = body.getString("data.email");
+        String gender = body.getString("data.gender");
+        String dob = body.getString("data.dob");
+        String responseMobile = body.getString("data.mobile");
+        String countryCode = body.getString("data.country_code");
+        String status = body.getString("data.status");
+        String createdAt = body.getString("data.createdAt");
+        String updatedAt = body.getString("data.updatedAt");
 
         // Print all extracted parameters
         System.out.println("\n🔍 ===== EXTRACTED USER REGISTRATION DATA =====");
@@ -0,0 +1,75 @@
+package com.mryoda.diagnostics.api.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline checks of which names the catalog index resolves, and to which tests
+ */
+public class CatalogIndexTest {
+
+    private static Map<String, Object> test(String id, String name, String... keywords) {
+        Map<String, Object> test = new HashMap<>();
+        test.put("_id", id);
+        test.put("test_name", name);
+        test.put("slug", name.toLowerCase().replace(' ', '-'));
+        if (keywords.length > 0) {
+            test.put("search_keywords", Arrays.asList(keywords));
+        }
+        return test;
+    }
+
+    private static CatalogIndex index() {
+        List<Map<String, Object>> tests = new ArrayList<>();
+        tests.add(test("b1", "Bone Profile -1"));
+        tests.add(test("t4", "Thyroid Profile T4", "thyroxine"));
+        tests.add(test("k2", "Kidney Function Test 2"));
+        tests.add(test("lp", "Lipid Profile Extended"));
+        return CatalogIndex.of("test-location", tests);
+    }
+
+    private static List<Object> ids(List<Map<String, Object>> tests) {
+        List<Object> ids = new ArrayList<>();
+        for (Map<String, Object> test : tests) {
+            ids.add(test.get("_id"));
+        }
+        return ids;
+    }
+
+    @Test
+    public void testExactMatchIgnoresCaseSpacesAndDashes() {
+        Assert.assertEquals(ids(index().lookup("BONE  PROFILE 1")), Arrays.asList("b1"));
+        Assert.assertEquals(ids(index().lookup("bone-profile-1")), Arrays.asList("b1"));
+    }
+
+    @Test
+    public void testAliasMatch() {
+        Assert.assertEquals(ids(index().lookup("Thyroxine")), Arrays.asList("t4"));
+    }
+
+    @Test
+    public void testContainmentMatch() {
+        Assert.assertEquals(ids(index().lookup("Lipid Profile")), Arrays.asList("lp"));
+    }
+
+    @Test
+    public void testSiblingIsNotResolved() {
+        // Trigram Dice scores of 0.857-0.909 against the sibling - still a different test
+        Assert.assertTrue(index().lookup("Bone Profile 2").isEmpty());
+        Assert.assertTrue(index().lookup("Thyroid Profile T3").isEmpty());
+        Assert.assertTrue(index().lookup("Kidney Function Test 3").isEmpty());
+    }
+
+    @Test
+    public void testUnknownAndBlankNamesMiss() {
+        Assert.assertTrue(index().lookup("Vitamin D").isEmpty());
+        Assert.assertTrue(index().lookup("  ").isEmpty());
+        Assert.assertTrue(index().lookup(null).isEmpty());
+    }
+}